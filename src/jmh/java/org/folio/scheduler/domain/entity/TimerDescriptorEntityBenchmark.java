@@ -0,0 +1,50 @@
+package org.folio.scheduler.domain.entity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the natural key computation, done for every saved timer and every logged timer execution.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerDescriptorEntityBenchmark {
+
+  @Param({"1", "3"})
+  private int methods;
+
+  private TimerDescriptor timerDescriptor;
+
+  @Setup
+  public void setUp() {
+    timerDescriptor = new TimerDescriptor()
+      .type(TimerType.SYSTEM)
+      .moduleName("mod-foo")
+      .routingEntry(new RoutingEntry()
+        .methods(List.of("POST", "PUT", "DELETE").subList(0, methods))
+        .pathPattern("/foo/scheduled-timer"));
+  }
+
+  @Benchmark
+  public String toNaturalKey() {
+    return TimerDescriptorEntity.toNaturalKey(timerDescriptor);
+  }
+}
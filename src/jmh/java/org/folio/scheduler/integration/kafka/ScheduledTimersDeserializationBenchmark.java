@@ -0,0 +1,90 @@
+package org.folio.scheduler.integration.kafka;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares the typed deserialization of scheduled job events with the generic one followed by the conversion of the
+ * payload to {@link ScheduledTimers}, as it was done before.
+ *
+ * <p>The allocated bytes per operation are reported by the {@code gc} profiler as {@code gc.alloc.rate.norm}.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduledTimersDeserializationBenchmark {
+
+  private static final String TOPIC = "folio.test.mgr-tenant-entitlements.scheduled-job";
+
+  @Param({"1", "100"})
+  private int timers;
+
+  private ObjectMapper objectMapper;
+  @SuppressWarnings("rawtypes")
+  private JacksonJsonDeserializer<ResourceEvent> genericDeserializer;
+  private JacksonJsonDeserializer<ResourceEvent<ScheduledTimers>> typedDeserializer;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    objectMapper = JsonMapper.builder().build();
+    genericDeserializer = new JacksonJsonDeserializer<>(ResourceEvent.class);
+    typedDeserializer = new JacksonJsonDeserializer<>(new TypeReference<ResourceEvent<ScheduledTimers>>() {})
+      .ignoreTypeHeaders();
+    payload = objectMapper.writeValueAsBytes(resourceEvent(timers));
+  }
+
+  @Benchmark
+  public ScheduledTimers deserialize_genericAndConvert() {
+    var event = genericDeserializer.deserialize(TOPIC, payload);
+    return objectMapper.convertValue(event.getNewValue(), ScheduledTimers.class);
+  }
+
+  @Benchmark
+  public ScheduledTimers deserialize_typed() {
+    return typedDeserializer.deserialize(TOPIC, payload).getNewValue();
+  }
+
+  private static ResourceEvent<ScheduledTimers> resourceEvent(int timers) {
+    var routingEntries = IntStream.range(0, timers)
+      .mapToObj(i -> new RoutingEntry()
+        .methods(List.of("POST"))
+        .pathPattern("/test/timer/" + i)
+        .schedule(new RoutingEntrySchedule().cron("*/5 * * * *").zone("UTC")))
+      .toList();
+
+    return ResourceEvent.<ScheduledTimers>baseBuilder()
+      .type(ResourceEventType.UPDATE)
+      .resourceName("Scheduled Job")
+      .tenant("test")
+      .newValue(new ScheduledTimers()
+        .moduleId("mod-foo-1.0.0")
+        .applicationId("app-foo-1.0.0")
+        .timers(routingEntries))
+      .build();
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.scheduler.integration.keycloak;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.folio.scheduler.integration.keycloak.configuration.properties.TokenCacheCapacityProperties;
+import org.folio.scheduler.integration.keycloak.configuration.properties.TokenCacheProperties;
+import org.keycloak.representations.AccessTokenResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the impersonation token cache as used by concurrently firing timers: a lookup, and a lookup followed by a
+ * put of the exchanged token on a miss.
+ *
+ * <p>With {@code users} over the default maximum cache size of 50, most lookups miss and each put evicts an entry,
+ * as with many users per node. {@code expireAfterCreate} measures the TTL computation of a put alone.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenCacheBenchmark {
+
+  private static final int MAX_CAPACITY = 50;
+
+  @Param({"10", "1000"})
+  private int users;
+
+  private Cache<String, AccessTokenResponse> tokenCache;
+  private TokenCacheExpiry tokenCacheExpiry;
+  private String[] keys;
+  private AccessTokenResponse token;
+
+  @Setup
+  public void setUp() {
+    var capacity = new TokenCacheCapacityProperties();
+    capacity.setInitial(10);
+    capacity.setMax(MAX_CAPACITY);
+    var properties = new TokenCacheProperties();
+    properties.setCapacity(capacity);
+    properties.setRefreshBeforeExpirySec(25);
+
+    tokenCache = new TokenCacheFactory(properties).createCache();
+    tokenCacheExpiry = new TokenCacheExpiry(response -> TimeUnit.SECONDS.toNanos(response.getExpiresIn()));
+    token = new AccessTokenResponse();
+    token.setToken("eyJhbGciOiJSUzI1NiJ9.payload.signature");
+    token.setExpiresIn(300);
+
+    keys = new String[users];
+    for (int i = 0; i < users; i++) {
+      keys[i] = "test:" + i;
+      tokenCache.put(keys[i], token);
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public AccessTokenResponse getIfPresent_contended() {
+    return tokenCache.getIfPresent(randomKey());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public AccessTokenResponse getOrPut_contended() {
+    var key = randomKey();
+    var cachedToken = tokenCache.getIfPresent(key);
+    if (cachedToken == null) {
+      tokenCache.put(key, token);
+      return token;
+    }
+    return cachedToken;
+  }
+
+  @Benchmark
+  public long expireAfterCreate() {
+    return tokenCacheExpiry.expireAfterCreate(keys[0], token, 0L);
+  }
+
+  private String randomKey() {
+    return keys[ThreadLocalRandom.current().nextInt(users)];
+  }
+}
@@ -0,0 +1,78 @@
+package org.folio.scheduler.mapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
+import org.folio.scheduler.domain.model.TimerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the deep-copy and read-only conversions of timer entities for a single timer lookup and a list page.
+ *
+ * <p>The allocated bytes per operation are reported by the {@code gc} profiler as {@code gc.alloc.rate.norm}.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerDescriptorMapperBenchmark {
+
+  @Param({"1", "100"})
+  private int timers;
+
+  private TimerDescriptorMapper mapper;
+  private List<TimerDescriptorEntity> entities;
+
+  @Setup
+  public void setUp() {
+    mapper = new TimerDescriptorMapperImpl(new DateConvertHelper());
+    entities = IntStream.range(0, timers).mapToObj(i -> timerEntity("/test/timer/" + i)).toList();
+  }
+
+  @Benchmark
+  public List<TimerDescriptor> toDescriptor_deepCopy() {
+    return entities.stream().map(mapper::toDescriptor).toList();
+  }
+
+  @Benchmark
+  public List<TimerDescriptor> toDescriptor_readOnly() {
+    return entities.stream().map(mapper::toReadOnlyDescriptor).toList();
+  }
+
+  private static TimerDescriptorEntity timerEntity(String path) {
+    var entity = new TimerDescriptorEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setType(TimerType.USER);
+    entity.setUserId(UUID.randomUUID());
+    entity.setCreatedDate(OffsetDateTime.now(ZoneOffset.UTC));
+    entity.setCreatedByUserId(entity.getUserId());
+    entity.setTimerDescriptor(new TimerDescriptor()
+      .enabled(true)
+      .moduleName("mod-foo")
+      .moduleId("mod-foo-1.0.0")
+      .routingEntry(new RoutingEntry()
+        .methods(List.of("POST"))
+        .pathPattern(path)
+        .schedule(new RoutingEntrySchedule().cron("*/5 * * * *").zone("UTC"))));
+    return entity;
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.scheduler.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.folio.scheduler.domain.dto.TimerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.JobDetail;
+
+/**
+ * Measures the conversion of timers to Quartz job details when they are scheduled, and back on every timer fire.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduledJobDetailBenchmark {
+
+  @Param({"USER", "SYSTEM"})
+  private TimerType timerType;
+
+  private ScheduledJobDetail scheduledJobDetail;
+  private JobDetail quartzJobDetail;
+
+  @Setup
+  public void setUp() {
+    scheduledJobDetail = ScheduledJobDetail.builder()
+      .id(UUID.randomUUID())
+      .tenantId("test")
+      .moduleName("mod-foo")
+      .timerType(timerType)
+      .userId(timerType == TimerType.USER ? UUID.randomUUID() : null)
+      .build();
+    quartzJobDetail = scheduledJobDetail.toQuartzJobDetail();
+  }
+
+  @Benchmark
+  public JobDetail toQuartzJobDetail() {
+    return scheduledJobDetail.toQuartzJobDetail();
+  }
+
+  @Benchmark
+  public ScheduledJobDetail fromQuartzJobDetail() {
+    return ScheduledJobDetail.fromQuartzJobDetail(quartzJobDetail);
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.scheduler.service.jobs;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.folio.scheduler.configuration.properties.OkapiConfigurationProperties;
+import org.folio.scheduler.domain.dto.TimerType;
+import org.folio.scheduler.integration.OkapiClient;
+import org.folio.scheduler.service.ScheduledJobDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the folio headers preparation done on every timer fire, with a user impersonation service that returns a
+ * cached token, so only the local work is measured.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OkapiHttpRequestExecutorBenchmark {
+
+  private static final String TOKEN = "eyJhbGciOiJSUzI1NiJ9.payload.signature";
+
+  private OkapiHttpRequestExecutor executor;
+  private ScheduledJobDetail jobDetail;
+
+  @Setup
+  public void setUp() {
+    var okapiConfigurationProperties = new OkapiConfigurationProperties();
+    okapiConfigurationProperties.setUrl("http://okapi:9130");
+    executor = new OkapiHttpRequestExecutor(mock(OkapiClient.class), null, null, okapiConfigurationProperties,
+      (tenant, userId) -> TOKEN, null, null, null, null, null);
+    jobDetail = ScheduledJobDetail.builder()
+      .id(UUID.randomUUID())
+      .tenantId("test")
+      .moduleName("mod-foo")
+      .timerType(TimerType.USER)
+      .userId(UUID.randomUUID())
+      .build();
+  }
+
+  @Benchmark
+  public Map<String, Collection<String>> prepareAllHeadersMap() {
+    return executor.prepareAllHeadersMap(jobDetail);
+  }
+}
@@ -0,0 +1,85 @@
+package org.folio.scheduler.service.jobs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.folio.scheduler.service.jobs.TimerExecutionRetryClassifier.RetryReason;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the classification of failed timer calls, which parses the JSON error body of every failed {@code 5xx}
+ * response.
+ *
+ * <p>The {@code errors} parameter is the number of error entries before the matching {@code authorization_error}
+ * one, and {@code connectionRefused} failures show the cost of the path that skips body parsing.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerExecutionRetryClassifierBenchmark {
+
+  @Param({"0", "10"})
+  private int errors;
+
+  private TimerExecutionRetryClassifier classifier;
+  private RestClientException authorizationError;
+  private RestClientException serverError;
+  private RestClientException connectionRefused;
+
+  @Setup
+  public void setUp() {
+    classifier = new TimerExecutionRetryClassifier(JsonMapper.builder().build());
+    var otherErrors = IntStream.range(0, errors)
+      .mapToObj(i -> "{\"type\":\"ServiceException\",\"code\":\"service_error\",\"message\":\"Error " + i + "\"},")
+      .collect(Collectors.joining());
+    authorizationError = serverError(HttpStatus.SERVICE_UNAVAILABLE, "{\"errors\":[" + otherErrors
+      + "{\"type\":\"AuthorizationException\",\"code\":\"authorization_error\",\"message\":\"Unavailable\"}],"
+      + "\"total_records\":" + (errors + 1) + "}");
+    serverError = serverError(HttpStatus.INTERNAL_SERVER_ERROR, "{\"errors\":[" + otherErrors
+      + "{\"type\":\"ServiceException\",\"code\":\"service_error\",\"message\":\"Failed\"}],"
+      + "\"total_records\":" + (errors + 1) + "}");
+    connectionRefused = new ResourceAccessException("I/O error", new ConnectException("Connection refused"));
+  }
+
+  @Benchmark
+  public RetryReason classify_authorizationError() {
+    return classifier.classify(authorizationError);
+  }
+
+  @Benchmark
+  public RetryReason classify_serverError() {
+    return classifier.classify(serverError);
+  }
+
+  @Benchmark
+  public RetryReason classify_connectionRefused() {
+    return classifier.classify(connectionRefused);
+  }
+
+  private static RestClientException serverError(HttpStatus status, String responseBody) {
+    return HttpServerErrorException.create(
+      status, status.getReasonPhrase(), new HttpHeaders(), responseBody.getBytes(UTF_8), UTF_8);
+  }
+}
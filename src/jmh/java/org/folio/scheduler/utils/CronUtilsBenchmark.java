@@ -0,0 +1,61 @@
+package org.folio.scheduler.utils;
+
+import static java.util.TimeZone.getTimeZone;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.CronExpression;
+
+/**
+ * Compares cached cron conversion and next-fire-time computation with the uncached path used before.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CronUtilsBenchmark {
+
+  private static final Instant AFTER = Instant.parse("2025-01-01T10:02:00Z");
+
+  @Param({"*/5 * * * *", "30 15 * * MON-FRI", "0 0 12 * * ?"})
+  private String cron;
+
+  @Param({"UTC", "Europe/Berlin"})
+  private String zone;
+
+  @Benchmark
+  public String convertToQuartz_cached() {
+    return CronUtils.convertToQuartz(cron);
+  }
+
+  @Benchmark
+  public String convertToQuartz_uncached() {
+    return CronUtils.parseAndConvertToQuartz(cron);
+  }
+
+  @Benchmark
+  public Instant nextFireTime_cached() {
+    return CronUtils.getNextFireTime(cron, zone, AFTER).orElseThrow();
+  }
+
+  @Benchmark
+  public Date nextFireTime_uncached() throws ParseException {
+    var expression = new CronExpression(CronUtils.parseAndConvertToQuartz(cron));
+    expression.setTimeZone(getTimeZone(zone));
+    return expression.getNextValidTimeAfter(Date.from(AFTER));
+  }
+}
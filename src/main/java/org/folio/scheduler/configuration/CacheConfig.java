@@ -13,6 +13,8 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class CacheConfig {
 
+  public static final String TIMER_TABLE_EXISTS_CACHE = "timer-table-exists";
+
   @Value("${cache.keycloak-user-id.max-size:200}")
   private int keycloakUserIdMaxSize;
   @Value("${cache.keycloak-user-id.ttl:1800s}")
@@ -28,19 +30,25 @@ public class CacheConfig {
   @Value("${cache.client-secret-key.ttl:6000s}")
   private Duration clientSecretKeyTtl;
 
+  @Value("${cache.timer-table-exists.max-size:1000}")
+  private int timerTableExistsMaxSize;
+  @Value("${cache.timer-table-exists.ttl:600s}")
+  private Duration timerTableExistsTtl;
+
   @Bean
   public CacheManager cacheManager() {
     var cacheManager = new SimpleCacheManager();
     cacheManager.setCaches(List.of(
       buildCache("keycloak-user-id", keycloakUserIdMaxSize, keycloakUserIdTtl),
       buildCache("system-user-id", systemUserIdMaxSize, systemUserIdTtl),
-      buildCache("client-secret-key", clientSecretKeyMaxSize, clientSecretKeyTtl)
+      buildCache("client-secret-key", clientSecretKeyMaxSize, clientSecretKeyTtl),
+      buildCache(TIMER_TABLE_EXISTS_CACHE, timerTableExistsMaxSize, timerTableExistsTtl)
     ));
     return cacheManager;
   }
 
   private CaffeineCache buildCache(String name, int maxSize, Duration ttl) {
     return new CaffeineCache(name,
-      Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build());
+      Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build());
   }
 }
@@ -0,0 +1,15 @@
+package org.folio.scheduler.configuration;
+
+import org.folio.scheduler.service.jobs.SchedulingLagListener;
+import org.springframework.boot.quartz.autoconfigure.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QuartzListenerConfiguration {
+
+  @Bean
+  public SchedulerFactoryBeanCustomizer schedulingLagListenerCustomizer(SchedulingLagListener schedulingLagListener) {
+    return schedulerFactoryBean -> schedulerFactoryBean.setGlobalTriggerListeners(schedulingLagListener);
+  }
+}
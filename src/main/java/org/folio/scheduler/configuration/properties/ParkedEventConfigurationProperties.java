@@ -0,0 +1,32 @@
+package org.folio.scheduler.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("application.kafka.parking")
+public class ParkedEventConfigurationProperties {
+
+  /**
+   * Defines if Kafka events waiting for their tenant are parked instead of blocking the partition with retries.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Delay before the first replay attempt of a parked event, doubled after each failed attempt.
+   */
+  private Duration retryDelay = Duration.ofSeconds(10);
+
+  /**
+   * Maximum delay between replay attempts of a parked event.
+   */
+  private Duration maxDelay = Duration.ofMinutes(5);
+
+  /**
+   * Interval between the checks for parked events that are due to be replayed.
+   */
+  private Duration replayInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,17 @@
+package org.folio.scheduler.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("application.kafka.scheduled-jobs")
+public class ScheduledJobEventConfigurationProperties {
+
+  /**
+   * Defines if scheduled job events are consumed in batches and only the net effect of events per tenant and module
+   * is applied.
+   */
+  private boolean batchEnabled = false;
+}
@@ -0,0 +1,17 @@
+package org.folio.scheduler.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("application.kafka.static-membership")
+public class StaticMembershipConfigurationProperties {
+
+  /**
+   * Stable identifier of the module instance used as {@code group.instance.id} of Kafka consumers, so a restarted
+   * instance rejoins its consumer groups without a rebalance. Static membership is disabled if the value is blank.
+   */
+  private String instanceId;
+}
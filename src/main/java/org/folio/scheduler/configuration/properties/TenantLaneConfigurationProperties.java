@@ -0,0 +1,21 @@
+package org.folio.scheduler.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("application.kafka.tenant-lanes")
+public class TenantLaneConfigurationProperties {
+
+  /**
+   * Defines if Kafka events are consumed in batches and handled in per-tenant lanes running in parallel.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of tenant lanes handled in parallel.
+   */
+  private int poolSize = 4;
+}
@@ -0,0 +1,37 @@
+package org.folio.scheduler.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("application.timer.history")
+public class TimerHistoryConfigurationProperties {
+
+  /**
+   * Defines if executions of timers are saved to the timer execution history.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Maximum number of the latest executions kept per timer.
+   */
+  private int size = 10;
+
+  /**
+   * Maximum number of executions waiting in memory to be saved, executions above it are dropped.
+   */
+  private int queueCapacity = 10_000;
+
+  /**
+   * Maximum number of executions saved in a single JDBC batch.
+   */
+  private int batchSize = 500;
+
+  /**
+   * Interval between the flushes of waiting executions to the database.
+   */
+  private Duration flushInterval = Duration.ofSeconds(1);
+}
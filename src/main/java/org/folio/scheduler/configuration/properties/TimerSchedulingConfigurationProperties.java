@@ -0,0 +1,23 @@
+package org.folio.scheduler.configuration.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("application.timer.scheduling")
+public class TimerSchedulingConfigurationProperties {
+
+  /**
+   * Maximum number of Quartz jobs stored or deleted by a single bulk scheduler call, and of timers inserted or updated
+   * by a single statement of the batch timer operation.
+   */
+  private int batchSize = 100;
+
+  /**
+   * P99 timer fire lag, above which the scheduling lag health indicator reports the {@code DEGRADED} status.
+   */
+  private Duration lagThreshold = Duration.ofSeconds(5);
+}
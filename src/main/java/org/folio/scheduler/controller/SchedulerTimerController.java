@@ -2,14 +2,20 @@ package org.folio.scheduler.controller;
 
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.domain.dto.TimerBatchResult;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerDescriptorList;
+import org.folio.scheduler.domain.model.TotalRecordsMode;
 import org.folio.scheduler.rest.resource.SchedulerApi;
 import org.folio.scheduler.service.RequestOrigin;
 import org.folio.scheduler.service.SchedulerTimerService;
+import org.folio.scheduler.service.TimerExportService;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,29 +24,50 @@ import org.springframework.web.bind.annotation.RestController;
 public class SchedulerTimerController implements SchedulerApi {
 
   private final SchedulerTimerService schedulerTimerService;
+  private final TimerExportService timerExportService;
 
   @Override
   public ResponseEntity<TimerDescriptor> createSchedulerTimers(TimerDescriptor timerDescriptor) {
     return ResponseEntity.status(CREATED).body(schedulerTimerService.create(timerDescriptor, RequestOrigin.API));
   }
 
+  @Override
+  public ResponseEntity<TimerBatchResult> createSchedulerTimersBatch(TimerDescriptorList timerDescriptorList) {
+    var timerDescriptors = timerDescriptorList.getTimerDescriptors();
+    var results = schedulerTimerService.createOrUpdateBatch(timerDescriptors, RequestOrigin.API);
+    return ResponseEntity.ok(new TimerBatchResult().items(results).totalRecords(results.size()));
+  }
+
   @Override
   public ResponseEntity<Void> deleteSchedulerTimerById(UUID id) {
     schedulerTimerService.delete(id, RequestOrigin.API);
     return ResponseEntity.status(NO_CONTENT).build();
   }
 
+  @Override
+  public ResponseEntity<Resource> exportSchedulerTimers(String moduleName, String type) {
+    var timers = timerExportService.exportTimers(moduleName, type);
+    return ResponseEntity.ok()
+      .contentType(APPLICATION_NDJSON)
+      .body(new InputStreamResource(timers));
+  }
+
   @Override
   public ResponseEntity<TimerDescriptor> getSchedulerTimerById(UUID id) {
-    return ResponseEntity.ok(schedulerTimerService.getById(id));
+    return ResponseEntity.ok(schedulerTimerService.getByIdWithLastExecution(id));
   }
 
   @Override
-  public ResponseEntity<TimerDescriptorList> getSchedulerTimers(String query, Integer offset, Integer limit) {
-    var result = schedulerTimerService.getAll(query, offset, limit);
+  public ResponseEntity<TimerDescriptorList> getSchedulerTimers(String query, Integer offset, Integer limit,
+    String cursor, String totalRecords) {
+    var totalRecordsMode = TotalRecordsMode.fromValue(totalRecords);
+    var result = cursor != null
+      ? schedulerTimerService.getAllByCursor(query, cursor, limit, totalRecordsMode)
+      : schedulerTimerService.getAll(query, offset, limit, totalRecordsMode);
     return ResponseEntity.ok(new TimerDescriptorList()
       .timerDescriptors(result.getRecords())
-      .totalRecords(result.getTotalRecords()));
+      .totalRecords(result.getTotalRecords())
+      .nextCursor(result.getNextCursor()));
   }
 
   @Override
@@ -0,0 +1,39 @@
+package org.folio.scheduler.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.folio.integration.kafka.model.ResourceEventType;
+
+/**
+ * The last scheduled job event applied to system timers of a module.
+ */
+@Getter
+@Setter
+@ToString
+@Entity
+@NoArgsConstructor
+@Table(name = "module_event_ledger")
+public class ModuleEventLedgerEntity {
+
+  @Id private String moduleName;
+
+  @Enumerated(EnumType.STRING)
+  private ResourceEventType eventType;
+
+  private String moduleId;
+
+  /**
+   * Checksum of the event type and the module timers the event carries.
+   */
+  private String checksum;
+
+  private OffsetDateTime appliedAt;
+}
@@ -50,6 +50,15 @@ public class TimerDescriptorEntity extends Auditable {
 
   private UUID userId; // user id for timers of USER type, will be empty fo SYSTEM timers
 
+  /**
+   * Columns generated by the database from the timer descriptor, read-only and used only in CQL queries.
+   */
+  @Column(insertable = false, updatable = false)
+  private Boolean enabled;
+
+  @Column(insertable = false, updatable = false)
+  private String path;
+
   public void setTimerDescriptor(TimerDescriptor timerDescriptor) {
     this.timerDescriptor = timerDescriptor;
     this.naturalKey = toNaturalKey(timerDescriptor);
@@ -0,0 +1,31 @@
+package org.folio.scheduler.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Kafka event parked until its tenant is ready to process it.
+ *
+ * @param id - parked event id, defines the replay order, ignored on insert
+ * @param type - event type, defines the handler the event is replayed with
+ * @param tenant - tenant of the event
+ * @param topic - topic the event was consumed from
+ * @param partition - partition the event was consumed from
+ * @param offset - offset of the consumed record
+ * @param payload - event serialized as JSON
+ * @param reason - reason the event is parked or its last replay attempt failed
+ * @param attempts - number of failed replay attempts
+ * @param parkedAt - date the event was parked
+ * @param dueAt - date the event is replayed after
+ */
+public record ParkedEvent(
+  long id,
+  ParkedEventType type,
+  String tenant,
+  String topic,
+  int partition,
+  long offset,
+  String payload,
+  String reason,
+  int attempts,
+  OffsetDateTime parkedAt,
+  OffsetDateTime dueAt) {}
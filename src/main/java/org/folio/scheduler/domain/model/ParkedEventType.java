@@ -0,0 +1,6 @@
+package org.folio.scheduler.domain.model;
+
+public enum ParkedEventType {
+  SCHEDULED_JOB,
+  ENTITLEMENT
+}
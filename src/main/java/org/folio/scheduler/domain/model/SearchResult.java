@@ -4,26 +4,44 @@ import static java.util.Collections.emptyList;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.List;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor(staticName = "of")
 public class SearchResult<T> {
 
   /**
-   * Amount of records found.
+   * Amount of records found, {@code null} if records were not counted.
    */
-  protected int totalRecords;
+  protected Integer totalRecords;
 
   /**
    * List with found records.
    */
   protected List<T> records;
 
+  /**
+   * Cursor to retrieve the next page of records, {@code null} if there are no more records or cursor is not used.
+   */
+  protected String nextCursor;
+
+  /**
+   * Creates {@link SearchResult} object for given total records and records.
+   *
+   * @param totalRecords - amount of records found, {@code null} if records were not counted
+   * @param records - list with found records
+   * @param <R> - generic type for result elements
+   * @return created {@link SearchResult} object
+   */
+  public static <R> SearchResult<R> of(Integer totalRecords, List<R> records) {
+    var result = new SearchResult<R>();
+    result.setTotalRecords(totalRecords);
+    result.setRecords(records);
+    return result;
+  }
+
   /**
    * Creates empty {@link SearchResult} object.
    *
@@ -31,7 +49,7 @@ public class SearchResult<T> {
    * @return empty {@link SearchResult} object
    */
   public static <R> SearchResult<R> of(List<R> records) {
-    return new SearchResult<>(records.size(), records);
+    return of(records.size(), records);
   }
 
   /**
@@ -41,7 +59,7 @@ public class SearchResult<T> {
    * @return empty {@link SearchResult} object
    */
   public static <R> SearchResult<R> empty() {
-    return new SearchResult<>(0, emptyList());
+    return of(0, emptyList());
   }
 
   /**
@@ -50,7 +68,7 @@ public class SearchResult<T> {
    * @param totalRecords - amount of records in search response
    * @return {@link SearchResult} with new total records value
    */
-  public SearchResult<T> totalRecords(int totalRecords) {
+  public SearchResult<T> totalRecords(Integer totalRecords) {
     this.totalRecords = totalRecords;
     return this;
   }
@@ -66,6 +84,17 @@ public class SearchResult<T> {
     return this;
   }
 
+  /**
+   * Sets cursor of the next page and returns {@link SearchResult} object.
+   *
+   * @param nextCursor - cursor to retrieve the next page of records
+   * @return {@link SearchResult} with new next cursor value
+   */
+  public SearchResult<T> nextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+    return this;
+  }
+
   /**
    * Checks if search result is empty or not.
    *
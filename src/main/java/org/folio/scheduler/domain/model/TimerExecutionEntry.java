@@ -0,0 +1,24 @@
+package org.folio.scheduler.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Finished timer execution waiting to be saved to the execution history of its timer.
+ *
+ * @param tenant - tenant of the timer
+ * @param timerId - timer id
+ * @param startedAt - date the execution started
+ * @param durationMs - execution duration in milliseconds, including retries
+ * @param outcome - execution outcome, as logged in the {@code outcome} field
+ * @param retries - number of retries made
+ * @param httpStatus - HTTP status code of the last failed module call, {@code null} if there is none
+ */
+public record TimerExecutionEntry(
+  String tenant,
+  UUID timerId,
+  OffsetDateTime startedAt,
+  long durationMs,
+  String outcome,
+  int retries,
+  Integer httpStatus) {}
@@ -0,0 +1,27 @@
+package org.folio.scheduler.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+
+/**
+ * Read-only projection of a timer table row, loaded with plain JDBC outside of the persistence context.
+ *
+ * @param id - timer id
+ * @param type - timer type
+ * @param userId - user id for timers of USER type, empty for SYSTEM timers
+ * @param timerDescriptor - timer descriptor, deserialized from the jsonb column
+ * @param createdDate - date the timer was created
+ * @param createdByUserId - user who created the timer
+ * @param updatedDate - date the timer was last modified
+ * @param updatedByUserId - user who last modified the timer
+ */
+public record TimerRow(
+  UUID id,
+  TimerType type,
+  UUID userId,
+  TimerDescriptor timerDescriptor,
+  OffsetDateTime createdDate,
+  UUID createdByUserId,
+  OffsetDateTime updatedDate,
+  UUID updatedByUserId) {}
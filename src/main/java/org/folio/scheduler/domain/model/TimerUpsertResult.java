@@ -0,0 +1,16 @@
+package org.folio.scheduler.domain.model;
+
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+
+/**
+ * Result of the timer upsert by natural key.
+ *
+ * @param row - saved timer row, including audit fields
+ * @param inserted - {@code true} if a new timer has been inserted, {@code false} if the existing one has been updated
+ * @param previousDescriptor - descriptor of the updated timer before the update, {@code null} if the timer has been
+ *   inserted or the existing timer has been inserted concurrently
+ */
+public record TimerUpsertResult(
+  TimerRow row,
+  boolean inserted,
+  TimerDescriptor previousDescriptor) {}
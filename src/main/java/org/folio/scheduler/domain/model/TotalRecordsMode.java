@@ -0,0 +1,53 @@
+package org.folio.scheduler.domain.model;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.exception.RequestValidationException;
+
+/**
+ * Defines how the total amount of records is calculated for a search request.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TotalRecordsMode {
+
+  /**
+   * Matching records are counted.
+   */
+  EXACT("exact"),
+
+  /**
+   * Amount of records is taken from the table statistics of the database.
+   */
+  ESTIMATED("estimated"),
+
+  /**
+   * Records are not counted.
+   */
+  NONE("none");
+
+  private final String value;
+
+  /**
+   * Resolves {@link TotalRecordsMode} by its value, {@link #EXACT} is returned for blank value.
+   *
+   * @param value - total records mode value
+   * @return resolved {@link TotalRecordsMode}
+   * @throws RequestValidationException if value is unknown
+   */
+  public static TotalRecordsMode fromValue(String value) {
+    if (isBlank(value)) {
+      return EXACT;
+    }
+
+    for (var mode : values()) {
+      if (mode.value.equalsIgnoreCase(value)) {
+        return mode;
+      }
+    }
+
+    throw new RequestValidationException("Unknown total records mode", "totalRecords", value);
+  }
+}
@@ -13,13 +13,21 @@ public class KafkaAdminService {
   private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
 
   /**
-   * Restarts kafka event listeners in module.
+   * Makes running kafka event listeners subscribe to topics created for a new tenant.
+   *
+   * <p>An enforced rebalance refreshes the metadata of the pattern subscriptions before the consumers rejoin their
+   * group. With cooperative-sticky assignment, the consumers keep processing the partitions they own during the
+   * rebalance, while a restart of listener containers revokes all partitions and recreates the consumers. Listeners
+   * that are not running, such as the record listener of scheduled jobs when batch mode is enabled, are skipped.</p>
    */
-  public void restartEventListeners() {
+  public void refreshSubscriptions() {
     for (var container : kafkaListenerEndpointRegistry.getAllListenerContainers()) {
-      log.info("Restarting kafka consumer to start listening created topics [ids: {}]", container.getListenerId());
-      container.stop();
-      container.start();
+      if (!container.isRunning()) {
+        continue;
+      }
+      log.info("Enforcing rebalance of kafka consumer to subscribe to created topics [id: {}]",
+        container.getListenerId());
+      container.enforceRebalance();
     }
   }
 }
@@ -7,5 +7,7 @@ import lombok.NoArgsConstructor;
 public final class KafkaConstants {
 
   public static final String SCHEDULED_JOB_LISTENER_ID = "mod-scheduler-job-listener";
+  public static final String SCHEDULED_JOB_BATCH_LISTENER_ID = "mod-scheduler-job-batch-listener";
   public static final String ENTITLEMENT_EVENTS_LISTENER_ID = "mod-scheduler-entitlement-events-listener";
+  public static final String ENTITLEMENT_EVENTS_BATCH_LISTENER_ID = "mod-scheduler-entitlement-events-batch-listener";
 }
@@ -1,12 +1,16 @@
 package org.folio.scheduler.integration.kafka;
 
 import static java.lang.Boolean.TRUE;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.scheduler.domain.model.TimerType.SYSTEM;
 import static org.folio.scheduler.utils.OkapiRequestUtils.getStaticPath;
 
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.utils.SemverUtils;
@@ -14,13 +18,13 @@ import org.folio.integration.kafka.model.ResourceEvent;
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerType;
+import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
 import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
 import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
 import org.folio.scheduler.service.RequestOrigin;
 import org.folio.scheduler.service.SchedulerTimerService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tools.jackson.databind.ObjectMapper;
 
 @Log4j2
 @Service
@@ -30,40 +34,67 @@ public class KafkaEventService {
 
   private final SchedulerTimerService schedulerTimerService;
   private final TimerTableCheckService timerTableCheckService;
-  private final ObjectMapper objectMapper;
+  private final ModuleEventLedgerService moduleEventLedgerService;
 
-  public void createTimers(ResourceEvent<?> event) {
-    var newTimers = objectMapper.convertValue(event.getNewValue(), ScheduledTimers.class);
+  public void createTimers(ResourceEvent<ScheduledTimers> event) {
+    var newTimers = event.getNewValue();
 
     var moduleId = newTimers.getModuleId();
     var moduleName = SemverUtils.getName(moduleId);
+    if (moduleEventLedgerService.isApplied(moduleName, event)) {
+      return;
+    }
 
     createModuleSystemTimers(newTimers.getTimers(), moduleName, moduleId);
+    moduleEventLedgerService.markApplied(moduleName, event);
   }
 
-  public void updateTimers(ResourceEvent<?> event) {
-    var newTimers = objectMapper.convertValue(event.getNewValue(), ScheduledTimers.class);
+  public void updateTimers(ResourceEvent<ScheduledTimers> event) {
+    var newTimers = event.getNewValue();
 
     var moduleId = newTimers.getModuleId();
     var moduleName = SemverUtils.getName(moduleId);
+    if (moduleEventLedgerService.isApplied(moduleName, event)) {
+      return;
+    }
 
-    deleteModuleSystemTimers(moduleName);
-
-    createModuleSystemTimers(newTimers.getTimers(), moduleName, moduleId);
+    updateModuleSystemTimers(newTimers.getTimers(), moduleName, moduleId);
+    moduleEventLedgerService.markApplied(moduleName, event);
   }
 
-  public void deleteTimers(ResourceEvent<?> event) {
+  public void deleteTimers(ResourceEvent<ScheduledTimers> event) {
     var tenant = event.getTenant();
-    var moduleName = SemverUtils.getName(
-      objectMapper.convertValue(event.getOldValue(), ScheduledTimers.class).getModuleId());
+    var moduleName = SemverUtils.getName(event.getOldValue().getModuleId());
 
+    // the ledger is created by the same tenant changelog after the timer table, so there is no applied event to clear
     if (!timerTableCheckService.tableExists()) {
       log.debug("Cannot delete system timers for given module and tenant because the timer table is missing: "
         + "module = {}, tenant = {}. Operation is ignored.", moduleName, tenant);
       return;
     }
 
+    if (moduleEventLedgerService.isApplied(moduleName, event)) {
+      return;
+    }
+
     deleteModuleSystemTimers(moduleName);
+    moduleEventLedgerService.markApplied(moduleName, event);
+  }
+
+  /**
+   * Applies scheduled job events of a single tenant and module in the given order within one transaction.
+   *
+   * @param events - scheduled job events to apply
+   */
+  public void applyTimerEvents(List<ResourceEvent<ScheduledTimers>> events) {
+    for (var event : events) {
+      switch (event.getType()) {
+        case CREATE -> createTimers(event);
+        case UPDATE -> updateTimers(event);
+        case DELETE -> deleteTimers(event);
+        default -> log.warn("Unsupported operation type: event = {}", event);
+      }
+    }
   }
 
   public void enableTimers(EntitlementEvent event) {
@@ -82,13 +113,57 @@ public class KafkaEventService {
     log.info("Creating system timers: moduleId = {}, timers = {}",
       () -> moduleId, () -> mapItems(routingEntries, KafkaEventService::getRoutingEntryKey));
 
-    for (var re : routingEntries) {
-      schedulerTimerService.create(createTimerDescriptor(re, moduleName, moduleId), RequestOrigin.KAFKA);
+    var descriptors = routingEntries.stream().map(re -> createTimerDescriptor(re, moduleName, moduleId)).toList();
+    if (descriptors.isEmpty()) {
+      return;
     }
+
+    schedulerTimerService.createAll(descriptors, RequestOrigin.KAFKA);
+  }
+
+  /**
+   * Updates system timers of a module by the natural key diff between existing and incoming timers: removed timers are
+   * deleted, new and changed ones are saved, and unchanged timers are left untouched, so their triggers keep the
+   * schedule.
+   */
+  private void updateModuleSystemTimers(List<RoutingEntry> routingEntries, String moduleName, String moduleId) {
+    var existingTimers = schedulerTimerService.findByModuleNameAndType(moduleName, SYSTEM);
+    var existingTimersByKey = existingTimers.stream()
+      .collect(toMap(TimerDescriptorEntity::toNaturalKey, identity(), (first, second) -> first));
+    var incomingTimers = mapItems(routingEntries, re -> createTimerDescriptor(re, moduleName, moduleId));
+    var incomingKeys = incomingTimers.stream().map(TimerDescriptorEntity::toNaturalKey).collect(toSet());
+
+    deleteSystemTimers(moduleName, existingTimers.stream()
+      .filter(timer -> !incomingKeys.contains(TimerDescriptorEntity.toNaturalKey(timer)))
+      .toList());
+
+    var changedTimers = incomingTimers.stream()
+      .filter(timer -> !isUnchanged(existingTimersByKey.get(TimerDescriptorEntity.toNaturalKey(timer)), timer))
+      .toList();
+    log.debug("Unchanged system timers are kept: moduleId = {}, count = {}",
+      () -> moduleId, () -> incomingTimers.size() - changedTimers.size());
+    saveSystemTimers(moduleId, changedTimers);
+  }
+
+  /**
+   * Saves new and changed system timers, existing timers are updated by natural key and rescheduled only if their
+   * trigger is changed.
+   */
+  private void saveSystemTimers(String moduleId, List<TimerDescriptor> descriptors) {
+    if (descriptors.isEmpty()) {
+      return;
+    }
+
+    log.info("Saving changed system timers: moduleId = {}, timers = {}",
+      () -> moduleId, () -> mapItems(descriptors, t -> getRoutingEntryKey(t.getRoutingEntry())));
+    schedulerTimerService.createAll(descriptors, RequestOrigin.KAFKA);
   }
 
   private void deleteModuleSystemTimers(String moduleName) {
-    var timers = schedulerTimerService.findByModuleNameAndType(moduleName, SYSTEM);
+    deleteSystemTimers(moduleName, schedulerTimerService.findByModuleNameAndType(moduleName, SYSTEM));
+  }
+
+  private void deleteSystemTimers(String moduleName, List<TimerDescriptor> timers) {
     if (isEmpty(timers)) {
       return;
     }
@@ -98,9 +173,7 @@ public class KafkaEventService {
       () -> mapItems(timers, t -> String.join("@", String.valueOf(t.getId()), getRoutingEntryKey(t.getRoutingEntry())))
     );
 
-    for (var timer : timers) {
-      schedulerTimerService.delete(timer.getId(), RequestOrigin.KAFKA);
-    }
+    schedulerTimerService.deleteByIds(mapItems(timers, TimerDescriptor::getId), RequestOrigin.KAFKA);
   }
 
   private void switchTimers(String moduleId, String tenantName, boolean enable) {
@@ -128,6 +201,16 @@ public class KafkaEventService {
       .routingEntry(routingEntry);
   }
 
+  /**
+   * Checks if the existing timer already matches the incoming one, so it can be left untouched to keep its schedule.
+   */
+  private static boolean isUnchanged(TimerDescriptor existing, TimerDescriptor incoming) {
+    return existing != null
+      && TRUE.equals(existing.getEnabled())
+      && Objects.equals(existing.getModuleId(), incoming.getModuleId())
+      && Objects.equals(existing.getRoutingEntry(), incoming.getRoutingEntry());
+  }
+
   private static String getRoutingEntryKey(RoutingEntry routingEntry) {
     var methods = String.join("|", routingEntry.getMethods());
     return methods + " " + getStaticPath(routingEntry);
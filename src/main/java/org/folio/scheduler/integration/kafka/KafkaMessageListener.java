@@ -1,23 +1,34 @@
 package org.folio.scheduler.integration.kafka;
 
 import static java.util.Collections.singletonList;
+import static org.folio.common.utils.CollectionUtils.mapItems;
+import static org.folio.scheduler.integration.kafka.configuration.KafkaConfiguration.isRelationNotFound;
+import static org.folio.scheduler.integration.kafka.configuration.KafkaConfiguration.isTenantNotReady;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.common.utils.SemverUtils;
 import org.folio.integration.kafka.model.ResourceEvent;
 import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.configuration.properties.ScheduledJobEventConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEventType;
 import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
 import org.folio.scheduler.integration.kafka.model.EntitlementEventType;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.exception.LiquibaseMigrationException;
 import org.folio.spring.liquibase.LiquibaseMigrationLockService;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -28,6 +39,10 @@ public class KafkaMessageListener {
   private final FolioModuleMetadata folioModuleMetadata;
   private final LiquibaseMigrationLockService liquibaseMigrationLockService;
   private final KafkaEventService eventService;
+  private final TenantLaneDispatcher tenantLaneDispatcher;
+  private final ParkedEventService parkedEventService;
+  private final ScheduledJobEventConfigurationProperties scheduledJobProperties;
+  private final TimerTableCheckService timerTableCheckService;
 
   /**
    * Handles scheduled job events.
@@ -40,8 +55,22 @@ public class KafkaMessageListener {
     topicPattern = "#{kafkaConsumerProperties.listener['scheduled-jobs'].topicPattern}",
     groupId = "#{kafkaConsumerProperties.listener['scheduled-jobs'].groupId}",
     concurrency = "#{kafkaConsumerProperties.listener['scheduled-jobs'].concurrency}",
+    autoStartup = "#{!(${application.kafka.scheduled-jobs.batch-enabled:false} or "
+      + "${application.kafka.tenant-lanes.enabled:false})}",
     filter = "tenantAwareMessageFilter")
-  public void handleScheduledJobEvent(ConsumerRecord<String, ResourceEvent<?>> consumerRecord) {
+  public void handleScheduledJobEvent(ConsumerRecord<String, ResourceEvent<ScheduledTimers>> consumerRecord) {
+    var tenant = consumerRecord.value().getTenant();
+    if (!parkedEventService.parkIfTenantParked(consumerRecord, ParkedEventType.SCHEDULED_JOB, tenant)) {
+      processScheduledJobEvent(consumerRecord);
+    }
+  }
+
+  /**
+   * Processes a scheduled job event without checking for parked events of its tenant, used for the replay.
+   *
+   * @param consumerRecord - a consumer record from Apache Kafka to process.
+   */
+  void processScheduledJobEvent(ConsumerRecord<String, ResourceEvent<ScheduledTimers>> consumerRecord) {
     var resourceEvent = consumerRecord.value();
     var tenant = resourceEvent.getTenant();
     var operationType = resourceEvent.getType();
@@ -55,13 +84,53 @@ public class KafkaMessageListener {
       log.info("Received job {} event for {} in {}. Thread: {}", operationType, resourceEvent.getResourceName(),
         tenant, Thread.currentThread().getName());
 
-      switch (operationType) {
-        case CREATE -> eventService.createTimers(resourceEvent);
-        case UPDATE -> eventService.updateTimers(resourceEvent);
-        case DELETE -> eventService.deleteTimers(resourceEvent);
-        default -> logUnsupportedOperationType(consumerRecord);
-      }
+      runWithTimerTableRecheck(tenant, () -> {
+        switch (operationType) {
+          case CREATE -> eventService.createTimers(resourceEvent);
+          case UPDATE -> eventService.updateTimers(resourceEvent);
+          case DELETE -> eventService.deleteTimers(resourceEvent);
+          default -> logUnsupportedOperationType(consumerRecord);
+        }
+      });
+    }
+  }
+
+  /**
+   * Handles scheduled job events in batches, used instead of {@link #handleScheduledJobEvent(ConsumerRecord)} if
+   * {@code application.kafka.scheduled-jobs.batch-enabled} or {@code application.kafka.tenant-lanes.enabled} is
+   * {@code true}.
+   *
+   * <p>
+   * If {@code application.kafka.scheduled-jobs.batch-enabled} is {@code true}, records are grouped by tenant and
+   * module, and only the net effect of each group is applied in one transaction: the last UPDATE or DELETE event
+   * followed by the CREATE events received after it. Otherwise, each record is processed as by the single record
+   * listener. If tenant lanes are enabled, records or groups of different tenants are processed in parallel by
+   * {@link TenantLaneDispatcher}. Failed records are handled per tenant, see
+   * {@link #processBatchItem(String, List, ParkedEventType, String, Runnable)}.
+   * </p>
+   *
+   * @param consumerRecords - consumer records from Apache Kafka to process.
+   */
+  @KafkaListener(
+    id = KafkaConstants.SCHEDULED_JOB_BATCH_LISTENER_ID,
+    containerFactory = "batchKafkaListenerContainerFactory",
+    topicPattern = "#{kafkaConsumerProperties.listener['scheduled-jobs'].topicPattern}",
+    groupId = "#{kafkaConsumerProperties.listener['scheduled-jobs'].groupId}",
+    concurrency = "#{kafkaConsumerProperties.listener['scheduled-jobs'].concurrency}",
+    autoStartup = "#{${application.kafka.scheduled-jobs.batch-enabled:false} or "
+      + "${application.kafka.tenant-lanes.enabled:false}}",
+    filter = "tenantAwareMessageFilter")
+  public void handleScheduledJobEvents(List<ConsumerRecord<String, ResourceEvent<ScheduledTimers>>> consumerRecords) {
+    if (!scheduledJobProperties.isBatchEnabled()) {
+      tenantLaneDispatcher.dispatch(consumerRecords, consumerRecord -> consumerRecord.value().getTenant(),
+        consumerRecord -> processBatchItem(consumerRecord.value().getTenant(), List.of(consumerRecord),
+          ParkedEventType.SCHEDULED_JOB, "job event", () -> processScheduledJobEvent(consumerRecord)));
+      return;
     }
+
+    tenantLaneDispatcher.dispatch(groupByTenantAndModule(consumerRecords), ScheduledJobEventGroup::tenant,
+      group -> processBatchItem(group.tenant(), group.records(), ParkedEventType.SCHEDULED_JOB,
+        "job events of module " + group.moduleName(), () -> applyNetEffect(group)));
   }
 
   /**
@@ -75,8 +144,21 @@ public class KafkaMessageListener {
     topicPattern = "#{kafkaConsumerProperties.listener['entitlement-events'].topicPattern}",
     groupId = "#{kafkaConsumerProperties.listener['entitlement-events'].groupId}",
     concurrency = "#{kafkaConsumerProperties.listener['entitlement-events'].concurrency}",
+    autoStartup = "#{!${application.kafka.tenant-lanes.enabled:false}}",
     filter = "tenantAwareMessageFilter")
   public void handleEntitlementEvent(ConsumerRecord<String, EntitlementEvent> consumerRecord) {
+    var tenant = consumerRecord.value().getTenantName();
+    if (!parkedEventService.parkIfTenantParked(consumerRecord, ParkedEventType.ENTITLEMENT, tenant)) {
+      processEntitlementEvent(consumerRecord);
+    }
+  }
+
+  /**
+   * Processes an entitlement event without checking for parked events of its tenant, used for the replay.
+   *
+   * @param consumerRecord - a consumer record from Apache Kafka to process.
+   */
+  void processEntitlementEvent(ConsumerRecord<String, EntitlementEvent> consumerRecord) {
     var event = consumerRecord.value();
     var tenant = event.getTenantName();
     var operationType = event.getType();
@@ -90,14 +172,171 @@ public class KafkaMessageListener {
       log.info("Received entitlement {} event for {} in {}. Thread: {}", operationType, event.getModuleId(),
         tenant, Thread.currentThread().getName());
 
-      switch (operationType) {
-        case ENTITLE, UPGRADE -> eventService.enableTimers(event);
-        case REVOKE -> eventService.disableTimers(event);
-        default -> logUnsupportedOperationType(consumerRecord);
+      runWithTimerTableRecheck(tenant, () -> {
+        switch (operationType) {
+          case ENTITLE, UPGRADE -> eventService.enableTimers(event);
+          case REVOKE -> eventService.disableTimers(event);
+          default -> logUnsupportedOperationType(consumerRecord);
+        }
+      });
+    }
+  }
+
+  /**
+   * Handles entitlement events in batches using per-tenant lanes of {@link TenantLaneDispatcher}, used instead of
+   * {@link #handleEntitlementEvent(ConsumerRecord)} if {@code application.kafka.tenant-lanes.enabled} is
+   * {@code true}.
+   *
+   * <p>
+   * Failed records are handled per tenant, see {@link #processBatchItem(String, List, ParkedEventType, String,
+   * Runnable)}.
+   * </p>
+   *
+   * @param consumerRecords - consumer records from Apache Kafka to process.
+   */
+  @KafkaListener(
+    id = KafkaConstants.ENTITLEMENT_EVENTS_BATCH_LISTENER_ID,
+    containerFactory = "batchListenerContainerFactoryEntitlementEvent",
+    topicPattern = "#{kafkaConsumerProperties.listener['entitlement-events'].topicPattern}",
+    groupId = "#{kafkaConsumerProperties.listener['entitlement-events'].groupId}",
+    concurrency = "#{kafkaConsumerProperties.listener['entitlement-events'].concurrency}",
+    autoStartup = "${application.kafka.tenant-lanes.enabled:false}",
+    filter = "tenantAwareMessageFilter")
+  public void handleEntitlementEvents(List<ConsumerRecord<String, EntitlementEvent>> consumerRecords) {
+    tenantLaneDispatcher.dispatch(consumerRecords, consumerRecord -> consumerRecord.value().getTenantName(),
+      consumerRecord -> processBatchItem(consumerRecord.value().getTenantName(), List.of(consumerRecord),
+        ParkedEventType.ENTITLEMENT, "entitlement event", () -> processEntitlementEvent(consumerRecord)));
+  }
+
+  /**
+   * Processes the records of a batch item, so that a tenant that is not ready does not fail the records of others.
+   *
+   * <p>
+   * Records of a tenant with parked events are parked. If the item fails because its tenant is not ready and parking
+   * is enabled, its records are parked too; without parking, the failure is reported to the error handler of the
+   * container, which commits the offsets before the first record of the item and retries the rest of the batch.
+   * Items failed for other reasons are logged and skipped, as the error handler does for them.
+   * </p>
+   *
+   * @param tenant - tenant of the records
+   * @param records - records of the item, in the order of the batch
+   * @param type - event type
+   * @param description - item description for logs and errors
+   * @param processor - item processor
+   */
+  private void processBatchItem(String tenant, List<? extends ConsumerRecord<?, ?>> records, ParkedEventType type,
+    String description, Runnable processor) {
+    if (parkedEventService.parkIfTenantParked(records.getFirst(), type, tenant)) {
+      records.stream().skip(1)
+        .forEach(consumerRecord -> parkedEventService.parkIfTenantParked(consumerRecord, type, tenant));
+      return;
+    }
+
+    try {
+      processor.run();
+    } catch (RuntimeException e) {
+      if (!isTenantNotReady(e)) {
+        log.error("Failed to process {} in {}, skipping it: firstRecord = {}", description, tenant,
+          records.getFirst(), e);
+        return;
+      }
+
+      if (parkedEventService.isEnabled() && parkedEventService.park(records.getFirst(), type, e)) {
+        records.stream().skip(1).forEach(consumerRecord -> parkedEventService.park(consumerRecord, type, e));
+        return;
       }
+
+      throw new BatchListenerFailedException("Failed to process " + description + " in " + tenant, e,
+        records.getFirst());
+    }
+  }
+
+  private List<ScheduledJobEventGroup> groupByTenantAndModule(
+    List<ConsumerRecord<String, ResourceEvent<ScheduledTimers>>> consumerRecords) {
+    var eventGroups = new LinkedHashMap<String, ScheduledJobEventGroup>();
+    for (var consumerRecord : consumerRecords) {
+      var event = consumerRecord.value();
+      var moduleName = getModuleName(event);
+      // an event without a readable module is kept in its own group to fail in order with the original error
+      var groupKey = moduleName != null ? event.getTenant() + "#" + moduleName : consumerRecord.toString();
+      eventGroups.computeIfAbsent(groupKey,
+          key -> new ScheduledJobEventGroup(event.getTenant(), moduleName, new ArrayList<>()))
+        .records().add(consumerRecord);
+    }
+    return List.copyOf(eventGroups.values());
+  }
+
+  private static String getModuleName(ResourceEvent<ScheduledTimers> event) {
+    var value = event.getType() == ResourceEventType.DELETE ? event.getOldValue() : event.getNewValue();
+    try {
+      return SemverUtils.getName(value.getModuleId());
+    } catch (RuntimeException e) {
+      return null;
     }
   }
 
+  private void applyNetEffect(ScheduledJobEventGroup eventGroup) {
+    var tenant = eventGroup.tenant();
+    var events = coalesce(mapItems(eventGroup.records(), ConsumerRecord::value));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, prepareContextHeaders(tenant))) {
+      var requiresLiquibaseReadyState = events.stream().anyMatch(e -> requiresLiquibaseReadyState(e.getType()));
+      if (requiresLiquibaseReadyState && liquibaseMigrationLockService.isMigrationRunning()) {
+        log.warn("Liquibase migration in progress for tenant: {}", tenant);
+        throw new LiquibaseMigrationException("Liquibase migration is still running for tenant: " + tenant);
+      }
+
+      log.info("Received {} job events for module {} in {}, applying {}. Thread: {}", eventGroup.records().size(),
+        eventGroup.moduleName(), tenant, mapItems(events, ResourceEvent::getType), Thread.currentThread().getName());
+      runWithTimerTableRecheck(tenant, () -> eventService.applyTimerEvents(events));
+    }
+  }
+
+  /**
+   * Runs the operation once more if it failed because the timer table of the tenant is missing, so that it is ignored
+   * as for any tenant without the timer table.
+   *
+   * <p>
+   * The table is dropped by tenant deletion, which evicts the cached result of {@link TimerTableCheckService} only on
+   * the instance that served the request, so other instances still consider the table existing. The operation fails
+   * again if the missing relation is not the timer table, e.g. for CREATE events, which are retried until the tenant
+   * is initialized.
+   * </p>
+   *
+   * @param tenant - tenant of the operation
+   * @param operation - operation to run within the tenant context
+   */
+  private void runWithTimerTableRecheck(String tenant, Runnable operation) {
+    try {
+      operation.run();
+    } catch (RuntimeException e) {
+      if (!isRelationNotFound(e) || timerTableCheckService.recheckTableExists()) {
+        throw e;
+      }
+
+      log.info("Timer table is missing, cached table existence was stale, retrying operation: tenant = {}", tenant);
+      operation.run();
+    }
+  }
+
+  /**
+   * Reduces the events of one tenant and module to their net effect: UPDATE and DELETE events replace all system
+   * timers of the module, so only the last of them and the CREATE events after it are kept.
+   */
+  private static List<ResourceEvent<ScheduledTimers>> coalesce(List<ResourceEvent<ScheduledTimers>> events) {
+    var result = new ArrayList<ResourceEvent<ScheduledTimers>>();
+    for (var event : events) {
+      switch (event.getType()) {
+        case UPDATE, DELETE -> {
+          result.clear();
+          result.add(event);
+        }
+        case CREATE -> result.add(event);
+        default -> log.warn("Unsupported operation type: event = {}", event);
+      }
+    }
+    return result;
+  }
+
   private static Map<String, Collection<String>> prepareContextHeaders(String tenant) {
     var headers = new HashMap<String, Collection<String>>();
     headers.put(TENANT, singletonList(tenant));
@@ -115,4 +354,7 @@ public class KafkaMessageListener {
   private static boolean requiresLiquibaseReadyState(EntitlementEventType operationType) {
     return operationType == EntitlementEventType.ENTITLE || operationType == EntitlementEventType.UPGRADE;
   }
+
+  private record ScheduledJobEventGroup(String tenant, String moduleName,
+    List<ConsumerRecord<String, ResourceEvent<ScheduledTimers>>> records) {}
 }
@@ -0,0 +1,78 @@
+package org.folio.scheduler.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+
+import java.time.OffsetDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.domain.entity.ModuleEventLedgerEntity;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.folio.scheduler.repository.ModuleEventLedgerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the last scheduled job event applied to system timers of each module of a tenant, so an event that is
+ * delivered again, after a retry, a rebalance or a replay from the earliest offset, is skipped with a primary key
+ * lookup instead of rewriting timers and rescheduling their jobs.
+ *
+ * <p>
+ * Only a repeat of the last applied event is skipped: an older event delivered after a newer one is applied, because
+ * it cannot be told apart from a module downgrade.
+ * </p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ModuleEventLedgerService {
+
+  private final ModuleEventLedgerRepository moduleEventLedgerRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Checks if the event is the last one applied to system timers of the module.
+   *
+   * @param moduleName - module name
+   * @param event - scheduled job event
+   * @return true if the event is already applied, false otherwise
+   */
+  public boolean isApplied(String moduleName, ResourceEvent<ScheduledTimers> event) {
+    var applied = moduleEventLedgerRepository.findById(moduleName)
+      .filter(entry -> entry.getChecksum().equals(checksum(event)))
+      .isPresent();
+    if (applied) {
+      log.info("Scheduled job event is already applied, skipping it: module = {}, type = {}",
+        moduleName, event.getType());
+    }
+    return applied;
+  }
+
+  /**
+   * Records the event as the last one applied to system timers of the module.
+   *
+   * @param moduleName - module name
+   * @param event - applied scheduled job event
+   */
+  public void markApplied(String moduleName, ResourceEvent<ScheduledTimers> event) {
+    var entry = new ModuleEventLedgerEntity();
+    entry.setModuleName(moduleName);
+    entry.setEventType(event.getType());
+    entry.setModuleId(getTimers(event).getModuleId());
+    entry.setChecksum(checksum(event));
+    entry.setAppliedAt(OffsetDateTime.now(UTC));
+    moduleEventLedgerRepository.save(entry);
+  }
+
+  private String checksum(ResourceEvent<ScheduledTimers> event) {
+    var content = event.getType() + ":" + objectMapper.writeValueAsString(getTimers(event));
+    return DigestUtils.md5DigestAsHex(content.getBytes(UTF_8));
+  }
+
+  private static ScheduledTimers getTimers(ResourceEvent<ScheduledTimers> event) {
+    return event.getType() == ResourceEventType.DELETE ? event.getOldValue() : event.getNewValue();
+  }
+}
@@ -0,0 +1,127 @@
+package org.folio.scheduler.integration.kafka;
+
+import static java.time.ZoneOffset.UTC;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCauseMessage;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEvent;
+import org.folio.scheduler.integration.kafka.configuration.KafkaConfiguration;
+import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.folio.scheduler.repository.ParkedEventRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Replays parked Kafka events of tenants that are due, in the order the events were parked.
+ *
+ * <p>
+ * A tenant is replayed by a single module instance at a time, which holds the advisory lock of the tenant for the
+ * whole replay. If an event fails because the tenant is still not ready, the replay of the tenant is postponed with an
+ * exponential delay; events failed for other reasons are logged and dropped, as the error handler of the listener
+ * containers does.
+ * </p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ParkedEventReplayer {
+
+  private static final int REPLAY_BATCH_SIZE = 100;
+  private static final TypeReference<ResourceEvent<ScheduledTimers>> SCHEDULED_JOB_EVENT_TYPE =
+    new TypeReference<>() {};
+
+  private final ParkedEventRepository parkedEventRepository;
+  private final ParkedEventConfigurationProperties parkingProperties;
+  private final KafkaMessageListener kafkaMessageListener;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Replays parked events of all tenants that are due.
+   */
+  @Scheduled(fixedDelayString = "${application.kafka.parking.replay-interval:5s}")
+  public void replayDueEvents() {
+    if (!parkingProperties.isEnabled()) {
+      return;
+    }
+
+    for (var tenant : parkedEventRepository.findTenantsWithDueEvents(OffsetDateTime.now(UTC))) {
+      replayTenantEvents(tenant);
+    }
+  }
+
+  private void replayTenantEvents(String tenant) {
+    if (!parkedEventRepository.runWithTenantLock(tenant, () -> replayLockedTenantEvents(tenant))) {
+      log.debug("Parked Kafka events are replayed by another instance: tenant = {}", tenant);
+    }
+  }
+
+  private void replayLockedTenantEvents(String tenant) {
+    var events = parkedEventRepository.findByTenant(tenant, REPLAY_BATCH_SIZE);
+    // events can be replayed or postponed by another instance before the lock is acquired
+    if (events.isEmpty() || events.getFirst().dueAt().isAfter(OffsetDateTime.now(UTC))) {
+      return;
+    }
+
+    log.info("Replaying parked Kafka events: tenant = {}", tenant);
+    while (!events.isEmpty()) {
+      for (var event : events) {
+        if (!replay(event)) {
+          return;
+        }
+      }
+      events = parkedEventRepository.findByTenant(tenant, REPLAY_BATCH_SIZE);
+    }
+  }
+
+  private boolean replay(ParkedEvent event) {
+    try {
+      switch (event.type()) {
+        case SCHEDULED_JOB -> replayScheduledJobEvent(event);
+        case ENTITLEMENT -> replayEntitlementEvent(event);
+      }
+    } catch (RuntimeException e) {
+      if (KafkaConfiguration.isTenantNotReady(e)) {
+        var delay = getRetryDelay(event.attempts());
+        log.info("Tenant is not ready, parked Kafka event replay is postponed: tenant = {}, id = {}, delay = {}",
+          event.tenant(), event.id(), delay);
+        parkedEventRepository.postpone(event.id(), OffsetDateTime.now(UTC).plus(delay),
+          abbreviate(getRootCauseMessage(e), ParkedEventService.MAX_REASON_LENGTH));
+        return false;
+      }
+
+      log.error("Failed to replay parked Kafka event, event is skipped: tenant = {}, topic = {}, offset = {}",
+        event.tenant(), event.topic(), event.offset(), e);
+    }
+
+    parkedEventRepository.deleteById(event.id());
+    return true;
+  }
+
+  private Duration getRetryDelay(int attempts) {
+    var delay = parkingProperties.getRetryDelay().multipliedBy(1L << Math.min(attempts + 1, 20));
+    var maxDelay = parkingProperties.getMaxDelay();
+    return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+  }
+
+  private void replayScheduledJobEvent(ParkedEvent event) {
+    var resourceEvent = objectMapper.readValue(event.payload(), SCHEDULED_JOB_EVENT_TYPE);
+    kafkaMessageListener.processScheduledJobEvent(
+      new ConsumerRecord<>(event.topic(), event.partition(), event.offset(), null, resourceEvent));
+  }
+
+  private void replayEntitlementEvent(ParkedEvent event) {
+    var entitlementEvent = objectMapper.readValue(event.payload(), EntitlementEvent.class);
+    kafkaMessageListener.processEntitlementEvent(
+      new ConsumerRecord<>(event.topic(), event.partition(), event.offset(), null, entitlementEvent));
+  }
+}
@@ -0,0 +1,140 @@
+package org.folio.scheduler.integration.kafka;
+
+import static java.time.ZoneOffset.UTC;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCauseMessage;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEvent;
+import org.folio.scheduler.domain.model.ParkedEventType;
+import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
+import org.folio.scheduler.repository.ParkedEventRepository;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Parks Kafka events that cannot be processed until their tenant is ready, so the partition is not blocked by retries.
+ *
+ * <p>
+ * Once an event of a tenant is parked, the following events of the tenant are parked too, so they are replayed by
+ * {@link ParkedEventReplayer} in the order they were received.
+ * </p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ParkedEventService implements MeterBinder {
+
+  static final int MAX_REASON_LENGTH = 1024;
+
+  private final ParkedEventRepository parkedEventRepository;
+  private final ParkedEventConfigurationProperties parkingProperties;
+  private final ObjectMapper objectMapper;
+
+  public boolean isEnabled() {
+    return parkingProperties.isEnabled();
+  }
+
+  /**
+   * Parks the consumer record if events of its tenant are already parked.
+   *
+   * @param consumerRecord - consumer record to check
+   * @param type - event type
+   * @param tenant - tenant of the event
+   * @return true if the record is parked and must not be processed, false otherwise
+   */
+  public boolean parkIfTenantParked(ConsumerRecord<?, ?> consumerRecord, ParkedEventType type, String tenant) {
+    if (!isEnabled() || tenant == null || !parkedEventRepository.existsByTenant(tenant)) {
+      return false;
+    }
+
+    park(consumerRecord, type, tenant, "Earlier events of the tenant are parked", Duration.ZERO);
+    return true;
+  }
+
+  /**
+   * Parks the consumer record that failed because its tenant is not ready.
+   *
+   * @param consumerRecord - failed consumer record
+   * @param type - event type
+   * @param exception - processing error
+   * @return true if the record is parked, false if the tenant of the record cannot be resolved
+   */
+  public boolean park(ConsumerRecord<?, ?> consumerRecord, ParkedEventType type, Exception exception) {
+    var tenant = resolveTenant(consumerRecord.value());
+    if (tenant == null) {
+      log.warn("Kafka event cannot be parked, tenant is not resolved: topic = {}, partition = {}, offset = {}",
+        consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+      return false;
+    }
+
+    park(consumerRecord, type, tenant, getRootCauseMessage(exception), parkingProperties.getRetryDelay());
+    return true;
+  }
+
+  /**
+   * Makes parked events of a tenant due immediately, used when the tenant becomes ready.
+   *
+   * @param tenant - tenant name
+   */
+  public void releaseTenant(String tenant) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    var released = parkedEventRepository.updateDueDate(tenant, OffsetDateTime.now(UTC));
+    if (released > 0) {
+      log.info("Parked Kafka events are released for replay: tenant = {}, count = {}", tenant, released);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("scheduler.kafka.parked.events", this, service -> service.isEnabled() ? service.countEvents() : 0)
+      .description("Number of Kafka events parked until their tenant is ready")
+      .register(registry);
+    TimeGauge.builder("scheduler.kafka.parked.events.oldest.age", this, TimeUnit.SECONDS,
+        service -> service.isEnabled() ? service.getOldestEventAgeSeconds() : 0)
+      .description("Age of the oldest parked Kafka event")
+      .register(registry);
+  }
+
+  private void park(ConsumerRecord<?, ?> consumerRecord, ParkedEventType type, String tenant, String reason,
+    Duration delay) {
+    var now = OffsetDateTime.now(UTC);
+    var payload = objectMapper.writeValueAsString(consumerRecord.value());
+    parkedEventRepository.insert(new ParkedEvent(0L, type, tenant, consumerRecord.topic(), consumerRecord.partition(),
+      consumerRecord.offset(), payload, abbreviate(reason, MAX_REASON_LENGTH), 0, now, now.plus(delay)));
+    log.info("Kafka event is parked: tenant = {}, topic = {}, partition = {}, offset = {}, reason = {}",
+      tenant, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset(), reason);
+  }
+
+  private double countEvents() {
+    return parkedEventRepository.count();
+  }
+
+  private double getOldestEventAgeSeconds() {
+    return parkedEventRepository.findOldestParkedAt()
+      .map(parkedAt -> Duration.between(parkedAt, OffsetDateTime.now(UTC)).toMillis() / 1000d)
+      .orElse(0d);
+  }
+
+  private static String resolveTenant(Object event) {
+    return switch (event) {
+      case ResourceEvent<?> resourceEvent -> resourceEvent.getTenant();
+      case EntitlementEvent entitlementEvent -> entitlementEvent.getTenantName();
+      case null, default -> null;
+    };
+  }
+}
@@ -0,0 +1,65 @@
+package org.folio.scheduler.integration.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how long partitions revoked from a consumer during a rebalance are not consumed, until the consumer gets its
+ * new assignment.
+ *
+ * <p>
+ * The pause is published as {@code scheduler.kafka.rebalance.pause} timer tagged by consumer group. Rebalances that do
+ * not revoke any partition, as incremental cooperative ones often do, are not paused and are not recorded.
+ * </p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RebalancePauseListener implements ConsumerAwareRebalanceListener {
+
+  private final MeterRegistry meterRegistry;
+  private final ThreadLocal<Long> revokedAt = new ThreadLocal<>();
+
+  @Override
+  public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    markRevoked(partitions);
+  }
+
+  @Override
+  public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    markRevoked(partitions);
+  }
+
+  @Override
+  public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    var revokedTime = revokedAt.get();
+    if (revokedTime == null) {
+      return;
+    }
+
+    revokedAt.remove();
+    var groupId = consumer.groupMetadata().groupId();
+    var pause = Duration.ofNanos(System.nanoTime() - revokedTime);
+    Timer.builder("scheduler.kafka.rebalance.pause")
+      .description("Time revoked partitions are not consumed during a consumer group rebalance")
+      .tag("group", groupId)
+      .register(meterRegistry)
+      .record(pause);
+    log.info("Kafka consumer rebalance is completed: group = {}, pause = {} ms, assigned partitions = {}",
+      groupId, pause.toMillis(), partitions.size());
+  }
+
+  private void markRevoked(Collection<TopicPartition> partitions) {
+    if (!partitions.isEmpty() && revokedAt.get() == null) {
+      revokedAt.set(System.nanoTime());
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.scheduler.integration.kafka;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TenantLaneConfigurationProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatches items received in a Kafka batch to per-tenant serial lanes.
+ *
+ * <p>
+ * Items of the same tenant are handled one by one in the order of the batch, while lanes of different tenants run in
+ * parallel on a bounded thread pool, so a tenant waiting for its Liquibase migration does not delay the others. A lane
+ * stops at its first failed item. The dispatcher returns when all lanes are finished and rethrows the failure of the
+ * earliest failed item, so the listener container commits only the offsets of the records before it and redelivers
+ * the rest. Handlers are expected to park or skip items of a tenant that cannot be processed, so only failures that
+ * must be retried by the container fail the whole batch. Without parking of Kafka events, a tenant that is not ready
+ * is such a failure, so a warning is logged at startup if tenant lanes are enabled and parking is not. If tenant lanes
+ * are disabled, items are handled in the calling thread.
+ * </p>
+ */
+@Log4j2
+@Component
+public class TenantLaneDispatcher implements DisposableBean {
+
+  private final ThreadPoolTaskExecutor executor;
+
+  public TenantLaneDispatcher(TenantLaneConfigurationProperties properties,
+    ParkedEventConfigurationProperties parkingProperties) {
+    this.executor = properties.isEnabled() ? createExecutor(properties.getPoolSize()) : null;
+    if (properties.isEnabled() && !parkingProperties.isEnabled()) {
+      log.warn("Tenant lanes are enabled without parking of Kafka events: a tenant that is not ready fails the whole "
+        + "batch, and events of other tenants in it are applied again. Set application.kafka.parking.enabled to true");
+    }
+  }
+
+  /**
+   * Handles the given items in per-tenant lanes and waits for all of them to complete.
+   *
+   * @param items - items to handle, in the order of the batch
+   * @param tenantResolver - function to resolve a tenant of an item
+   * @param handler - item handler
+   * @param <T> - item type
+   */
+  public <T> void dispatch(List<T> items, Function<T, String> tenantResolver, Consumer<T> handler) {
+    var lanes = new LinkedHashMap<String, List<Integer>>();
+    for (int i = 0; i < items.size(); i++) {
+      lanes.computeIfAbsent(tenantResolver.apply(items.get(i)), tenant -> new ArrayList<>()).add(i);
+    }
+
+    if (executor == null || lanes.size() <= 1) {
+      items.forEach(handler);
+      return;
+    }
+
+    log.debug("Dispatching items to tenant lanes: items = {}, tenants = {}", items.size(), lanes.keySet());
+    var failures = new ConcurrentSkipListMap<Integer, RuntimeException>();
+    var lanesCompletion = lanes.values().stream()
+      .map(indices -> CompletableFuture.runAsync(() -> runLane(items, indices, handler, failures), executor))
+      .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(lanesCompletion).join();
+
+    if (!failures.isEmpty()) {
+      throw failures.firstEntry().getValue();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  private static <T> void runLane(List<T> items, List<Integer> indices, Consumer<T> handler,
+    Map<Integer, RuntimeException> failures) {
+    for (var index : indices) {
+      try {
+        handler.accept(items.get(index));
+      } catch (RuntimeException e) {
+        failures.put(index, e);
+        return;
+      }
+    }
+  }
+
+  private static ThreadPoolTaskExecutor createExecutor(int poolSize) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setThreadNamePrefix("tenant-lane-");
+    executor.initialize();
+    return executor;
+  }
+}
@@ -5,8 +5,20 @@ import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import java.sql.ResultSet;
 import lombok.extern.log4j.Log4j2;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+/**
+ * Checks if the timer table exists in the schema of the current tenant.
+ *
+ * <p>
+ * Positive results are cached per tenant schema, so the catalog is not queried for every entitlement event of an
+ * enabled tenant. Negative results are not cached, because the table can be created by tenant init on another
+ * instance. The cache entry of the tenant is evicted on tenant init and deletion, but only on the instance that
+ * serves the tenant request: other instances evict it when a query fails because a relation does not exist, see
+ * {@link #recheckTableExists()}.
+ * </p>
+ */
 @Log4j2
 public class TimerTableCheckService {
 
@@ -20,23 +32,53 @@ public class TimerTableCheckService {
   private final JdbcTemplate jdbcTemplate;
   private final FolioExecutionContext context;
   private final TableNameCase tableNameCase;
+  private final Cache tableExistsCache;
 
-  public TimerTableCheckService(JdbcTemplate jdbcTemplate, FolioExecutionContext context) {
-    this(jdbcTemplate, context, TableNameCase.LOWER);
+  public TimerTableCheckService(JdbcTemplate jdbcTemplate, FolioExecutionContext context, Cache tableExistsCache) {
+    this(jdbcTemplate, context, TableNameCase.LOWER, tableExistsCache);
   }
 
-  public TimerTableCheckService(JdbcTemplate jdbcTemplate, FolioExecutionContext context, TableNameCase tableNameCase) {
+  public TimerTableCheckService(JdbcTemplate jdbcTemplate, FolioExecutionContext context,
+    TableNameCase tableNameCase, Cache tableExistsCache) {
     this.jdbcTemplate = jdbcTemplate;
     this.context = context;
     this.tableNameCase = tableNameCase;
+    this.tableExistsCache = tableExistsCache;
   }
 
   public boolean tableExists() {
-    return tableExists(TIMER_TABLE_NAME);
+    var schema = getDbSchemaName();
+    if (isTrue(tableExistsCache.get(schema, Boolean.class))) {
+      return true;
+    }
+
+    var found = tableExists(schema, TIMER_TABLE_NAME);
+    if (found) {
+      tableExistsCache.put(schema, true);
+    }
+    return found;
   }
 
-  private boolean tableExists(String tableName) {
+  /**
+   * Evicts the cached table existence result for the schema of the current tenant.
+   */
+  public void evictCache() {
     var schema = getDbSchemaName();
+    tableExistsCache.evict(schema);
+    log.debug("Timer table existence cache evicted: schema = {}", schema);
+  }
+
+  /**
+   * Evicts the cached table existence result for the schema of the current tenant and checks the table again.
+   *
+   * @return true if the timer table exists, false otherwise
+   */
+  public boolean recheckTableExists() {
+    evictCache();
+    return tableExists();
+  }
+
+  private boolean tableExists(String schema, String tableName) {
     var table = tableNameCase.format(tableName);
 
     log.debug("Checking if table exists in schema: table = {}, schema = {}", table, schema);
@@ -1,8 +1,12 @@
 package org.folio.scheduler.integration.kafka.configuration;
 
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_INSTANCE_ID_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
+import static org.folio.scheduler.configuration.CacheConfig.TIMER_TABLE_EXISTS_CACHE;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -10,6 +14,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.Strings;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.folio.integration.kafka.consumer.EnableKafkaConsumer;
 import org.folio.integration.kafka.consumer.filter.TenantIsDisabledException;
@@ -17,13 +22,19 @@ import org.folio.integration.kafka.consumer.filter.TenantsAreDisabledException;
 import org.folio.integration.kafka.model.ResourceEvent;
 import org.folio.scheduler.configuration.properties.RetryConfigurationProperties;
 import org.folio.scheduler.configuration.properties.RetryConfigurationProperties.RetryProperties;
+import org.folio.scheduler.configuration.properties.StaticMembershipConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEventType;
+import org.folio.scheduler.integration.kafka.ParkedEventService;
+import org.folio.scheduler.integration.kafka.RebalancePauseListener;
 import org.folio.scheduler.integration.kafka.TimerTableCheckService;
 import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.exception.LiquibaseMigrationException;
 import org.hibernate.exception.SQLGrammarException;
 import org.jspecify.annotations.NonNull;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
@@ -36,6 +47,7 @@ import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
 import org.springframework.util.backoff.BackOff;
 import org.springframework.util.backoff.FixedBackOff;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
 @Log4j2
@@ -44,9 +56,15 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class KafkaConfiguration {
 
+  private static final TypeReference<ResourceEvent<ScheduledTimers>> SCHEDULED_JOB_EVENT_TYPE =
+    new TypeReference<>() {};
+
   private final KafkaProperties kafkaProperties;
   private final RetryConfigurationProperties retryConfiguration;
   private final ObjectMapper objectMapper;
+  private final ParkedEventService parkedEventService;
+  private final StaticMembershipConfigurationProperties staticMembershipProperties;
+  private final RebalancePauseListener rebalancePauseListener;
 
   /**
    * Creates and configures {@link ConcurrentKafkaListenerContainerFactory} as Spring bean for consuming resource events
@@ -55,11 +73,29 @@ public class KafkaConfiguration {
    * @return {@link ConcurrentKafkaListenerContainerFactory} object as Spring bean.
    */
   @Bean
-  @SuppressWarnings("rawtypes")
-  public ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<?>> kafkaListenerContainerFactory() {
-    var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<?>>();
-    factory.setConsumerFactory(jsonNodeConsumerFactory());
+  public ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<ScheduledTimers>>
+    kafkaListenerContainerFactory() {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<ScheduledTimers>>();
+    factory.setConsumerFactory(scheduledTimersConsumerFactory());
+    factory.setCommonErrorHandler(errorHandler(ResourceEvent.class));
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalancePauseListener);
+    return factory;
+  }
+
+  /**
+   * Creates and configures {@link ConcurrentKafkaListenerContainerFactory} as Spring bean for consuming resource events
+   * from Apache Kafka in batches.
+   *
+   * @return {@link ConcurrentKafkaListenerContainerFactory} object as Spring bean.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<ScheduledTimers>>
+    batchKafkaListenerContainerFactory() {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<ScheduledTimers>>();
+    factory.setConsumerFactory(scheduledTimersConsumerFactory());
     factory.setCommonErrorHandler(errorHandler(ResourceEvent.class));
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalancePauseListener);
+    factory.setBatchListener(true);
     return factory;
   }
 
@@ -74,19 +110,38 @@ public class KafkaConfiguration {
     var factory = new ConcurrentKafkaListenerContainerFactory<String, EntitlementEvent>();
     factory.setConsumerFactory(consumerFactoryEntitlementEvent());
     factory.setCommonErrorHandler(errorHandler(EntitlementEvent.class));
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalancePauseListener);
+    return factory;
+  }
+
+  /**
+   * Creates and configures {@link ConcurrentKafkaListenerContainerFactory} as Spring bean for consuming
+   * entitlement events from Apache Kafka in batches.
+   *
+   * @return {@link ConcurrentKafkaListenerContainerFactory} object as Spring bean.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, EntitlementEvent>
+    batchListenerContainerFactoryEntitlementEvent() {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, EntitlementEvent>();
+    factory.setConsumerFactory(consumerFactoryEntitlementEvent());
+    factory.setCommonErrorHandler(errorHandler(EntitlementEvent.class));
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalancePauseListener);
+    factory.setBatchListener(true);
     return factory;
   }
 
   /**
    * Creates and configures {@link ConsumerFactory} as Spring bean.
    *
-   * <p>Key type - {@link String}, value - {@link ResourceEvent}.</p>
+   * <p>Key type - {@link String}, value - {@link ResourceEvent} of {@link ScheduledTimers}. The payload is bound
+   * straight to {@link ScheduledTimers}, so it is not converted from a generic map by each consumer.</p>
    *
    * @return typed {@link ConsumerFactory} object as Spring bean.
    */
   @Bean
-  public ConsumerFactory<String, ResourceEvent> jsonNodeConsumerFactory() {
-    return getConsumerFactory(ResourceEvent.class);
+  public ConsumerFactory<String, ResourceEvent<ScheduledTimers>> scheduledTimersConsumerFactory() {
+    return getConsumerFactory(new JacksonJsonDeserializer<>(SCHEDULED_JOB_EVENT_TYPE).ignoreTypeHeaders());
   }
 
   /**
@@ -98,26 +153,29 @@ public class KafkaConfiguration {
    */
   @Bean
   public ConsumerFactory<String, EntitlementEvent> consumerFactoryEntitlementEvent() {
-    return getConsumerFactory(EntitlementEvent.class);
+    return getConsumerFactory(new JacksonJsonDeserializer<>(EntitlementEvent.class));
   }
 
   @Bean
-  public TimerTableCheckService timerTableCheckService(JdbcTemplate jdbcTemplate, FolioExecutionContext context) {
-    return new TimerTableCheckService(jdbcTemplate, context);
+  public TimerTableCheckService timerTableCheckService(JdbcTemplate jdbcTemplate, FolioExecutionContext context,
+    CacheManager cacheManager) {
+    var tableExistsCache = requireNonNull(cacheManager.getCache(TIMER_TABLE_EXISTS_CACHE));
+    return new TimerTableCheckService(jdbcTemplate, context, tableExistsCache);
   }
 
-  private <T> DefaultKafkaConsumerFactory<String, T> getConsumerFactory(Class<T> eventClass) {
-    var deserializer = new JacksonJsonDeserializer<>(eventClass);
+  private <T> DefaultKafkaConsumerFactory<String, T> getConsumerFactory(JacksonJsonDeserializer<T> deserializer) {
     Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties());
     config.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
     config.put(VALUE_DESERIALIZER_CLASS_CONFIG, deserializer);
     config.put(AUTO_OFFSET_RESET_CONFIG, "earliest");
+    if (isNotBlank(staticMembershipProperties.getInstanceId())) {
+      config.put(GROUP_INSTANCE_ID_CONFIG, staticMembershipProperties.getInstanceId());
+    }
     return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
   }
 
   private DefaultErrorHandler errorHandler(Class<?> eventClass) {
-    var errorHandler = new DefaultErrorHandler((message, exception) ->
-      log.error("Failed to process event [record: {}]", message, exception));
+    var errorHandler = new DefaultErrorHandler((message, exception) -> recover(message, exception, eventClass));
     errorHandler.setBackOffFunction((message, exception) -> getBackOff(exception, eventClass));
     errorHandler.setLogLevel(Level.INFO);
 
@@ -129,6 +187,11 @@ public class KafkaConfiguration {
     log.info("Calculating backoff for exception: exception = {}, eventClass = {}",
       exception.getMessage(), eventClass.getSimpleName(), exception);
 
+    if (parkedEventService.isEnabled() && isTenantNotReady(exception)) {
+      log.warn("Tenant is not ready, Kafka event will be parked", exception);
+      return new FixedBackOff(0L, 0L);
+    }
+
     if (hasCause(exception, LiquibaseMigrationException.class)) {
       var retryProperties = getRetryProperties(eventClass);
       log.warn("Liquibase migration in progress, retrying Kafka event", exception);
@@ -152,6 +215,43 @@ public class KafkaConfiguration {
     return new FixedBackOff(0L, 0L);
   }
 
+  /**
+   * Checks if the exception is caused by a tenant that is not ready to process events yet: its Liquibase migration is
+   * running, its tables are not created or it is disabled.
+   *
+   * @param throwable - exception to check
+   * @return true if the tenant is not ready, false otherwise
+   */
+  public static boolean isTenantNotReady(Throwable throwable) {
+    return hasCause(throwable, LiquibaseMigrationException.class)
+      || findRelationDoesNotExistsMessage(throwable).isPresent()
+      || hasCause(throwable, TenantsAreDisabledException.class)
+      || hasCause(throwable, TenantIsDisabledException.class);
+  }
+
+  /**
+   * Checks if the exception is caused by a query to a table that does not exist.
+   *
+   * @param throwable - exception to check
+   * @return true if a queried relation does not exist, false otherwise
+   */
+  public static boolean isRelationNotFound(Throwable throwable) {
+    return findRelationDoesNotExistsMessage(throwable).isPresent();
+  }
+
+  private void recover(ConsumerRecord<?, ?> consumerRecord, Exception exception, Class<?> eventClass) {
+    if (parkedEventService.isEnabled() && isTenantNotReady(exception)
+      && parkedEventService.park(consumerRecord, getParkedEventType(eventClass), exception)) {
+      return;
+    }
+
+    log.error("Failed to process event [record: {}]", consumerRecord, exception);
+  }
+
+  private static ParkedEventType getParkedEventType(Class<?> eventClass) {
+    return eventClass == EntitlementEvent.class ? ParkedEventType.ENTITLEMENT : ParkedEventType.SCHEDULED_JOB;
+  }
+
   private RetryConfigurationProperties.RetryProperties getRetryProperties(Class<?> eventClass) {
     var propertyKey = eventClass == EntitlementEvent.class
       ? "entitlement-event"
@@ -164,18 +264,22 @@ public class KafkaConfiguration {
   }
 
   private static boolean hasCause(Throwable throwable, Class<? extends Throwable> expectedType) {
+    return findCause(throwable, expectedType).isPresent();
+  }
+
+  private static Optional<Throwable> findCause(Throwable throwable, Class<? extends Throwable> expectedType) {
     for (var current = throwable; current != null; current = current.getCause()) {
       if (expectedType.isInstance(current)) {
-        return true;
+        return Optional.of(current);
       }
     }
 
-    return false;
+    return Optional.empty();
   }
 
-  private static Optional<String> findRelationDoesNotExistsMessage(Exception exception) {
-    return Optional.of(exception)
-      .filter(InvalidDataAccessResourceUsageException.class::isInstance)
+  private static Optional<String> findRelationDoesNotExistsMessage(Throwable exception) {
+    // batch listeners wrap the original exception into BatchListenerFailedException
+    return findCause(exception, InvalidDataAccessResourceUsageException.class)
       .map(Throwable::getCause)
       .filter(SQLGrammarException.class::isInstance)
       .map(Throwable::getCause)
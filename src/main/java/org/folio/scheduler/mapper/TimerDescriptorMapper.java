@@ -6,9 +6,13 @@ import org.folio.scheduler.domain.dto.Metadata;
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerExecution;
 import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
+import org.folio.scheduler.domain.model.TimerRow;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.ObjectFactory;
 
 @Mapper(componentModel = "spring", injectionStrategy = CONSTRUCTOR, uses = DateConvertHelper.class)
@@ -27,6 +31,8 @@ public interface TimerDescriptorMapper {
   @Mapping(target = "createdByUserId", ignore = true)
   @Mapping(target = "updatedDate", ignore = true)
   @Mapping(target = "updatedByUserId", ignore = true)
+  @Mapping(target = "enabled", ignore = true)
+  @Mapping(target = "path", ignore = true)
   TimerDescriptorEntity toDescriptorEntity(TimerDescriptor descriptor);
 
   @AuditableMapping
@@ -35,9 +41,62 @@ public interface TimerDescriptorMapper {
   @Mapping(target = "enabled", ignore = true)
   @Mapping(target = "moduleName", ignore = true)
   @Mapping(target = "moduleId", ignore = true)
+  @Mapping(target = "lastExecution", ignore = true)
   @Mapping(target = "userId", source = "userId")
   TimerDescriptor toDescriptor(TimerDescriptorEntity entity);
 
+  /**
+   * Converts {@link TimerDescriptorEntity} to a read-only {@link TimerDescriptor} object.
+   *
+   * <p>Only the top-level object is copied, nested objects such as {@link RoutingEntry} are shared with the entity,
+   * so the result must not be modified. It is intended for entities loaded in read-only transactions, which are not
+   * flushed, and for callers that only read or serialize the result.</p>
+   *
+   * @param entity - {@link TimerDescriptorEntity} object
+   * @return converted read-only {@link TimerDescriptor} object
+   */
+  @AuditableMapping
+  @BeanMapping(qualifiedByName = "readOnlyDescriptor")
+  @Mapping(target = "routingEntry", ignore = true)
+  @Mapping(target = "modified", ignore = true)
+  @Mapping(target = "enabled", ignore = true)
+  @Mapping(target = "moduleName", ignore = true)
+  @Mapping(target = "moduleId", ignore = true)
+  @Mapping(target = "lastExecution", ignore = true)
+  @Mapping(target = "userId", source = "userId")
+  TimerDescriptor toReadOnlyDescriptor(TimerDescriptorEntity entity);
+
+  /**
+   * Converts {@link TimerRow} to {@link TimerDescriptor} object.
+   *
+   * <p>The descriptor of the row is freshly deserialized and not shared, so it is reused without a deep copy.</p>
+   *
+   * @param row - {@link TimerRow} object
+   * @return converted {@link TimerDescriptor} object
+   */
+  @Mapping(target = "metadata.createdDate", source = "row.createdDate")
+  @Mapping(target = "metadata.createdByUserId", source = "row.createdByUserId")
+  @Mapping(target = "metadata.updatedDate", source = "row.updatedDate")
+  @Mapping(target = "metadata.updatedByUserId", source = "row.updatedByUserId")
+  @Mapping(target = "routingEntry", ignore = true)
+  @Mapping(target = "modified", ignore = true)
+  @Mapping(target = "enabled", ignore = true)
+  @Mapping(target = "moduleName", ignore = true)
+  @Mapping(target = "moduleId", ignore = true)
+  @Mapping(target = "lastExecution", ignore = true)
+  TimerDescriptor toDescriptor(TimerRow row);
+
+  /**
+   * Factory method to reuse the {@link TimerDescriptor} of {@link TimerRow}.
+   *
+   * @param row - source {@link TimerRow} object
+   * @return the {@link TimerDescriptor} object of the row
+   */
+  @ObjectFactory
+  default TimerDescriptor createDescriptor(TimerRow row) {
+    return row.timerDescriptor();
+  }
+
   /**
    * Factory method to create a deep copy of {@link TimerDescriptor} from {@link TimerDescriptorEntity}.
    *
@@ -49,6 +108,27 @@ public interface TimerDescriptorMapper {
     return deepCopy(entity.getTimerDescriptor());
   }
 
+  /**
+   * Factory method to create a shallow copy of {@link TimerDescriptor} from {@link TimerDescriptorEntity}.
+   *
+   * <p>Caution: if a new field is added to the {@link TimerDescriptor} class and is not mapped from the entity,
+   * it must be copied here as well.</p>
+   *
+   * @param entity - source {@link TimerDescriptorEntity} object
+   * @return shallow copy of the {@link TimerDescriptor} object
+   */
+  @ObjectFactory
+  @Named("readOnlyDescriptor")
+  default TimerDescriptor createReadOnlyDescriptor(TimerDescriptorEntity entity) {
+    var source = entity.getTimerDescriptor();
+    return new TimerDescriptor()
+      .routingEntry(source.getRoutingEntry())
+      .modified(source.getModified())
+      .enabled(source.getEnabled())
+      .moduleName(source.getModuleName())
+      .moduleId(source.getModuleId());
+  }
+
   /**
    * Creates a deep copy of {@link TimerDescriptor} object.
    *
@@ -89,4 +169,12 @@ public interface TimerDescriptorMapper {
    * @return deep copy of the {@link Metadata} object
    */
   Metadata deepCopy(Metadata source);
+
+  /**
+   * Creates a deep copy of {@link TimerExecution} object.
+   *
+   * @param source - source {@link TimerExecution} object to copy
+   * @return deep copy of the {@link TimerExecution} object
+   */
+  TimerExecution deepCopy(TimerExecution source);
 }
@@ -1,6 +1,7 @@
 package org.folio.scheduler.migration;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
 import static org.quartz.JobKey.jobKey;
@@ -10,6 +11,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import liquibase.database.Database;
 import lombok.extern.log4j.Log4j2;
@@ -35,9 +37,9 @@ import org.springframework.transaction.annotation.Transactional;
  * Jobs scheduled by the previous code lack {@code timer-type} in their job details, SYSTEM timers may still carry the
  * user id of whoever originally scheduled them, and the {@code user_id} column is empty for every timer. For each
  * enabled timer the original user id is read from the current job detail (USER timers only) and persisted into the
- * {@code user_id} column; the timer is then rescheduled from a descriptor rebuilt from the entity, so the fresh job
- * detail carries the correct type and user id. SYSTEM timers are recreated without a user id (in both the column and
- * the job detail), which is the stale-user-id cleanup this migration performs.
+ * {@code user_id} column; the timers are then rescheduled in bulk from descriptors rebuilt from the entities, so the
+ * fresh job details carry the correct type and user id. SYSTEM timers are recreated without a user id (in both the
+ * column and the job detail), which is the stale-user-id cleanup this migration performs.
  * </p>
  */
 @Log4j2
@@ -79,15 +81,25 @@ public class PopulateTimerTypeAndUserIdMigration extends AbstractCustomTaskChang
   }
 
   private void recreateTimers(List<String> enabledTimerIds, MigrationContext context) {
+    var descriptors = new ArrayList<TimerDescriptor>();
     for (var id : enabledTimerIds) {
       var timerId = UUID.fromString(id);
       context.repository().findById(timerId).ifPresentOrElse(
-        entity -> recreateTimer(entity, context),
+        entity -> prepareTimer(entity, context).ifPresent(descriptors::add),
         () -> log.warn("Enabled timer not found by id, skipping [timerId: {}]", timerId));
     }
+
+    if (descriptors.isEmpty()) {
+      return;
+    }
+
+    deleteExistingJobs(context.scheduler(), mapItems(descriptors, TimerDescriptor::getId));
+    scheduleWithContext(context, descriptors);
+    descriptors.forEach(descriptor -> log.info("Recreated timer [timerId: {}, type: {}, userIdPreserved: {}]",
+      descriptor.getId(), descriptor.getType(), descriptor.getUserId() != null));
   }
 
-  private void recreateTimer(TimerDescriptorEntity entity, MigrationContext context) {
+  private Optional<TimerDescriptor> prepareTimer(TimerDescriptorEntity entity, MigrationContext context) {
     var timerId = entity.getId();
     var type = resolveType(entity);
 
@@ -97,22 +109,18 @@ public class PopulateTimerTypeAndUserIdMigration extends AbstractCustomTaskChang
       if (userId == null) {
         log.error("Skipping user timer recreation: original user id could not be resolved from the existing "
           + "job detail [timerId: {}]", timerId);
-        return;
+        return Optional.empty();
       }
     }
 
     entity.setUserId(userId);
     context.repository().save(entity);
-
-    var descriptor = context.mapper().toDescriptor(entity);
-    deleteExistingJob(context.scheduler(), timerId);
-    scheduleWithContext(context, descriptor);
-    log.info("Recreated timer [timerId: {}, type: {}, userIdPreserved: {}]", timerId, type, userId != null);
+    return Optional.of(context.mapper().toDescriptor(entity));
   }
 
-  private static void scheduleWithContext(MigrationContext context, TimerDescriptor descriptor) {
+  private static void scheduleWithContext(MigrationContext context, List<TimerDescriptor> descriptors) {
     try (var ignored = new FolioExecutionContextSetter(context.moduleMetadata(), buildHeaders(context.tenantId()))) {
-      context.jobSchedulingService().schedule(descriptor);
+      context.jobSchedulingService().scheduleAll(descriptors);
     }
   }
 
@@ -130,11 +138,11 @@ public class PopulateTimerTypeAndUserIdMigration extends AbstractCustomTaskChang
     }
   }
 
-  private static void deleteExistingJob(Scheduler scheduler, UUID timerId) {
+  private static void deleteExistingJobs(Scheduler scheduler, List<UUID> timerIds) {
     try {
-      scheduler.deleteJob(jobKey(timerId.toString()));
+      scheduler.deleteJobs(mapItems(timerIds, timerId -> jobKey(timerId.toString())));
     } catch (SchedulerException e) {
-      throw new MigrationException("Failed to delete existing scheduled job for timer " + timerId, e);
+      throw new MigrationException("Failed to delete existing scheduled jobs for timers " + timerIds, e);
     }
   }
 
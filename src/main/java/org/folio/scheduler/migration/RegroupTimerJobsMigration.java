@@ -1,6 +1,7 @@
 package org.folio.scheduler.migration;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.quartz.JobKey.jobKey;
 
@@ -31,10 +32,11 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>
  * Jobs scheduled by the previous code all live in Quartz's {@code DEFAULT} group. Quartz has no "change group"
- * operation, so for each enabled timer the {@code DEFAULT}-group job is deleted and the timer is rescheduled from its
- * descriptor via {@link JobSchedulingService#schedule}, which now assigns the {@code <tenant>#<moduleName>} group. USER
- * timers that still lack a user id are skipped (they cannot be scheduled). The migration is idempotent: a missing
- * {@code DEFAULT} job makes the delete a no-op, and an already-regrouped job makes the reschedule a no-op.
+ * operation, so the {@code DEFAULT}-group jobs of enabled timers are deleted and the timers are rescheduled in bulk
+ * from their descriptors via {@link JobSchedulingService#scheduleAll}, which now assigns the
+ * {@code <tenant>#<moduleName>} group. USER timers that still lack a user id are skipped (they cannot be scheduled).
+ * The migration is idempotent: a missing {@code DEFAULT} job makes the delete a no-op, and an already-regrouped job
+ * makes the reschedule a no-op.
  * </p>
  */
 @Log4j2
@@ -76,38 +78,44 @@ public class RegroupTimerJobsMigration extends AbstractCustomTaskChangeMigration
   }
 
   private void regroupTimers(List<String> enabledTimerIds, MigrationContext context) {
+    var descriptors = new ArrayList<TimerDescriptor>();
     for (var id : enabledTimerIds) {
       var timerId = UUID.fromString(id);
-      context.repository().findById(timerId).ifPresentOrElse(
-        entity -> regroupTimer(context.mapper().toDescriptor(entity), context),
+      context.repository().findById(timerId).map(context.mapper()::toDescriptor).ifPresentOrElse(
+        descriptor -> addRegroupableTimer(descriptor, descriptors),
         () -> log.warn("Enabled timer not found by id, skipping [timerId: {}]", timerId));
     }
+
+    if (descriptors.isEmpty()) {
+      return;
+    }
+
+    deleteDefaultGroupJobs(context.scheduler(), mapItems(descriptors, TimerDescriptor::getId));
+    scheduleWithContext(context, descriptors);
+    descriptors.forEach(descriptor ->
+      log.info("Regrouped timer [timerId: {}, type: {}]", descriptor.getId(), descriptor.getType()));
   }
 
-  private void regroupTimer(TimerDescriptor descriptor, MigrationContext context) {
-    var timerId = descriptor.getId();
+  private static void addRegroupableTimer(TimerDescriptor descriptor, List<TimerDescriptor> descriptors) {
     if (descriptor.getType() == TimerType.USER && descriptor.getUserId() == null) {
-      log.warn("Skipping regroup of user timer without a user id [timerId: {}]", timerId);
+      log.warn("Skipping regroup of user timer without a user id [timerId: {}]", descriptor.getId());
       return;
     }
-
-    deleteDefaultGroupJob(context.scheduler(), timerId);
-    scheduleWithContext(context, descriptor);
-    log.info("Regrouped timer [timerId: {}, type: {}]", timerId, descriptor.getType());
+    descriptors.add(descriptor);
   }
 
-  private static void scheduleWithContext(MigrationContext context, TimerDescriptor descriptor) {
+  private static void scheduleWithContext(MigrationContext context, List<TimerDescriptor> descriptors) {
     try (var ignored = new FolioExecutionContextSetter(context.moduleMetadata(), buildHeaders(context.tenantId()))) {
-      context.jobSchedulingService().schedule(descriptor);
+      context.jobSchedulingService().scheduleAll(descriptors);
     }
   }
 
-  private static void deleteDefaultGroupJob(Scheduler scheduler, UUID timerId) {
+  private static void deleteDefaultGroupJobs(Scheduler scheduler, List<UUID> timerIds) {
     try {
-      scheduler.deleteJob(jobKey(timerId.toString()));
-      log.info("Deleted existing scheduled job in the DEFAULT group for timer [timerId: {}]", timerId);
+      scheduler.deleteJobs(mapItems(timerIds, timerId -> jobKey(timerId.toString())));
+      log.info("Deleted existing scheduled jobs in the DEFAULT group [timerIds: {}]", timerIds);
     } catch (SchedulerException e) {
-      throw new MigrationException("Failed to delete existing scheduled job for timer " + timerId, e);
+      throw new MigrationException("Failed to delete existing scheduled jobs for timers " + timerIds, e);
     }
   }
 
@@ -1,5 +1,7 @@
 package org.folio.scheduler.migration;
 
+import static org.folio.common.utils.CollectionUtils.mapItems;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -50,7 +52,7 @@ public class SplitTimersByMethodMigration extends AbstractCustomTaskChangeMigrat
     if (timerEnabled) {
       log.info("Scheduling jobs for timers {} for methods {}", newTimers.stream().map(TimerDescriptorEntity::getId),
         timerRoutingEntryHttpMethods);
-      newTimers.stream().map(TimerDescriptorEntity::getTimerDescriptor).forEach(jobSchedulingService::schedule);
+      jobSchedulingService.scheduleAll(mapItems(newTimers, TimerDescriptorEntity::getTimerDescriptor));
     }
   }
 
@@ -35,14 +35,12 @@ public class UnscheduleDuplicatesMigration extends AbstractCustomTaskChangeMigra
     if (!idsOfTimersToUnschedule.isEmpty()) {
       log.info("Found {} duplicate timers - unscheduling", idsOfTimersToUnschedule.size());
       var scheduler = springApplicationContext.getBean(Scheduler.class);
-      idsOfTimersToUnschedule.forEach(timerId -> {
-        try {
-          log.info("Unscheduling timer {}", timerId);
-          scheduler.deleteJob(JobKey.jobKey(timerId));
-        } catch (SchedulerException e) {
-          log.error("Failed to unschedule timer {}", timerId, e);
-        }
-      });
+      try {
+        log.info("Unscheduling timers {}", idsOfTimersToUnschedule);
+        scheduler.deleteJobs(idsOfTimersToUnschedule.stream().map(JobKey::jobKey).toList());
+      } catch (SchedulerException e) {
+        log.error("Failed to unschedule timers {}", idsOfTimersToUnschedule, e);
+      }
     }
   }
 }
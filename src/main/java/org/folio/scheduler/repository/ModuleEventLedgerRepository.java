@@ -0,0 +1,8 @@
+package org.folio.scheduler.repository;
+
+import org.folio.scheduler.domain.entity.ModuleEventLedgerEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ModuleEventLedgerRepository extends JpaRepository<ModuleEventLedgerEntity, String> {}
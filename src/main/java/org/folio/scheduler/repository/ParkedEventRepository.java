@@ -0,0 +1,153 @@
+package org.folio.scheduler.repository;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.domain.model.ParkedEvent;
+import org.folio.scheduler.domain.model.ParkedEventType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Accesses the module-wide table of parked Kafka events with plain JDBC, the table is not bound to a tenant schema.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParkedEventRepository {
+
+  private static final String INSERT_SQL = """
+    INSERT INTO sys_quartz_mod_scheduler.parked_event
+      (type, tenant, topic, partition_number, record_offset, payload, reason, parked_at, due_at)
+    VALUES (?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?)""";
+
+  /**
+   * Selects tenants whose first parked event is due, later events of a tenant are replayed after the first one.
+   */
+  private static final String SELECT_DUE_TENANTS_SQL = """
+    SELECT tenant FROM (
+      SELECT DISTINCT ON (tenant) tenant, due_at FROM sys_quartz_mod_scheduler.parked_event ORDER BY tenant, id
+    ) AS first_events
+    WHERE due_at <= ?""";
+
+  /**
+   * Session-level advisory lock of a tenant, the first key separates replay locks from other advisory locks.
+   */
+  private static final String TRY_LOCK_TENANT_SQL =
+    "SELECT pg_try_advisory_lock(hashtext('parked_event'), hashtext(?))";
+  private static final String UNLOCK_TENANT_SQL = "SELECT pg_advisory_unlock(hashtext('parked_event'), hashtext(?))";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Saves a parked event, the id is generated by the database.
+   *
+   * @param event - parked event to save
+   */
+  public void insert(ParkedEvent event) {
+    jdbcTemplate.update(INSERT_SQL, event.type().name(), event.tenant(), event.topic(), event.partition(),
+      event.offset(), event.payload(), event.reason(), event.parkedAt(), event.dueAt());
+  }
+
+  public boolean existsByTenant(String tenant) {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+      "SELECT EXISTS (SELECT 1 FROM sys_quartz_mod_scheduler.parked_event WHERE tenant = ?)", Boolean.class, tenant));
+  }
+
+  public List<String> findTenantsWithDueEvents(OffsetDateTime now) {
+    return jdbcTemplate.queryForList(SELECT_DUE_TENANTS_SQL, String.class, now);
+  }
+
+  /**
+   * Runs the action while holding the advisory lock of a tenant, so parked events of the tenant are replayed by a
+   * single module instance at a time.
+   *
+   * <p>
+   * The lock is held by a dedicated connection for the whole action and released when the action completes, or by
+   * PostgreSQL when the connection is closed, so it neither expires during a long replay nor outlives a killed
+   * instance. The action must not run in a transaction bound to the same connection.
+   * </p>
+   *
+   * @param tenant - tenant to lock
+   * @param action - action to run under the lock
+   * @return true if the action was run, false if the tenant is locked by another module instance
+   */
+  public boolean runWithTenantLock(String tenant, Runnable action) {
+    return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+      if (!queryLock(connection, TRY_LOCK_TENANT_SQL, tenant)) {
+        return false;
+      }
+
+      try {
+        action.run();
+      } finally {
+        queryLock(connection, UNLOCK_TENANT_SQL, tenant);
+      }
+      return true;
+    }));
+  }
+
+  public List<ParkedEvent> findByTenant(String tenant, int limit) {
+    return jdbcTemplate.query("SELECT * FROM sys_quartz_mod_scheduler.parked_event WHERE tenant = ? ORDER BY id "
+      + "LIMIT ?", ParkedEventRepository::toParkedEvent, tenant, limit);
+  }
+
+  public void postpone(long id, OffsetDateTime dueAt, String reason) {
+    jdbcTemplate.update("UPDATE sys_quartz_mod_scheduler.parked_event SET due_at = ?, reason = ?, "
+      + "attempts = attempts + 1 WHERE id = ?", dueAt, reason, id);
+  }
+
+  public void deleteById(long id) {
+    jdbcTemplate.update("DELETE FROM sys_quartz_mod_scheduler.parked_event WHERE id = ?", id);
+  }
+
+  /**
+   * Makes all parked events of a tenant due at the given date.
+   *
+   * @param tenant - tenant of events
+   * @param dueAt - date to replay events after
+   * @return number of updated events
+   */
+  public int updateDueDate(String tenant, OffsetDateTime dueAt) {
+    return jdbcTemplate.update("UPDATE sys_quartz_mod_scheduler.parked_event SET due_at = ? WHERE tenant = ?",
+      dueAt, tenant);
+  }
+
+  public long count() {
+    var count = jdbcTemplate.queryForObject("SELECT count(*) FROM sys_quartz_mod_scheduler.parked_event", Long.class);
+    return count != null ? count : 0L;
+  }
+
+  public Optional<OffsetDateTime> findOldestParkedAt() {
+    return Optional.ofNullable(jdbcTemplate.queryForObject(
+      "SELECT min(parked_at) FROM sys_quartz_mod_scheduler.parked_event", OffsetDateTime.class));
+  }
+
+  private static boolean queryLock(Connection connection, String sql, String tenant) throws SQLException {
+    try (var statement = connection.prepareStatement(sql)) {
+      statement.setString(1, tenant);
+      try (var resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private static ParkedEvent toParkedEvent(ResultSet rs, int rowNum) throws SQLException {
+    return new ParkedEvent(
+      rs.getLong("id"),
+      ParkedEventType.valueOf(rs.getString("type")),
+      rs.getString("tenant"),
+      rs.getString("topic"),
+      rs.getInt("partition_number"),
+      rs.getLong("record_offset"),
+      rs.getString("payload"),
+      rs.getString("reason"),
+      rs.getInt("attempts"),
+      rs.getObject("parked_at", OffsetDateTime.class),
+      rs.getObject("due_at", OffsetDateTime.class));
+  }
+}
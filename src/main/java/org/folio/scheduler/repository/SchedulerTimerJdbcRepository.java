@@ -0,0 +1,216 @@
+package org.folio.scheduler.repository;
+
+import static org.folio.common.utils.CollectionUtils.mapItems;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
+import org.folio.scheduler.domain.model.TimerRow;
+import org.folio.scheduler.domain.model.TimerType;
+import org.folio.scheduler.domain.model.TimerUpsertResult;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Accesses timers with plain JDBC, bypassing the persistence context, for bulk reads and single-statement writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerTimerJdbcRepository {
+
+  private static final String SELECT_TIMERS_SQL = """
+    SELECT id, type, user_id, timer_descriptor, created_date, created_by_user_id, updated_date, updated_by_user_id
+    FROM timer""";
+
+  /**
+   * Inserts a timer or updates the one with the same natural key. The previous descriptor is read by the CTE, which
+   * sees the table as it was before the statement and locks the existing row. {@code xmax} of a freshly inserted row
+   * version is 0, so it tells an insert from an update.
+   */
+  private static final String UPSERT_TIMER_SQL = """
+    WITH previous AS (SELECT timer_descriptor FROM timer WHERE natural_key = ? FOR UPDATE)
+    INSERT INTO timer AS t (id, type, module_name, module_id, natural_key, timer_descriptor, user_id,
+      created_date, created_by_user_id, updated_date, updated_by_user_id)
+    VALUES (?, ?::timer_type, ?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?)
+    ON CONFLICT (natural_key) DO UPDATE SET
+      type = EXCLUDED.type,
+      module_id = EXCLUDED.module_id,
+      timer_descriptor = jsonb_set(EXCLUDED.timer_descriptor, '{id}', to_jsonb(t.id)) || '{"modified": true}'::jsonb,
+      user_id = CASE WHEN ?::boolean THEN COALESCE(EXCLUDED.user_id, t.user_id)
+        ELSE COALESCE(t.user_id, EXCLUDED.user_id) END,
+      updated_date = EXCLUDED.updated_date,
+      updated_by_user_id = EXCLUDED.updated_by_user_id
+    RETURNING t.id, t.type, t.user_id, t.timer_descriptor, t.created_date, t.created_by_user_id, t.updated_date,
+      t.updated_by_user_id, t.xmax = 0 AS inserted, (SELECT timer_descriptor FROM previous) AS previous_descriptor""";
+
+  /**
+   * Inserts or updates a chunk of timers by natural key, as {@link #UPSERT_TIMER_SQL} does for a single timer. Timers
+   * are passed as arrays of column values, and the previous descriptor of each row is joined by its natural key.
+   */
+  private static final String UPSERT_TIMERS_SQL = """
+    WITH input AS (
+      SELECT * FROM unnest(?::uuid[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::uuid[])
+        AS i(id, type, module_name, module_id, natural_key, timer_descriptor, user_id)),
+    previous AS (
+      SELECT t.natural_key, t.timer_descriptor FROM timer t JOIN input i ON i.natural_key = t.natural_key
+      FOR UPDATE OF t)
+    INSERT INTO timer AS t (id, type, module_name, module_id, natural_key, timer_descriptor, user_id,
+      created_date, created_by_user_id, updated_date, updated_by_user_id)
+    SELECT id, type::timer_type, module_name, module_id, natural_key, timer_descriptor::jsonb, user_id, ?, ?, ?, ?
+    FROM input
+    ON CONFLICT (natural_key) DO UPDATE SET
+      type = EXCLUDED.type,
+      module_id = EXCLUDED.module_id,
+      timer_descriptor = jsonb_set(EXCLUDED.timer_descriptor, '{id}', to_jsonb(t.id)) || '{"modified": true}'::jsonb,
+      user_id = CASE WHEN ?::boolean THEN COALESCE(EXCLUDED.user_id, t.user_id)
+        ELSE COALESCE(t.user_id, EXCLUDED.user_id) END,
+      updated_date = EXCLUDED.updated_date,
+      updated_by_user_id = EXCLUDED.updated_by_user_id
+    RETURNING t.id, t.type, t.user_id, t.timer_descriptor, t.created_date, t.created_by_user_id, t.updated_date,
+      t.updated_by_user_id, t.natural_key, t.xmax = 0 AS inserted,
+      (SELECT p.timer_descriptor FROM previous p WHERE p.natural_key = t.natural_key) AS previous_descriptor""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Retrieves a chunk of timers ordered by id, starting after the given id.
+   *
+   * @param afterId - id of the last timer of the previous chunk, {@code null} for the first chunk
+   * @param moduleName - module name to filter by, ignored if {@code null}
+   * @param type - timer type to filter by, ignored if {@code null}
+   * @param limit - max amount of timers to return
+   * @return list with found timers
+   */
+  public List<TimerRow> findChunk(UUID afterId, String moduleName, TimerType type, int limit) {
+    var conditions = new ArrayList<String>();
+    var args = new ArrayList<>();
+    if (afterId != null) {
+      conditions.add("id > ?");
+      args.add(afterId);
+    }
+    if (moduleName != null) {
+      conditions.add("module_name = ?");
+      args.add(moduleName);
+    }
+    if (type != null) {
+      conditions.add("type = ?::timer_type");
+      args.add(type.name());
+    }
+
+    var where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    args.add(limit);
+    return jdbcTemplate.query(SELECT_TIMERS_SQL + where + " ORDER BY id LIMIT ?", this::mapRow, args.toArray());
+  }
+
+  /**
+   * Inserts a timer or updates the existing one with the same natural key in a single statement.
+   *
+   * <p>
+   * The updated timer keeps its id, creation audit fields and, unless {@code refreshUserId} is set, its user id; its
+   * descriptor is marked as modified.
+   * </p>
+   *
+   * @param entity - timer to save, the natural key must be set
+   * @param auditUserId - user performing the operation, may be {@code null}
+   * @param auditDate - date of the operation
+   * @param refreshUserId - whether the user id of the existing timer is replaced with the one of the given timer
+   * @return {@link TimerUpsertResult} with the saved row and the descriptor before the update
+   */
+  public TimerUpsertResult upsert(TimerDescriptorEntity entity, UUID auditUserId, OffsetDateTime auditDate,
+    boolean refreshUserId) {
+    var timerDescriptor = objectMapper.writeValueAsString(entity.getTimerDescriptor());
+    return jdbcTemplate.queryForObject(UPSERT_TIMER_SQL, this::mapUpsertResult,
+      entity.getNaturalKey(), entity.getId(), entity.getType().name(), entity.getModuleName(), entity.getModuleId(),
+      entity.getNaturalKey(), timerDescriptor, entity.getUserId(), auditDate, auditUserId, auditDate, auditUserId,
+      refreshUserId);
+  }
+
+  /**
+   * Inserts timers or updates the existing ones with the same natural keys in a single statement, as
+   * {@link #upsert(TimerDescriptorEntity, UUID, OffsetDateTime, boolean)} does for a single timer.
+   *
+   * @param entities - timers to save, natural keys must be set and unique
+   * @param auditUserId - user performing the operation, may be {@code null}
+   * @param auditDate - date of the operation
+   * @param refreshUserId - whether the user ids of the existing timers are replaced with the ones of the given timers
+   * @return list with {@link TimerUpsertResult} of each timer, in the order of the given timers
+   */
+  public List<TimerUpsertResult> upsertAll(List<TimerDescriptorEntity> entities, UUID auditUserId,
+    OffsetDateTime auditDate, boolean refreshUserId) {
+    if (entities.isEmpty()) {
+      return List.of();
+    }
+
+    var upsertResults = new HashMap<String, TimerUpsertResult>();
+    jdbcTemplate.query(UPSERT_TIMERS_SQL, ps -> {
+      var connection = ps.getConnection();
+      ps.setArray(1, toArray(connection, "uuid", entities, TimerDescriptorEntity::getId));
+      ps.setArray(2, toArray(connection, "text", entities, entity -> entity.getType().name()));
+      ps.setArray(3, toArray(connection, "text", entities, TimerDescriptorEntity::getModuleName));
+      ps.setArray(4, toArray(connection, "text", entities, TimerDescriptorEntity::getModuleId));
+      ps.setArray(5, toArray(connection, "text", entities, TimerDescriptorEntity::getNaturalKey));
+      ps.setArray(6, toArray(connection, "text", entities,
+        entity -> objectMapper.writeValueAsString(entity.getTimerDescriptor())));
+      ps.setArray(7, toArray(connection, "uuid", entities, TimerDescriptorEntity::getUserId));
+      ps.setObject(8, auditDate);
+      ps.setObject(9, auditUserId);
+      ps.setObject(10, auditDate);
+      ps.setObject(11, auditUserId);
+      ps.setBoolean(12, refreshUserId);
+    }, resultSet -> {
+      upsertResults.put(resultSet.getString("natural_key"), mapUpsertResult(resultSet, upsertResults.size()));
+    });
+    return mapItems(entities, entity -> upsertResults.get(entity.getNaturalKey()));
+  }
+
+  /**
+   * Retrieves natural keys of the given timers that exist and have a user id.
+   *
+   * @param naturalKeys - natural keys of timers
+   * @return set with natural keys of found timers with a user id
+   */
+  public Set<String> findNaturalKeysWithUserId(Collection<String> naturalKeys) {
+    return new HashSet<>(jdbcTemplate.query(
+      "SELECT natural_key FROM timer WHERE natural_key = ANY (?) AND user_id IS NOT NULL",
+      ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", naturalKeys.toArray())),
+      (resultSet, rowNum) -> resultSet.getString("natural_key")));
+  }
+
+  private static Array toArray(Connection connection, String typeName, List<TimerDescriptorEntity> entities,
+    Function<TimerDescriptorEntity, Object> valueExtractor) throws SQLException {
+    return connection.createArrayOf(typeName, mapItems(entities, valueExtractor).toArray());
+  }
+
+  private TimerUpsertResult mapUpsertResult(ResultSet resultSet, int rowNum) throws SQLException {
+    var previousDescriptor = resultSet.getString("previous_descriptor");
+    return new TimerUpsertResult(mapRow(resultSet, rowNum), resultSet.getBoolean("inserted"),
+      previousDescriptor == null ? null : objectMapper.readValue(previousDescriptor, TimerDescriptor.class));
+  }
+
+  private TimerRow mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+    return new TimerRow(
+      resultSet.getObject("id", UUID.class),
+      TimerType.valueOf(resultSet.getString("type")),
+      resultSet.getObject("user_id", UUID.class),
+      objectMapper.readValue(resultSet.getString("timer_descriptor"), TimerDescriptor.class),
+      resultSet.getObject("created_date", OffsetDateTime.class),
+      resultSet.getObject("created_by_user_id", UUID.class),
+      resultSet.getObject("updated_date", OffsetDateTime.class),
+      resultSet.getObject("updated_by_user_id", UUID.class));
+  }
+}
@@ -3,11 +3,11 @@ package org.folio.scheduler.repository;
 import jakarta.transaction.Transactional;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
 import org.folio.scheduler.domain.model.TimerType;
 import org.folio.spring.cql.JpaCqlRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,20 +18,56 @@ public interface SchedulerTimerRepository extends JpaCqlRepository<TimerDescript
 
   List<TimerDescriptorEntity> findByModuleNameAndType(String moduleName, TimerType type);
 
-  Optional<TimerDescriptorEntity> findByNaturalKey(String naturalKey);
+  /**
+   * Retrieves a page of timers without counting the total amount of timers.
+   *
+   * @param pageable - page request
+   * @return list with found timers
+   */
+  List<TimerDescriptorEntity> findAllBy(Pageable pageable);
 
-  @Query(value = "SELECT * FROM timer "
-    + "WHERE module_name = :moduleName "
-    + "AND COALESCE((timer_descriptor ->> 'enabled')::boolean, false) != :enabled",
+  /**
+   * Retrieves a page of timers with ids greater than given one, used for keyset pagination.
+   *
+   * @param id - id of the last timer from the previous page
+   * @param pageable - page request, sorted by id
+   * @return list with found timers
+   */
+  List<TimerDescriptorEntity> findByIdGreaterThan(UUID id, Pageable pageable);
+
+  /**
+   * Returns the estimated amount of timers from the table statistics.
+   *
+   * @return estimated amount of timers, negative value if the table has not been analyzed yet
+   */
+  @Query(value = "SELECT COALESCE((SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('timer')), -1)",
     nativeQuery = true)
+  long estimateCount();
+
+  /**
+   * Finds module timers which are not in the given enabled state, using the generated and indexed {@code enabled}
+   * column.
+   *
+   * @param moduleName - module name
+   * @param enabled - target enabled state
+   * @return timers to switch to the given enabled state
+   */
+  @Query(value = "SELECT * FROM timer WHERE module_name = :moduleName AND enabled != :enabled", nativeQuery = true)
   List<TimerDescriptorEntity> findByModuleNameAndEnabledState(@Param("moduleName") String moduleName,
     @Param("enabled") boolean enabled);
 
+  /**
+   * Switches the enabled state of timers by ids. The descriptor is the source of truth: the generated {@code enabled}
+   * column follows it, and rows already in the given state are not rewritten.
+   *
+   * @param ids - timer ids
+   * @param enabled - target enabled state
+   */
   @Transactional
   @Modifying
   @Query(value = "UPDATE timer "
     + "SET timer_descriptor = jsonb_set(timer_descriptor, '{enabled}', to_jsonb(:enabled)) "
-    + "WHERE id in (:ids)",
+    + "WHERE id in (:ids) AND enabled != :enabled",
     nativeQuery = true)
   void switchTimersByIds(@Param("ids") Collection<UUID> ids, @Param("enabled") boolean enabled);
 }
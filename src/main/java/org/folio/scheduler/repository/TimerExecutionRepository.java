@@ -0,0 +1,87 @@
+package org.folio.scheduler.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.domain.dto.TimerExecution;
+import org.folio.scheduler.domain.model.TimerExecutionEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Accesses the execution history of timers with plain JDBC, the history is written in batches off the timer fire path.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimerExecutionRepository {
+
+  /**
+   * Skips executions of timers deleted after the fire, so a single one does not fail the whole batch with a foreign
+   * key violation.
+   */
+  private static final String INSERT_SQL = """
+    INSERT INTO timer_execution (timer_id, started_at, duration_ms, outcome, retries, http_status)
+    SELECT ?, ?, ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM timer WHERE id = ?)""";
+
+  /**
+   * Deletes all but the given amount of the latest executions of each timer.
+   */
+  private static final String TRIM_SQL = """
+    DELETE FROM timer_execution WHERE id IN (
+      SELECT id FROM (
+        SELECT id, row_number() OVER (PARTITION BY timer_id ORDER BY id DESC) AS position
+        FROM timer_execution WHERE timer_id = ANY (?)
+      ) AS ranked
+      WHERE position > ?)""";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Saves executions in a single JDBC batch and trims the history of their timers to the given size.
+   *
+   * @param entries - executions of timers of the same tenant
+   * @param historySize - max amount of executions kept per timer
+   */
+  public void insertAll(List<TimerExecutionEntry> entries, int historySize) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+      ps.setObject(1, entry.timerId());
+      ps.setObject(2, entry.startedAt());
+      ps.setLong(3, entry.durationMs());
+      ps.setString(4, entry.outcome());
+      ps.setInt(5, entry.retries());
+      ps.setObject(6, entry.httpStatus(), Types.INTEGER);
+      ps.setObject(7, entry.timerId());
+    });
+
+    var timerIds = entries.stream().map(TimerExecutionEntry::timerId).distinct().toArray();
+    jdbcTemplate.update(TRIM_SQL, ps -> {
+      ps.setArray(1, ps.getConnection().createArrayOf("uuid", timerIds));
+      ps.setInt(2, historySize);
+    });
+  }
+
+  /**
+   * Retrieves the last saved execution of a timer.
+   *
+   * @param timerId - timer id
+   * @return found execution, empty if the timer has no saved executions
+   */
+  public Optional<TimerExecution> findLast(UUID timerId) {
+    return jdbcTemplate.query("SELECT * FROM timer_execution WHERE timer_id = ? ORDER BY id DESC LIMIT 1",
+      TimerExecutionRepository::toTimerExecution, timerId).stream().findFirst();
+  }
+
+  private static TimerExecution toTimerExecution(ResultSet rs, int rowNum) throws SQLException {
+    return new TimerExecution()
+      .startedAt(rs.getObject("started_at", OffsetDateTime.class))
+      .durationMs(rs.getLong("duration_ms"))
+      .outcome(rs.getString("outcome"))
+      .retries(rs.getInt("retries"))
+      .httpStatus(rs.getObject("http_status", Integer.class));
+  }
+}
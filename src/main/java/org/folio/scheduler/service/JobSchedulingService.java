@@ -7,16 +7,15 @@ import static java.time.Duration.ofMinutes;
 import static java.time.Duration.ofSeconds;
 import static java.util.Map.entry;
 import static java.util.Objects.requireNonNull;
-import static java.util.TimeZone.getTimeZone;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
-import static org.apache.commons.lang3.ObjectUtils.getIfNull;
 import static org.apache.commons.lang3.math.NumberUtils.createLong;
 import static org.folio.scheduler.domain.dto.TimerUnit.DAY;
 import static org.folio.scheduler.domain.dto.TimerUnit.HOUR;
 import static org.folio.scheduler.domain.dto.TimerUnit.MILLISECOND;
 import static org.folio.scheduler.domain.dto.TimerUnit.MINUTE;
 import static org.folio.scheduler.domain.dto.TimerUnit.SECOND;
-import static org.folio.scheduler.utils.CronUtils.convertToQuartz;
+import static org.folio.scheduler.utils.CronUtils.getCronExpression;
 import static org.folio.scheduler.utils.TimerDescriptorUtils.evalModuleName;
 import static org.quartz.CronScheduleBuilder.cronSchedule;
 import static org.quartz.JobKey.jobKey;
@@ -26,12 +25,17 @@ import static org.quartz.TriggerKey.triggerKey;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.scheduler.configuration.properties.SystemTimerConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TimerSchedulingConfigurationProperties;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerType;
 import org.folio.scheduler.domain.dto.TimerUnit;
@@ -41,10 +45,12 @@ import org.folio.scheduler.utils.Validate;
 import org.folio.spring.FolioExecutionContext;
 import org.quartz.CronTrigger;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
 import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,6 +62,7 @@ public class JobSchedulingService {
   private final Scheduler scheduler;
   private final FolioExecutionContext folioExecutionContext;
   private final SystemTimerConfigurationProperties systemTimerConfigurationProperties;
+  private final TimerSchedulingConfigurationProperties timerSchedulingConfigurationProperties;
 
   /**
    * Contains multiplication value to convert request delay to milliseconds.
@@ -96,7 +103,8 @@ public class JobSchedulingService {
    * Re-schedules recurring job.
    *
    * <p>
-   * This method only changes the trigger for existing task.
+   * This method only changes the trigger for existing task. The job of a timer that was disabled has been deleted, so
+   * it is stored again with its trigger when the timer is enabled.
    * </p>
    *
    * @param oldTimerDescriptor - previous recurring job descriptor
@@ -129,6 +137,137 @@ public class JobSchedulingService {
     }
   }
 
+  /**
+   * Schedules recurring jobs in bulk.
+   *
+   * <p>
+   * Jobs are stored in chunks of {@code application.timer.scheduling.batch-size} using a single
+   * {@link Scheduler#scheduleJobs(Map, boolean)} call per chunk. Disabled timers are skipped. If any job of a chunk
+   * already exists, the chunk is scheduled timer by timer via {@link #schedule(TimerDescriptor)}, so existing jobs are
+   * left untouched as for a single timer.
+   * </p>
+   *
+   * @param timerDescriptors - recurring job descriptors
+   */
+  @Transactional
+  public void scheduleAll(Collection<TimerDescriptor> timerDescriptors) {
+    for (var chunk : partition(getEnabledTimers(timerDescriptors), getBatchSize())) {
+      storeJobs(chunk, false);
+    }
+  }
+
+  /**
+   * Re-schedules recurring jobs in bulk.
+   *
+   * <p>
+   * Job details and triggers of enabled timers are stored with replacement of existing ones, jobs of disabled timers
+   * are deleted. In contrast to {@link #reschedule(TimerDescriptor, TimerDescriptor)}, triggers are always replaced,
+   * so the next fire time of an unchanged trigger is recalculated.
+   * </p>
+   *
+   * @param timerDescriptors - recurring job descriptors
+   */
+  @Transactional
+  public void rescheduleAll(Collection<TimerDescriptor> timerDescriptors) {
+    deleteAll(timerDescriptors.stream().filter(JobSchedulingService::isTriggerDisabled).toList());
+    for (var chunk : partition(getEnabledTimers(timerDescriptors), getBatchSize())) {
+      storeJobs(chunk, true);
+    }
+  }
+
+  /**
+   * Deletes recurring jobs in bulk, using a single {@link Scheduler#deleteJobs(List)} call per chunk.
+   *
+   * @param timerDescriptors - recurring job descriptors
+   */
+  @Transactional
+  public void deleteAll(Collection<TimerDescriptor> timerDescriptors) {
+    var jobKeys = timerDescriptors.stream().map(this::getJobKey).toList();
+    for (var chunk : partition(jobKeys, getBatchSize())) {
+      try {
+        scheduler.deleteJobs(chunk);
+      } catch (SchedulerException exception) {
+        log.error("Failed to delete jobs [count: {}] : {}", chunk.size(), exception.getMessage());
+        throw new TimerSchedulingException("Failed to delete jobs", exception);
+      }
+    }
+  }
+
+  /**
+   * Deletes all recurring jobs of the current tenant.
+   *
+   * <p>
+   * Jobs are looked up by the {@code <tenant>#} group prefix instead of timer descriptors, so jobs are removed even if
+   * the timer table has already been purged, and deleted using a single {@link Scheduler#deleteJobs(List)} call per
+   * chunk. The group prefix is matched with SQL {@code LIKE} by the JDBC job store, where {@code _} in tenant id is a
+   * wildcard, so returned keys are filtered once again by the exact prefix.
+   * </p>
+   *
+   * @return number of deleted jobs
+   */
+  @Transactional
+  public int deleteAllTenantJobs() {
+    var groupPrefix = ScheduledJobDetail.tenantGroupPrefix(folioExecutionContext.getTenantId());
+    try {
+      var jobKeys = scheduler.getJobKeys(GroupMatcher.jobGroupStartsWith(groupPrefix)).stream()
+        .filter(jobKey -> jobKey.getGroup().startsWith(groupPrefix))
+        .toList();
+      for (var chunk : partition(jobKeys, getBatchSize())) {
+        scheduler.deleteJobs(chunk);
+      }
+      return jobKeys.size();
+    } catch (SchedulerException exception) {
+      log.error("Failed to delete tenant jobs [groupPrefix: {}] : {}", groupPrefix, exception.getMessage());
+      throw new TimerSchedulingException("Failed to delete tenant jobs", exception);
+    }
+  }
+
+  /**
+   * Checks if the trigger of a recurring job must be replaced when a timer is updated.
+   *
+   * @param oldTimerDescriptor - previous recurring job descriptor
+   * @param timerDescriptor    - new recurring job descriptor
+   * @return true if the timer has been enabled, disabled or its schedule has changed
+   */
+  static boolean isTriggerChanged(TimerDescriptor oldTimerDescriptor, TimerDescriptor timerDescriptor) {
+    var isDisabled = isTriggerDisabled(timerDescriptor);
+    if (isDisabled != isTriggerDisabled(oldTimerDescriptor)) {
+      return true;
+    }
+    return !isDisabled && !isTimerNotUpdated(oldTimerDescriptor, timerDescriptor);
+  }
+
+  private void storeJobs(List<TimerDescriptor> timerDescriptors, boolean replace) {
+    var triggersAndJobs = new LinkedHashMap<JobDetail, Set<? extends Trigger>>();
+    for (var timerDescriptor : timerDescriptors) {
+      triggersAndJobs.put(getJobDetail(timerDescriptor), Set.of(getTrigger(timerDescriptor)));
+    }
+
+    try {
+      scheduler.scheduleJobs(triggersAndJobs, replace);
+    } catch (ObjectAlreadyExistsException alreadyExistsException) {
+      log.debug("Some of recurring jobs already exist, scheduling them one by one [count: {}]",
+        timerDescriptors.size());
+      timerDescriptors.forEach(this::schedule);
+    } catch (SchedulerException exception) {
+      log.error("Failed to schedule jobs [count: {}] : {}", timerDescriptors.size(), exception.getMessage());
+      throw new TimerSchedulingException("Failed to schedule jobs", exception);
+    }
+  }
+
+  private static List<TimerDescriptor> getEnabledTimers(Collection<TimerDescriptor> timerDescriptors) {
+    return timerDescriptors.stream().filter(timerDescriptor -> !isTriggerDisabled(timerDescriptor)).toList();
+  }
+
+  private int getBatchSize() {
+    return Math.max(1, timerSchedulingConfigurationProperties.getBatchSize());
+  }
+
+  private JobKey getJobKey(TimerDescriptor timerDescriptor) {
+    requireNonNull(timerDescriptor.getId(), "Timer descriptor id cannot be null");
+    return jobKey(timerDescriptor.getId().toString(), jobGroup(timerDescriptor));
+  }
+
   private void rescheduleJob(TimerDescriptor oldDesc, TimerDescriptor newDesc) throws SchedulerException {
     if (isTriggerDisabled(newDesc)) {
       deleteRecurringJobIfPresent(oldDesc);
@@ -136,6 +275,12 @@ public class JobSchedulingService {
     }
 
     var timerId = newDesc.getId().toString();
+    if (isTriggerDisabled(oldDesc)) {
+      scheduler.scheduleJob(getJobDetail(newDesc), Set.of(getTrigger(newDesc)), true);
+      log.info("Recurring job is scheduled, timer is enabled [timerId: {}]", timerId);
+      return;
+    }
+
     if (isTimerNotUpdated(oldDesc, newDesc)) {
       log.info("Recurring job trigger is not updated [timerId: {}]", timerId);
       return;
@@ -219,12 +364,11 @@ public class JobSchedulingService {
     var timerId = timerDescriptor.getId().toString();
     var group = jobGroup(timerDescriptor);
     var schedule = timerDescriptor.getRoutingEntry().getSchedule();
-    var timeZone = getIfNull(schedule.getZone(), "UTC");
-    var cron = schedule.getCron();
-    var cronExpression = convertToQuartz(cron);
+    // the cached expression already has the time zone set, so it is not changed by the trigger
+    var cronExpression = getCronExpression(schedule.getCron(), schedule.getZone());
     return newTrigger()
       .withIdentity(triggerKey(timerId, group))
-      .withSchedule(cronSchedule(cronExpression).inTimeZone(getTimeZone(timeZone)))
+      .withSchedule(cronSchedule(cronExpression))
       .forJob(jobKey(timerId, group))
       .build();
   }
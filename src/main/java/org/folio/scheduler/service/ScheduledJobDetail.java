@@ -106,6 +106,20 @@ public final class ScheduledJobDetail {
     return tenantId + GROUP_SEPARATOR + moduleName;
   }
 
+  /**
+   * Returns the prefix shared by all Quartz job and trigger groups of a tenant, as {@code <tenant>#}.
+   *
+   * @param tenantId - tenant identifier, must not be blank
+   * @return the tenant group prefix
+   * @throws IllegalArgumentException if {@code tenantId} is blank
+   */
+  public static String tenantGroupPrefix(String tenantId) {
+    if (isBlank(tenantId)) {
+      throw new IllegalArgumentException("tenantId must not be blank");
+    }
+    return tenantId + GROUP_SEPARATOR;
+  }
+
   /**
    * Reconstructs a {@link ScheduledJobDetail} from a Quartz {@link JobDetail}.
    *
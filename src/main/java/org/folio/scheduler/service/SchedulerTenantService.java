@@ -2,6 +2,8 @@ package org.folio.scheduler.service;
 
 import lombok.extern.log4j.Log4j2;
 import org.folio.scheduler.integration.kafka.KafkaAdminService;
+import org.folio.scheduler.integration.kafka.ParkedEventService;
+import org.folio.scheduler.integration.kafka.TimerTableCheckService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.spring.service.TenantService;
@@ -17,24 +19,32 @@ public class SchedulerTenantService extends TenantService {
 
   private final KafkaAdminService kafkaAdminService;
   private final SchedulerTimerService schedulerTimerService;
+  private final TimerTableCheckService timerTableCheckService;
+  private final ParkedEventService parkedEventService;
 
   public SchedulerTenantService(JdbcTemplate jdbcTemplate, FolioExecutionContext context,
     FolioSpringLiquibase folioSpringLiquibase, KafkaAdminService kafkaAdminService,
-    SchedulerTimerService schedulerTimerService) {
+    SchedulerTimerService schedulerTimerService, TimerTableCheckService timerTableCheckService,
+    ParkedEventService parkedEventService) {
     super(jdbcTemplate, context, folioSpringLiquibase);
     this.kafkaAdminService = kafkaAdminService;
     this.schedulerTimerService = schedulerTimerService;
+    this.timerTableCheckService = timerTableCheckService;
+    this.parkedEventService = parkedEventService;
   }
 
   @Override
   protected void afterTenantUpdate(TenantAttributes tenantAttributes) {
-    kafkaAdminService.restartEventListeners();
+    timerTableCheckService.evictCache();
+    kafkaAdminService.refreshSubscriptions();
+    parkedEventService.releaseTenant(context.getTenantId());
     log.info("Tenant init has been completed");
   }
 
   @Override
   protected void beforeTenantDeletion(TenantAttributes tenantAttributes) {
     schedulerTimerService.deleteAll();
+    timerTableCheckService.evictCache();
     log.info("Tenant scheduled timers have been deleted");
   }
 }
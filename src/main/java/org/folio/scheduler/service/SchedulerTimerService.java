@@ -1,32 +1,50 @@
 package org.folio.scheduler.service;
 
 import static java.util.Objects.requireNonNullElseGet;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.scheduler.utils.TimerDescriptorUtils.evalModuleName;
 
 import jakarta.persistence.EntityExistsException;
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.scheduler.configuration.properties.TimerApiConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TimerSchedulingConfigurationProperties;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult.StatusEnum;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerType;
 import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
 import org.folio.scheduler.domain.model.SearchResult;
+import org.folio.scheduler.domain.model.TimerUpsertResult;
+import org.folio.scheduler.domain.model.TotalRecordsMode;
 import org.folio.scheduler.exception.RequestValidationException;
 import org.folio.scheduler.mapper.TimerDescriptorMapper;
+import org.folio.scheduler.repository.ModuleEventLedgerRepository;
+import org.folio.scheduler.repository.SchedulerTimerJdbcRepository;
 import org.folio.scheduler.repository.SchedulerTimerRepository;
+import org.folio.scheduler.repository.TimerExecutionRepository;
+import org.folio.scheduler.utils.CursorUtils;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,12 +53,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SchedulerTimerService {
 
+  private static final int BATCH_QUERY_SIZE = 1000;
+
   private final TimerDescriptorMapper mapper;
   private final JobSchedulingService jobSchedulingService;
   private final SchedulerTimerRepository repository;
-  private final EntityManager entityManager;
+  private final SchedulerTimerJdbcRepository jdbcRepository;
+  private final ModuleEventLedgerRepository moduleEventLedgerRepository;
   private final TimerApiConfigurationProperties timerApiConfigurationProperties;
+  private final TimerSchedulingConfigurationProperties timerSchedulingConfigurationProperties;
   private final FolioExecutionContext folioExecutionContext;
+  private final TimerExecutionRepository timerExecutionRepository;
 
   /**
    * Returns {@link Optional} of {@link TimerDescriptor} object by id.
@@ -50,62 +73,194 @@ public class SchedulerTimerService {
    */
   @Transactional(readOnly = true)
   public Optional<TimerDescriptor> findById(UUID uuid) {
-    return repository.findById(uuid).map(mapper::toDescriptor);
+    return repository.findById(uuid).map(mapper::toReadOnlyDescriptor);
   }
 
   @Transactional(readOnly = true)
   public List<TimerDescriptor> findByModuleNameAndType(String moduleName,
     org.folio.scheduler.domain.model.TimerType type) {
-    return mapItems(repository.findByModuleNameAndType(moduleName, type), mapper::toDescriptor);
+    return mapItems(repository.findByModuleNameAndType(moduleName, type), mapper::toReadOnlyDescriptor);
   }
 
   /**
    * Returns {@link TimerDescriptor} object by id.
    *
+   * <p>The result shares nested objects with the loaded entity, so it must not be modified.</p>
+   *
    * @param uuid - timer descriptor id as {@link UUID} object
    * @return found {@link TimerDescriptor} object.
    * @throws EntityNotFoundException if timer descriptor is not found by id.
    */
   @Transactional(readOnly = true)
   public TimerDescriptor getById(UUID uuid) {
-    return getByIdInternal(uuid);
+    return mapper.toReadOnlyDescriptor(getEntityById(uuid));
   }
 
   /**
-   * Retrieves all timer descriptors.
+   * Returns {@link TimerDescriptor} object by id with the last saved execution of the timer.
    *
-   * @return saved {@link TimerDescriptor} object
+   * <p>Only the top-level object of the result is not shared with the loaded entity, so only it is modified.</p>
+   *
+   * @param uuid - timer descriptor id as {@link UUID} object
+   * @return found {@link TimerDescriptor} object.
+   * @throws EntityNotFoundException if timer descriptor is not found by id.
+   */
+  @Transactional(readOnly = true)
+  public TimerDescriptor getByIdWithLastExecution(UUID uuid) {
+    var descriptor = mapper.toReadOnlyDescriptor(getEntityById(uuid));
+    timerExecutionRepository.findLast(uuid).ifPresent(descriptor::setLastExecution);
+    return descriptor;
+  }
+
+  /**
+   * Retrieves all timer descriptors using offset pagination.
+   *
+   * @param query - CQL query, all timers are retrieved if it's blank
+   * @param offset - amount of records to skip
+   * @param limit - max amount of records to return
+   * @param totalRecordsMode - defines how total amount of records is calculated
+   * @return {@link SearchResult} with found {@link TimerDescriptor} objects
    */
   @Transactional(readOnly = true)
-  public SearchResult<TimerDescriptor> getAll(String query, Integer offset, Integer limit) {
+  public SearchResult<TimerDescriptor> getAll(String query, Integer offset, Integer limit,
+    TotalRecordsMode totalRecordsMode) {
     var offsetRequest = OffsetRequest.of(offset, limit);
+    if (isBlank(query) && totalRecordsMode != TotalRecordsMode.EXACT) {
+      var timers = repository.findAllBy(offsetRequest);
+      return SearchResult.of(countTimers(totalRecordsMode), mapItems(timers, mapper::toReadOnlyDescriptor));
+    }
+
     var page = isBlank(query) ? repository.findAll(offsetRequest) : repository.findByCql(query, offsetRequest);
-    return SearchResult.of((int) page.getTotalElements(), page.map(mapper::toDescriptor).getContent());
+    var totalRecords = totalRecordsMode == TotalRecordsMode.NONE ? null : (int) page.getTotalElements();
+    return SearchResult.of(totalRecords, page.map(mapper::toReadOnlyDescriptor).getContent());
+  }
+
+  /**
+   * Retrieves all timer descriptors using keyset pagination over timer id.
+   *
+   * <p>
+   * In contrast to offset pagination, the cost of a page does not depend on its position. One extra record is fetched
+   * to find out if the next page exists.
+   * </p>
+   *
+   * @param query - CQL query, must be blank because it cannot be combined with keyset pagination
+   * @param cursor - cursor returned with the previous page, the first page is returned if it's blank
+   * @param limit - max amount of records to return
+   * @param totalRecordsMode - defines how total amount of records is calculated
+   * @return {@link SearchResult} with found {@link TimerDescriptor} objects and the cursor of the next page
+   * @throws RequestValidationException if query is not blank or cursor is invalid
+   */
+  @Transactional(readOnly = true)
+  public SearchResult<TimerDescriptor> getAllByCursor(String query, String cursor, int limit,
+    TotalRecordsMode totalRecordsMode) {
+    if (!isBlank(query)) {
+      throw new RequestValidationException("Cursor pagination cannot be combined with CQL query", "query", query);
+    }
+
+    var lastId = CursorUtils.decodeCursor(cursor);
+    if (limit <= 0) {
+      return SearchResult.of(countTimers(totalRecordsMode), List.of());
+    }
+
+    var pageRequest = PageRequest.of(0, limit + 1, Sort.by("id"));
+    var timers = lastId == null
+      ? repository.findAllBy(pageRequest)
+      : repository.findByIdGreaterThan(lastId, pageRequest);
+    var pageTimers = timers.size() > limit ? timers.subList(0, limit) : timers;
+    var nextCursor = timers.size() > limit ? CursorUtils.encodeCursor(pageTimers.getLast().getId()) : null;
+    return SearchResult.of(countTimers(totalRecordsMode), mapItems(pageTimers, mapper::toReadOnlyDescriptor))
+      .nextCursor(nextCursor);
   }
 
   /**
    * Saves timer descriptor.
    *
+   * <p>
+   * The timer is inserted, or the existing one with the same natural key is updated, with a single
+   * {@code INSERT ... ON CONFLICT} statement, so concurrent creations of the same timer do not fail. The job of an
+   * updated timer is rescheduled only if its trigger has changed.
+   * </p>
+   *
    * @param timerDescriptor - timer descriptor object to save.
    * @param requestOrigin   - indicates the origin of the operation
    * @return saved {@link TimerDescriptor} object
    */
   @Transactional
   public TimerDescriptor create(TimerDescriptor timerDescriptor, RequestOrigin requestOrigin) {
-    if (shouldEnforceSystemTimerProtection(requestOrigin)) {
-      rejectSystemTimerMutation(timerDescriptor);
+    var creatingDescriptor = validateAndPrepareForCreate(timerDescriptor, requestOrigin);
+
+    var upsertResult = upsert(creatingDescriptor);
+    var savedDescriptor = mapper.toDescriptor(upsertResult.row());
+    if (upsertResult.inserted()) {
+      jobSchedulingService.schedule(savedDescriptor);
+    } else {
+      rescheduleIfTriggerChanged(upsertResult.previousDescriptor(), savedDescriptor);
     }
-    validateCreate(timerDescriptor);
 
-    var creatingDescriptor = prepareDescriptorForCreate(timerDescriptor);
+    invalidateAppliedModuleEvents(requestOrigin, List.of(savedDescriptor));
+    return savedDescriptor;
+  }
 
-    var naturalKey = TimerDescriptorEntity.toNaturalKey(creatingDescriptor);
-    return repository.findByNaturalKey(naturalKey)
-      .map(existingTimer -> {
-        creatingDescriptor.setId(existingTimer.getId());
-        return doUpdate(creatingDescriptor);
-      })
-      .orElseGet(() -> doCreate(creatingDescriptor));
+  /**
+   * Saves timer descriptors.
+   *
+   * <p>
+   * Each descriptor is handled as in {@link #create(TimerDescriptor, RequestOrigin)}, but newly created timers are
+   * scheduled together with a single {@link JobSchedulingService#scheduleAll(Collection)} call.
+   * </p>
+   *
+   * @param timerDescriptors - timer descriptor objects to save.
+   * @param requestOrigin    - indicates the origin of the operation
+   * @return saved {@link TimerDescriptor} objects
+   */
+  @Transactional
+  public List<TimerDescriptor> createAll(List<TimerDescriptor> timerDescriptors, RequestOrigin requestOrigin) {
+    var savedDescriptors = new ArrayList<TimerDescriptor>(timerDescriptors.size());
+    var createdDescriptors = new LinkedHashMap<UUID, TimerDescriptor>();
+    for (var timerDescriptor : timerDescriptors) {
+      var creatingDescriptor = validateAndPrepareForCreate(timerDescriptor, requestOrigin);
+      savedDescriptors.add(createOrUpdateWithDeferredScheduling(creatingDescriptor, createdDescriptors));
+    }
+
+    jobSchedulingService.scheduleAll(createdDescriptors.values());
+    invalidateAppliedModuleEvents(requestOrigin, savedDescriptors);
+    return savedDescriptors;
+  }
+
+  /**
+   * Creates or updates timer descriptors in a single transaction.
+   *
+   * <p>
+   * Descriptors are inserted or updated by natural key as in {@link #create(TimerDescriptor, RequestOrigin)}, so
+   * concurrent batch and single creations of the same timer do not fail, but with a single statement per chunk of
+   * {@code application.timer.scheduling.batch-size} descriptors, and jobs are stored with the bulk Quartz API.
+   * Invalid descriptors, USER timers without a userId and repeated natural keys are reported as failed items and do
+   * not prevent the other descriptors from being saved.
+   * </p>
+   *
+   * @param timerDescriptors - timer descriptor objects to save.
+   * @param requestOrigin    - indicates the origin of the operation
+   * @return per-item results in the order of the given descriptors
+   */
+  @Transactional
+  public List<TimerBatchItemResult> createOrUpdateBatch(List<TimerDescriptor> timerDescriptors,
+    RequestOrigin requestOrigin) {
+    var existingIds = findExistingIds(timerDescriptors);
+    var results = new ArrayList<TimerBatchItemResult>(timerDescriptors.size());
+    var batchItems = new LinkedHashMap<String, BatchItem>();
+    var batchIds = new HashSet<UUID>();
+    for (var timerDescriptor : timerDescriptors) {
+      var result = new TimerBatchItemResult().index(results.size());
+      results.add(result);
+      prepareBatchItem(timerDescriptor, requestOrigin, existingIds, result)
+        .ifPresent(batchItem -> addBatchItem(batchItems, batchIds, batchItem));
+    }
+
+    rejectUserTimersWithoutUserId(batchItems);
+    upsertBatchItems(List.copyOf(batchItems.values()));
+    scheduleBatchItems(batchItems.values());
+    invalidateAppliedModuleEvents(requestOrigin, mapItems(batchItems.values(), batchItem -> batchItem.descriptor));
+    return results;
   }
 
   /**
@@ -127,7 +282,7 @@ public class SchedulerTimerService {
 
     var updatingDescriptor = prepareDescriptor(newDescriptor);
 
-    return doUpdate(updatingDescriptor);
+    return doUpdate(updatingDescriptor, requestOrigin);
   }
 
   /**
@@ -144,19 +299,44 @@ public class SchedulerTimerService {
       }
       repository.delete(entity);
       jobSchedulingService.delete(entity.getTimerDescriptor());
+      invalidateAppliedModuleEvents(requestOrigin, List.of(entity.getTimerDescriptor()));
     });
   }
 
   /**
    * Deletes all scheduled timers, assigned to tenant.
+   *
+   * <p>
+   * Timers are removed with a single {@code DELETE} statement without loading entities, and Quartz jobs are removed
+   * by the tenant group prefix, both in the same transaction. The ledger of applied scheduled job events is cleared
+   * too, so the events are applied again when the tenant is enabled.
+   * </p>
    */
   @Transactional
   public void deleteAll() {
-    var allEntities = repository.findAll();
-    for (var timerDescriptorEntity : allEntities) {
-      repository.delete(timerDescriptorEntity);
-      jobSchedulingService.delete(timerDescriptorEntity.getTimerDescriptor());
+    repository.deleteAllInBatch();
+    moduleEventLedgerRepository.deleteAllInBatch();
+    var deletedJobs = jobSchedulingService.deleteAllTenantJobs();
+    log.info("Deleted all timers of tenant [scheduledJobs: {}]", deletedJobs);
+  }
+
+  /**
+   * Deletes timer descriptors by ids, removing their scheduled jobs in bulk.
+   *
+   * @param ids           - timer descriptor ids
+   * @param requestOrigin - indicates the origin of the operation
+   */
+  @Transactional
+  public void deleteByIds(Collection<UUID> ids, RequestOrigin requestOrigin) {
+    var entities = repository.findAllById(ids);
+    var descriptors = mapItems(entities, TimerDescriptorEntity::getTimerDescriptor);
+    if (shouldEnforceSystemTimerProtection(requestOrigin)) {
+      descriptors.forEach(SchedulerTimerService::rejectSystemTimerMutation);
     }
+
+    repository.deleteAll(entities);
+    jobSchedulingService.deleteAll(descriptors);
+    invalidateAppliedModuleEvents(requestOrigin, descriptors);
   }
 
   /**
@@ -169,6 +349,7 @@ public class SchedulerTimerService {
 
     repository.switchTimersByIds(mapItems(timersToSwitch, TimerDescriptorEntity::getId), enable);
 
+    var descriptors = new ArrayList<TimerDescriptor>(timersToSwitch.size());
     for (TimerDescriptorEntity timer : timersToSwitch) {
       log.info(enable
           ? "Scheduling timer: timerId = {}, timerType = {}, module = {}"
@@ -177,14 +358,29 @@ public class SchedulerTimerService {
 
       var descriptor = mapper.toDescriptor(timer);
       descriptor.setEnabled(enable);
+      descriptors.add(descriptor);
+    }
 
-      Consumer<TimerDescriptor> operation = enable ? jobSchedulingService::schedule : jobSchedulingService::delete;
-      operation.accept(descriptor);
+    if (enable) {
+      jobSchedulingService.scheduleAll(descriptors);
+    } else {
+      jobSchedulingService.deleteAll(descriptors);
     }
 
     return timersToSwitch.size();
   }
 
+  private Integer countTimers(TotalRecordsMode totalRecordsMode) {
+    return switch (totalRecordsMode) {
+      case NONE -> null;
+      case ESTIMATED -> {
+        var estimatedCount = repository.estimateCount();
+        yield (int) (estimatedCount >= 0 ? estimatedCount : repository.count());
+      }
+      case EXACT -> (int) repository.count();
+    };
+  }
+
   /**
    * Returns only the timers that can be scheduled when a module is enabled, logging a warning for the rest.
    *
@@ -212,6 +408,14 @@ public class SchedulerTimerService {
     return entity.getType() != org.folio.scheduler.domain.model.TimerType.USER || entity.getUserId() != null;
   }
 
+  private TimerDescriptor validateAndPrepareForCreate(TimerDescriptor timerDescriptor, RequestOrigin requestOrigin) {
+    if (shouldEnforceSystemTimerProtection(requestOrigin)) {
+      rejectSystemTimerMutation(timerDescriptor);
+    }
+    validateCreate(timerDescriptor);
+    return prepareDescriptorForCreate(timerDescriptor);
+  }
+
   private void validateCreate(TimerDescriptor timerDescriptor) {
     var id = timerDescriptor.getId();
     if (id != null && repository.findById(id).isPresent()) {
@@ -255,8 +459,10 @@ public class SchedulerTimerService {
     var descriptor = mapper.deepCopy(timerDescriptor); // to avoid side effects on the input parameter
     descriptor.setModuleName(evalModuleName(descriptor));
     // userId is read-only and owned by the module: it lives in a dedicated column, never in the timer_descriptor
-    // jsonb, and is resolved from the timer type and execution context in doCreate/doUpdate.
+    // jsonb, and is resolved from the timer type and execution context on save.
     descriptor.setUserId(null);
+    // lastExecution is read-only and comes from the timer_execution table
+    descriptor.setLastExecution(null);
     return descriptor;
   }
 
@@ -280,44 +486,221 @@ public class SchedulerTimerService {
     return requestOrigin == RequestOrigin.API && !timerApiConfigurationProperties.isAllowSystemTimerMutation();
   }
 
-  private TimerDescriptor doCreate(TimerDescriptor timerDescriptor) {
+  private Set<UUID> findExistingIds(List<TimerDescriptor> timerDescriptors) {
+    var ids = timerDescriptors.stream().map(TimerDescriptor::getId).filter(Objects::nonNull).distinct().toList();
+    var existingIds = new HashSet<UUID>();
+    for (var chunk : partition(ids, BATCH_QUERY_SIZE)) {
+      repository.findAllById(chunk).forEach(entity -> existingIds.add(entity.getId()));
+    }
+    return existingIds;
+  }
+
+  private Optional<BatchItem> prepareBatchItem(TimerDescriptor timerDescriptor, RequestOrigin requestOrigin,
+    Set<UUID> existingIds, TimerBatchItemResult result) {
+    try {
+      if (shouldEnforceSystemTimerProtection(requestOrigin)) {
+        rejectSystemTimerMutation(timerDescriptor);
+      }
+      validateBatchItem(timerDescriptor, existingIds);
+      var descriptor = prepareDescriptorForCreate(timerDescriptor);
+      return Optional.of(new BatchItem(result, descriptor, TimerDescriptorEntity.toNaturalKey(descriptor)));
+    } catch (RequestValidationException | IllegalArgumentException | EntityExistsException exception) {
+      result.status(StatusEnum.FAILED).message(exception.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void validateBatchItem(TimerDescriptor timerDescriptor, Set<UUID> existingIds) {
+    var id = timerDescriptor.getId();
+    if (id != null && existingIds.contains(id)) {
+      throw new EntityExistsException("TimerDescriptor already exist for id " + id);
+    }
+    if (timerDescriptor.getRoutingEntry() == null) {
+      throw new IllegalArgumentException("Routing entry is required");
+    }
+    validateDescriptor(timerDescriptor);
+  }
+
+  private static void addBatchItem(Map<String, BatchItem> batchItems, Set<UUID> batchIds, BatchItem batchItem) {
+    if (batchItems.containsKey(batchItem.naturalKey) || !batchIds.add(batchItem.descriptor.getId())) {
+      batchItem.result.status(StatusEnum.FAILED).message("Timer is specified more than once in the batch");
+      return;
+    }
+    batchItems.put(batchItem.naturalKey, batchItem);
+  }
+
+  /**
+   * Marks USER timers as failed if the upsert would leave them without a userId: the current context has no user, and
+   * either the userId is refreshed on update or there is no existing timer with a userId to keep. The existing timers
+   * are looked up only if there is no user in the context.
+   */
+  private void rejectUserTimersWithoutUserId(Map<String, BatchItem> batchItems) {
+    if (folioExecutionContext.getUserId() != null) {
+      return;
+    }
+
+    var userTimerKeys = batchItems.values().stream()
+      .filter(batchItem -> batchItem.descriptor.getType() == TimerType.USER)
+      .map(batchItem -> batchItem.naturalKey)
+      .toList();
+    if (userTimerKeys.isEmpty()) {
+      return;
+    }
+
+    var keysWithUserId = timerApiConfigurationProperties.isAllowUserIdUpdate()
+      ? Set.<String>of() : jdbcRepository.findNaturalKeysWithUserId(userTimerKeys);
+    for (var naturalKey : userTimerKeys) {
+      if (!keysWithUserId.contains(naturalKey)) {
+        batchItems.remove(naturalKey).result.status(StatusEnum.FAILED).message("User timer requires a userId");
+      }
+    }
+  }
+
+  /**
+   * Inserts or updates batch items by natural key with a single statement per chunk, resolving the userId as
+   * {@link #upsert(TimerDescriptor)} does. USER timers that would be left without a userId are rejected beforehand by
+   * {@link #rejectUserTimersWithoutUserId(Map)}.
+   */
+  private void upsertBatchItems(List<BatchItem> batchItems) {
+    var contextUserId = folioExecutionContext.getUserId();
+    var auditDate = OffsetDateTime.now(ZoneOffset.UTC);
+    var refreshUserId = timerApiConfigurationProperties.isAllowUserIdUpdate();
+    var batchSize = Math.max(1, timerSchedulingConfigurationProperties.getBatchSize());
+    for (var chunk : partition(batchItems, batchSize)) {
+      var entities = mapItems(chunk, batchItem -> toUpsertEntity(batchItem.descriptor, contextUserId));
+      var upsertResults = jdbcRepository.upsertAll(entities, contextUserId, auditDate, refreshUserId);
+      for (int i = 0; i < chunk.size(); i++) {
+        var batchItem = chunk.get(i);
+        batchItem.upsertResult = upsertResults.get(i);
+        if (batchItem.descriptor.getType() == TimerType.USER && batchItem.upsertResult.row().userId() == null) {
+          throw new RequestValidationException("User timer requires a userId");
+        }
+      }
+    }
+  }
+
+  private void scheduleBatchItems(Collection<BatchItem> batchItems) {
+    var createdDescriptors = new ArrayList<TimerDescriptor>();
+    var rescheduledDescriptors = new ArrayList<TimerDescriptor>();
+    for (var batchItem : batchItems) {
+      var upsertResult = batchItem.upsertResult;
+      var savedDescriptor = mapper.toDescriptor(upsertResult.row());
+      batchItem.result.status(upsertResult.inserted() ? StatusEnum.CREATED : StatusEnum.UPDATED)
+        .timerDescriptor(savedDescriptor);
+
+      var previousDescriptor = upsertResult.previousDescriptor();
+      if (upsertResult.inserted()) {
+        createdDescriptors.add(savedDescriptor);
+      } else if (previousDescriptor == null
+        || JobSchedulingService.isTriggerChanged(previousDescriptor, savedDescriptor)) {
+        rescheduledDescriptors.add(savedDescriptor);
+      }
+    }
+
+    jobSchedulingService.scheduleAll(createdDescriptors);
+    jobSchedulingService.rescheduleAll(rescheduledDescriptors);
+  }
+
+  /**
+   * Creates a timer without scheduling it, collecting it to {@code createdDescriptors} for the bulk scheduling, or
+   * updates the existing one by natural key. An update of a timer created earlier in the same batch replaces the
+   * collected descriptor, so the latest trigger is scheduled.
+   */
+  private TimerDescriptor createOrUpdateWithDeferredScheduling(TimerDescriptor descriptor,
+    Map<UUID, TimerDescriptor> createdDescriptors) {
+    var upsertResult = upsert(descriptor);
+    var savedDescriptor = mapper.toDescriptor(upsertResult.row());
+    if (upsertResult.inserted()) {
+      createdDescriptors.put(savedDescriptor.getId(), savedDescriptor);
+    } else if (createdDescriptors.replace(savedDescriptor.getId(), savedDescriptor) == null) {
+      rescheduleIfTriggerChanged(upsertResult.previousDescriptor(), savedDescriptor);
+    }
+    return savedDescriptor;
+  }
+
+  /**
+   * Inserts a timer or updates the existing one with the same natural key, resolving the userId as
+   * {@link #resolveUserId(TimerType, UUID, boolean)} does, but without loading the existing timer first.
+   */
+  private TimerUpsertResult upsert(TimerDescriptor timerDescriptor) {
+    var isUserTimer = timerDescriptor.getType() == TimerType.USER;
+    var contextUserId = folioExecutionContext.getUserId();
+    var refreshUserId = timerApiConfigurationProperties.isAllowUserIdUpdate();
+    if (isUserTimer && refreshUserId && contextUserId == null) {
+      throw new RequestValidationException("User timer requires a userId");
+    }
+
+    var entity = toUpsertEntity(timerDescriptor, contextUserId);
+    var upsertResult = jdbcRepository.upsert(entity, contextUserId, OffsetDateTime.now(ZoneOffset.UTC), refreshUserId);
+    if (isUserTimer && upsertResult.row().userId() == null) {
+      throw new RequestValidationException("User timer requires a userId");
+    }
+    return upsertResult;
+  }
+
+  private TimerDescriptorEntity toUpsertEntity(TimerDescriptor timerDescriptor, UUID contextUserId) {
     var entity = mapper.toDescriptorEntity(timerDescriptor);
-    entity.setUserId(resolveUserId(timerDescriptor.getType(), null, true));
-    var savedEntity = repository.saveAndFlush(entity);
-    var createdDescriptor = mapper.toDescriptor(savedEntity);
+    entity.setUserId(timerDescriptor.getType() == TimerType.USER ? contextUserId : null);
+    return entity;
+  }
 
-    jobSchedulingService.schedule(createdDescriptor);
+  /**
+   * Reschedules the job of an updated timer if its trigger has changed. If the previous descriptor is unknown, because
+   * the timer has been inserted concurrently, the job is replaced.
+   */
+  private void rescheduleIfTriggerChanged(TimerDescriptor previousDescriptor, TimerDescriptor savedDescriptor) {
+    if (previousDescriptor == null) {
+      jobSchedulingService.rescheduleAll(List.of(savedDescriptor));
+    } else if (JobSchedulingService.isTriggerChanged(previousDescriptor, savedDescriptor)) {
+      jobSchedulingService.reschedule(previousDescriptor, savedDescriptor);
+    }
+  }
 
-    return createdDescriptor;
+  /**
+   * Removes the last applied scheduled job events of modules whose system timers are changed by the API, so the next
+   * delivery of such an event is applied again and restores the timers instead of being skipped as a repeat.
+   */
+  private void invalidateAppliedModuleEvents(RequestOrigin requestOrigin, Collection<TimerDescriptor> descriptors) {
+    if (requestOrigin != RequestOrigin.API) {
+      return;
+    }
+
+    var moduleNames = descriptors.stream()
+      .filter(descriptor -> descriptor.getType() == TimerType.SYSTEM && descriptor.getModuleName() != null)
+      .map(TimerDescriptor::getModuleName)
+      .collect(toSet());
+    if (!moduleNames.isEmpty()) {
+      moduleEventLedgerRepository.deleteAllByIdInBatch(moduleNames);
+    }
   }
 
-  private TimerDescriptor doUpdate(TimerDescriptor inputDescriptor) {
+  /**
+   * Updates a timer, merging the changes into the loaded entity.
+   *
+   * <p>
+   * {@link TimerDescriptorMapper#toDescriptorEntity(TimerDescriptor)} ignores audit fields, so the created ones are
+   * copied from the loaded entity, while the updated ones are populated by JPA auditing on flush. The saved entity
+   * therefore carries the complete audit metadata without reloading it from the database.
+   * </p>
+   */
+  private TimerDescriptor doUpdate(TimerDescriptor inputDescriptor, RequestOrigin requestOrigin) {
     assert inputDescriptor.getId() != null;
-    var id = inputDescriptor.getId();
-
-    var oldTimerDescriptor = getByIdInternal(id);
+    var existingEntity = getEntityById(inputDescriptor.getId());
+    var oldTimerDescriptor = mapper.toDescriptor(existingEntity);
     rejectModuleNameChange(oldTimerDescriptor, inputDescriptor);
 
     inputDescriptor.modified(true);
 
     var convertedEntity = mapper.toDescriptorEntity(inputDescriptor);
-    convertedEntity.setUserId(resolveUserId(inputDescriptor.getType(), oldTimerDescriptor.getUserId(),
+    convertedEntity.setUserId(resolveUserId(inputDescriptor.getType(), existingEntity.getUserId(),
       timerApiConfigurationProperties.isAllowUserIdUpdate()));
+    convertedEntity.setCreatedDate(existingEntity.getCreatedDate());
+    convertedEntity.setCreatedByUserId(existingEntity.getCreatedByUserId());
 
-    var updatedEntity = repository.saveAndFlush(convertedEntity);
-    // Refresh is required to retrieve the complete audit metadata, particularly createdDate and
-    // createdByUserId. Flow: mapper.toDescriptorEntity() ignores all audit fields (by design) →
-    // saveAndFlush() persists the update and JPA auditing populates updatedDate/updatedByUserId
-    // via @PreUpdate callback, but the created audit fields are NOT automatically retrieved since
-    // they weren't part of the entity conversion → refresh() reloads the full entity from the
-    // database including both created and updated audit fields → mapper.toDescriptor() can then
-    // map complete audit metadata to the response. Without refresh, createdDate and createdByUserId
-    // would be null/missing in the response.
-    entityManager.refresh(updatedEntity);
-
-    var updatedDescriptor = mapper.toDescriptor(updatedEntity);
+    var updatedDescriptor = mapper.toDescriptor(repository.saveAndFlush(convertedEntity));
 
     jobSchedulingService.reschedule(oldTimerDescriptor, updatedDescriptor);
+    invalidateAppliedModuleEvents(requestOrigin, List.of(oldTimerDescriptor, updatedDescriptor));
 
     return updatedDescriptor;
   }
@@ -354,8 +737,23 @@ public class SchedulerTimerService {
   }
 
   private TimerDescriptor getByIdInternal(UUID id) {
-    var entity = repository.findById(id).orElseThrow(
+    return mapper.toDescriptor(getEntityById(id));
+  }
+
+  private TimerDescriptorEntity getEntityById(UUID id) {
+    return repository.findById(id).orElseThrow(
       () -> new EntityNotFoundException("Unable to find timer descriptor with id " + id));
-    return mapper.toDescriptor(entity);
+  }
+
+  /**
+   * Holds the state of a valid batch item between saving and scheduling.
+   */
+  @RequiredArgsConstructor
+  private static final class BatchItem {
+
+    private final TimerBatchItemResult result;
+    private final TimerDescriptor descriptor;
+    private final String naturalKey;
+    private TimerUpsertResult upsertResult;
   }
 }
@@ -0,0 +1,118 @@
+package org.folio.scheduler.service;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.domain.model.TimerType;
+import org.folio.scheduler.exception.RequestValidationException;
+import org.folio.scheduler.mapper.TimerDescriptorMapper;
+import org.folio.scheduler.repository.SchedulerTimerJdbcRepository;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TimerExportService {
+
+  static final int CHUNK_SIZE = 1000;
+  private static final int NEW_LINE = '\n';
+
+  private final TimerDescriptorMapper mapper;
+  private final ObjectMapper objectMapper;
+  private final SchedulerTimerJdbcRepository jdbcRepository;
+
+  /**
+   * Exports timer descriptors as NDJSON: one JSON document per line.
+   *
+   * <p>
+   * The returned stream is lazy: timers are read by keyset chunks of {@value #CHUNK_SIZE} rows ordered by id and
+   * serialized only when the previous chunk has been consumed, so memory usage does not depend on the amount of
+   * timers. Every chunk is a short standalone query, so no connection or transaction is held between chunks. The
+   * stream must be consumed in the current tenant context.
+   * </p>
+   *
+   * @param moduleName - module name to filter by, all modules are exported if it's blank
+   * @param type - timer type to filter by, all types are exported if it's blank
+   * @return lazy {@link InputStream} with NDJSON representation of timer descriptors
+   * @throws RequestValidationException if timer type is unknown
+   */
+  public InputStream exportTimers(String moduleName, String type) {
+    var timerType = parseTimerType(type);
+    log.debug("Exporting timers [moduleName: {}, type: {}]", moduleName, timerType);
+    return new TimerNdjsonInputStream(isBlank(moduleName) ? null : moduleName, timerType);
+  }
+
+  private static TimerType parseTimerType(String type) {
+    if (isBlank(type)) {
+      return null;
+    }
+
+    try {
+      return TimerType.valueOf(type.trim().toUpperCase());
+    } catch (IllegalArgumentException exception) {
+      throw new RequestValidationException("Unknown timer type", "type", type);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private final class TimerNdjsonInputStream extends InputStream {
+
+    private final String moduleName;
+    private final TimerType type;
+    private byte[] buffer = new byte[0];
+    private int position;
+    private UUID lastId;
+    private boolean exhausted;
+
+    @Override
+    public int read() {
+      return fillBuffer() ? buffer[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      Objects.checkFromIndexSize(offset, length, bytes.length);
+      if (length == 0) {
+        return 0;
+      }
+      if (!fillBuffer()) {
+        return -1;
+      }
+
+      var count = Math.min(length, buffer.length - position);
+      System.arraycopy(buffer, position, bytes, offset, count);
+      position += count;
+      return count;
+    }
+
+    private boolean fillBuffer() {
+      while (position >= buffer.length) {
+        if (exhausted) {
+          return false;
+        }
+        loadNextChunk();
+      }
+      return true;
+    }
+
+    private void loadNextChunk() {
+      var rows = jdbcRepository.findChunk(lastId, moduleName, type, CHUNK_SIZE);
+      var output = new ByteArrayOutputStream();
+      for (var row : rows) {
+        output.writeBytes(objectMapper.writeValueAsBytes(mapper.toDescriptor(row)));
+        output.write(NEW_LINE);
+      }
+
+      exhausted = rows.size() < CHUNK_SIZE;
+      lastId = rows.isEmpty() ? lastId : rows.getLast().id();
+      buffer = output.toByteArray();
+      position = 0;
+    }
+  }
+}
@@ -3,7 +3,6 @@ package org.folio.scheduler.service.jobs;
 import static java.util.Collections.singletonList;
 import static java.util.Map.entry;
 import static java.util.concurrent.ThreadLocalRandom.current;
-import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -18,11 +17,13 @@ import static org.springframework.http.HttpMethod.PUT;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.message.StringMapMessage;
@@ -30,12 +31,12 @@ import org.folio.scheduler.configuration.properties.OkapiConfigurationProperties
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerType;
-import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
 import org.folio.scheduler.integration.OkapiClient;
 import org.folio.scheduler.integration.keycloak.SystemUserService;
 import org.folio.scheduler.service.ScheduledJobDetail;
 import org.folio.scheduler.service.SchedulerTimerService;
 import org.folio.scheduler.service.UserImpersonationService;
+import org.folio.scheduler.service.jobs.TimerExecutionRetryClassifier.RetryReason;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.quartz.DisallowConcurrentExecution;
@@ -61,6 +62,8 @@ public class OkapiHttpRequestExecutor implements Job {
   private final SystemUserService systemUserService;
   private final RetryTemplate retryTemplate;
   private final TimerExecutionRetryClassifier retryClassifier;
+  private final TimerExecutionMetrics executionMetrics;
+  private final TimerExecutionHistoryWriter historyWriter;
 
   /**
    * Injects required spring components into {@link OkapiHttpRequestExecutor} bean.
@@ -71,11 +74,14 @@ public class OkapiHttpRequestExecutor implements Job {
    * @param okapiConfigurationProperties - {@link OkapiConfigurationProperties} component
    * @param retryTemplate - retry policy applied to the module http call
    * @param retryClassifier - decides which module http failures are retryable
+   * @param executionMetrics - records metrics of timer executions
+   * @param historyWriter - saves timer executions to the timer execution history
    */
   public OkapiHttpRequestExecutor(OkapiClient okapiClient, FolioModuleMetadata folioModuleMetadata,
     SchedulerTimerService schedulerTimerService, OkapiConfigurationProperties okapiConfigurationProperties,
     UserImpersonationService userImpersonationService, SystemUserService systemUserService,
-    RetryTemplate retryTemplate, TimerExecutionRetryClassifier retryClassifier) {
+    RetryTemplate retryTemplate, TimerExecutionRetryClassifier retryClassifier,
+    TimerExecutionMetrics executionMetrics, TimerExecutionHistoryWriter historyWriter) {
     this.folioModuleMetadata = folioModuleMetadata;
     this.schedulerTimerService = schedulerTimerService;
     this.okapiConfigurationProperties = okapiConfigurationProperties;
@@ -83,6 +89,8 @@ public class OkapiHttpRequestExecutor implements Job {
     this.systemUserService = systemUserService;
     this.retryTemplate = retryTemplate;
     this.retryClassifier = retryClassifier;
+    this.executionMetrics = executionMetrics;
+    this.historyWriter = historyWriter;
 
     this.okapiCallMap = Map.ofEntries(
       entry(GET, okapiClient::doGet),
@@ -95,15 +103,31 @@ public class OkapiHttpRequestExecutor implements Job {
   @Override
   public void execute(JobExecutionContext context) {
     var jobDetail = ScheduledJobDetail.fromQuartzJobDetail(context.getJobDetail());
+    var startNanos = System.nanoTime();
 
-    var allHeaders = prepareAllHeadersMap(jobDetail);
+    var allHeaders = prepareExecution(jobDetail, startNanos, () -> prepareAllHeadersMap(jobDetail));
     try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, allHeaders)) {
-      var timerDescriptor = schedulerTimerService.getById(jobDetail.getId());
+      var timerDescriptor = prepareExecution(jobDetail, startNanos, () -> recordPhase(new TimerDescriptorLoadEvent(),
+        jobDetail, () -> schedulerTimerService.getById(jobDetail.getId())));
 
       callHttpMethod(timerDescriptor, jobDetail.getTenantId());
     }
   }
 
+  /**
+   * Runs a step preceding the module call, a failed step is saved to the timer execution history with the
+   * {@code ERROR} outcome and rethrown to Quartz.
+   */
+  private <T> T prepareExecution(ScheduledJobDetail jobDetail, long startNanos, Supplier<T> step) {
+    try {
+      return step.get();
+    } catch (RuntimeException e) {
+      var duration = Duration.ofNanos(System.nanoTime() - startNanos);
+      historyWriter.record(jobDetail.getTenantId(), jobDetail.getId(), "ERROR", duration, 0, null);
+      throw e;
+    }
+  }
+
   private void callHttpMethod(TimerDescriptor timerDescriptor, String tenant) {
     var re = timerDescriptor.getRoutingEntry();
     var httpMethod = isNotEmpty(re.getMethods()) ? HttpMethod.valueOf(re.getMethods().getFirst().toUpperCase()) : POST;
@@ -125,12 +149,18 @@ public class OkapiHttpRequestExecutor implements Job {
     logStart(logContext);
     var startNanos = System.nanoTime();
     var uri = fromUriString("http:/" + staticPath).build().toUri();
+    var retries = new AtomicInteger();
+
+    var httpCallEvent = new TimerHttpCallEvent();
+    httpCallEvent.begin();
 
     try {
-      executeWithRetry(okapiCallExecutor, uri, moduleHint, logContext);
-      logSuccess(logContext, startNanos);
+      executeWithRetry(okapiCallExecutor, uri, moduleHint, logContext, retries);
+      httpCallEvent.commitFor(logContext, "SUCCESS", retries.get());
+      logSuccess(logContext, startNanos, retries.get());
     } catch (RestClientException e) {
-      logFailure(logContext, startNanos, e);
+      httpCallEvent.commitFor(logContext, "FAILURE", retries.get());
+      logFailure(logContext, startNanos, retries.get(), e);
     }
   }
 
@@ -142,19 +172,37 @@ public class OkapiHttpRequestExecutor implements Job {
    * across attempts, and per-retry correlation is carried by the {@code retryNumber} log field instead.</p>
    */
   private void executeWithRetry(BiConsumer<URI, String> okapiCallExecutor, URI uri, String moduleHint,
-    TimerExecutionLogContext logContext) {
+    TimerExecutionLogContext logContext, AtomicInteger retries) {
     retryTemplate.execute(retryContext -> {
+      retries.set(retryContext.getRetryCount());
       if (retryContext.getRetryCount() > 0) {
-        logRetryAttempt(logContext, retryContext);
+        retryCall(okapiCallExecutor, uri, moduleHint, logContext, retryContext);
+      } else {
+        okapiCallExecutor.accept(uri, moduleHint);
       }
-      okapiCallExecutor.accept(uri, moduleHint);
       return null;
     });
   }
 
+  private void retryCall(BiConsumer<URI, String> okapiCallExecutor, URI uri, String moduleHint,
+    TimerExecutionLogContext logContext, RetryContext retryContext) {
+    var reason = logRetryAttempt(logContext, retryContext);
+    var retryAttemptEvent = new TimerRetryAttemptEvent();
+    retryAttemptEvent.begin();
+    var succeeded = false;
+    try {
+      okapiCallExecutor.accept(uri, moduleHint);
+      succeeded = true;
+    } finally {
+      retryAttemptEvent.commitFor(logContext, retryContext.getRetryCount(), reason, succeeded);
+    }
+  }
+
   private void logUnsupportedMethod(TimerExecutionLogContext logContext) {
     log.warn(timerExecutionMessage("timer.execution.failure", logContext)
       .with("outcome", "UNSUPPORTED_METHOD"));
+    executionMetrics.recordExecution(logContext, "UNSUPPORTED_METHOD", Duration.ZERO, 0);
+    historyWriter.record(logContext, "UNSUPPORTED_METHOD", Duration.ZERO, 0, null);
   }
 
   private void logStart(TimerExecutionLogContext logContext) {
@@ -162,33 +210,45 @@ public class OkapiHttpRequestExecutor implements Job {
       .with("outcome", "STARTED"));
   }
 
-  private void logSuccess(TimerExecutionLogContext logContext, long startNanos) {
+  private void logSuccess(TimerExecutionLogContext logContext, long startNanos, int retries) {
+    var duration = Duration.ofNanos(System.nanoTime() - startNanos);
     log.info(timerExecutionMessage("timer.execution.success", logContext)
       .with("outcome", "SUCCESS")
-      .with("durationMs", durationMs(startNanos)));
+      .with("durationMs", duration.toMillis())
+      .with("retries", retries));
+    executionMetrics.recordExecution(logContext, "SUCCESS", duration, retries);
+    historyWriter.record(logContext, "SUCCESS", duration, retries, null);
   }
 
   /**
    * Logged when each retry starts, naming the classified cause of the previous failure.
    */
-  private void logRetryAttempt(TimerExecutionLogContext logContext, RetryContext retryContext) {
+  private RetryReason logRetryAttempt(TimerExecutionLogContext logContext, RetryContext retryContext) {
+    var reason = retryClassifier.classify(retryContext.getLastThrowable());
     log.warn(timerExecutionMessage("timer.execution.retry", logContext)
       .with("outcome", "RETRY")
       .with("retryNumber", retryContext.getRetryCount())
-      .with("reason", retryClassifier.classify(retryContext.getLastThrowable()).name()));
+      .with("reason", reason.name()));
+    executionMetrics.recordRetry(logContext, reason);
+    return reason;
   }
 
   /**
    * Logged once per execution, after the retry sequence ends.
    */
-  private void logFailure(TimerExecutionLogContext logContext, long startNanos, RestClientException exception) {
+  private void logFailure(TimerExecutionLogContext logContext, long startNanos, int retries,
+    RestClientException exception) {
+    var duration = Duration.ofNanos(System.nanoTime() - startNanos);
     var message = timerExecutionMessage("timer.execution.failure", logContext)
       .with("outcome", "FAILURE")
-      .with("durationMs", durationMs(startNanos))
+      .with("durationMs", duration.toMillis())
+      .with("retries", retries)
       .with("errorClass", exception.getClass().getSimpleName());
 
+    Integer status = null;
     if (exception instanceof HttpStatusCodeException statusException) {
       message.with("status", statusException.getStatusCode().value());
+      status = statusException.getStatusCode().value();
     }
 
     var rootCause = exception.getRootCause();
@@ -197,6 +257,8 @@ public class OkapiHttpRequestExecutor implements Job {
     }
 
     log.warn(message);
+    executionMetrics.recordExecution(logContext, "FAILURE", duration, retries);
+    historyWriter.record(logContext, "FAILURE", duration, retries, status);
   }
 
   private StringMapMessage timerExecutionMessage(String event, TimerExecutionLogContext context) {
@@ -212,10 +274,6 @@ public class OkapiHttpRequestExecutor implements Job {
       .with("path", context.path());
   }
 
-  private String durationMs(long startNanos) {
-    return String.valueOf(NANOSECONDS.toMillis(System.nanoTime() - startNanos));
-  }
-
   private static String moduleHint(TimerDescriptor td) {
     return td.getType() == TimerType.USER ? td.getModuleName() : moduleIdOrName(td);
   }
@@ -230,11 +288,13 @@ public class OkapiHttpRequestExecutor implements Job {
   }
 
   @SuppressWarnings("java:S2245")
-  private Map<String, Collection<String>> prepareAllHeadersMap(ScheduledJobDetail jobDetail) {
+  Map<String, Collection<String>> prepareAllHeadersMap(ScheduledJobDetail jobDetail) {
     var headers = new HashMap<String, Collection<String>>();
     var tenant = jobDetail.getTenantId();
-    var userId = getUserId(jobDetail);
-    var userToken = userImpersonationService.impersonate(tenant, userId);
+    var userId = recordPhase(new TimerUserIdResolutionEvent(jobDetail.getTimerType()), jobDetail,
+      () -> getUserId(jobDetail));
+    var userToken = recordPhase(new TimerTokenImpersonationEvent(), jobDetail,
+      () -> userImpersonationService.impersonate(tenant, userId));
     validateUserToken(userToken, tenant, userId);
 
     headers.put(URL, singletonList(okapiConfigurationProperties.getUrl()));
@@ -244,6 +304,15 @@ public class OkapiHttpRequestExecutor implements Job {
     return headers;
   }
 
+  private static <T> T recordPhase(TimerFireEvent event, ScheduledJobDetail jobDetail, Supplier<T> phase) {
+    event.begin();
+    try {
+      return phase.get();
+    } finally {
+      event.commitFor(jobDetail);
+    }
+  }
+
   private static void validateUserToken(String userToken, String tenant, String userId) {
     if (isBlank(userToken) || "null".equalsIgnoreCase(userToken.trim())) {
       throw new IllegalStateException("Failed to prepare timer request: user impersonation token is blank [tenant: "
@@ -263,29 +332,4 @@ public class OkapiHttpRequestExecutor implements Job {
       case SYSTEM -> systemUserService.findSystemUserId(jobDetail.getTenantId());
     };
   }
-
-  private record TimerExecutionLogContext(String timerId, String naturalKey, TimerType type, String moduleName,
-                                          String moduleId, String tenant, HttpMethod method, String path) {
-
-    private static TimerExecutionLogContext from(TimerDescriptor descriptor, String tenant, HttpMethod method,
-      String path) {
-      return new TimerExecutionLogContext(
-        Objects.toString(descriptor.getId(), ""),
-        naturalKey(descriptor),
-        descriptor.getType(),
-        Objects.toString(descriptor.getModuleName(), ""),
-        Objects.toString(descriptor.getModuleId(), ""),
-        Objects.toString(tenant, ""),
-        method,
-        Objects.toString(path, ""));
-    }
-
-    private static String naturalKey(TimerDescriptor descriptor) {
-      try {
-        return Objects.toString(TimerDescriptorEntity.toNaturalKey(descriptor), "");
-      } catch (IllegalArgumentException exception) {
-        return "";
-      }
-    }
-  }
 }
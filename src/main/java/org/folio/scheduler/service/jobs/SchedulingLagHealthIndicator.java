@@ -0,0 +1,34 @@
+package org.folio.scheduler.service.jobs;
+
+import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.configuration.properties.TimerSchedulingConfigurationProperties;
+import org.springframework.boot.health.contributor.AbstractHealthIndicator;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the {@code DEGRADED} status when the p99 fire lag of timers is over the configured threshold, which means
+ * that the cluster needs more nodes or Quartz threads to fire timers on time.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulingLagHealthIndicator extends AbstractHealthIndicator {
+
+  /**
+   * Health status of a node that runs, but does not fire timers on time.
+   */
+  public static final Status DEGRADED = new Status("DEGRADED", "Timers fire later than the lag threshold");
+
+  private final SchedulingLagListener schedulingLagListener;
+  private final TimerSchedulingConfigurationProperties timerSchedulingConfigurationProperties;
+
+  @Override
+  protected void doHealthCheck(Health.Builder builder) {
+    var lagP99 = schedulingLagListener.getLagP99();
+    var lagThreshold = timerSchedulingConfigurationProperties.getLagThreshold();
+    builder.status(lagP99.compareTo(lagThreshold) > 0 ? DEGRADED : Status.UP)
+      .withDetail("lagP99Ms", lagP99.toMillis())
+      .withDetail("lagThresholdMs", lagThreshold.toMillis());
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.scheduler.service.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures whether timers fire on time, registered as a global Quartz trigger listener.
+ *
+ * <p>
+ * For each fire, {@code scheduler.timer.fire.lag} records the time between the scheduled and the actual fire time.
+ * Quartz acquires triggers only when a worker thread is free, so the lag includes the time spent waiting for a thread.
+ * Triggers that miss their fire time by more than the misfire threshold are counted by
+ * {@code scheduler.timer.misfires}.
+ * </p>
+ */
+@Component
+public class SchedulingLagListener extends TriggerListenerSupport {
+
+  static final String LAG_METRIC = "scheduler.timer.fire.lag";
+  static final String MISFIRES_METRIC = "scheduler.timer.misfires";
+  static final double LAG_PERCENTILE = 0.99;
+
+  private final Timer lagTimer;
+  private final Counter misfireCounter;
+
+  /**
+   * Registers scheduling meters in the given registry.
+   *
+   * @param meterRegistry - {@link MeterRegistry} component
+   */
+  public SchedulingLagListener(MeterRegistry meterRegistry) {
+    this.lagTimer = Timer.builder(LAG_METRIC)
+      .description("Time between the scheduled and the actual fire time of a timer")
+      .publishPercentiles(LAG_PERCENTILE)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+    this.misfireCounter = Counter.builder(MISFIRES_METRIC)
+      .description("Number of timer fires missed by more than the misfire threshold")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return "schedulingLagListener";
+  }
+
+  /**
+   * Called on the Quartz worker thread, right before the job is executed.
+   */
+  @Override
+  public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    var fireTime = context.getFireTime();
+    var scheduledFireTime = context.getScheduledFireTime();
+    if (fireTime == null || scheduledFireTime == null) {
+      return;
+    }
+
+    lagTimer.record(Math.max(fireTime.getTime() - scheduledFireTime.getTime(), 0L), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void triggerMisfired(Trigger trigger) {
+    misfireCounter.increment();
+  }
+
+  /**
+   * Returns the 99th percentile of the fire lag over the recent distribution window.
+   *
+   * @return p99 fire lag, zero if no timer fired recently
+   */
+  public Duration getLagP99() {
+    for (var percentile : lagTimer.takeSnapshot().percentileValues()) {
+      if (percentile.percentile() == LAG_PERCENTILE) {
+        return Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+      }
+    }
+    return Duration.ZERO;
+  }
+}
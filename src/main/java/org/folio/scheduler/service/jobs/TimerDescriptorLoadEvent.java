@@ -0,0 +1,10 @@
+package org.folio.scheduler.service.jobs;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.folio.scheduler.TimerDescriptorLoad")
+@Label("Timer Descriptor Load")
+@Description("Loading of the fired timer descriptor from the database")
+class TimerDescriptorLoadEvent extends TimerFireEvent {}
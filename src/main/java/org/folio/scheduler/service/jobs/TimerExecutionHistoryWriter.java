@@ -0,0 +1,171 @@
+package org.folio.scheduler.service.jobs;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.scheduler.configuration.properties.TimerHistoryConfigurationProperties;
+import org.folio.scheduler.domain.model.TimerExecutionEntry;
+import org.folio.scheduler.repository.TimerExecutionRepository;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saves finished timer executions to the execution history of their timers off the timer fire path.
+ *
+ * <p>
+ * Executions are put to a bounded in-memory queue without blocking, and an execution that does not fit into a full
+ * queue is dropped and counted by the {@code scheduler.timer.history.dropped} metric, so a slow or unavailable
+ * database never delays a fire. The queue is flushed periodically in JDBC batches, one per tenant, and the history of
+ * each timer is trimmed to the configured size after the flush.
+ * </p>
+ *
+ * <p>
+ * Flushes run on a dedicated thread instead of the shared single thread of {@code @Scheduled} tasks, so a slow flush
+ * does not delay the replay of parked events and vice versa.
+ * </p>
+ */
+@Log4j2
+@Component
+public class TimerExecutionHistoryWriter implements InitializingBean, DisposableBean {
+
+  static final String DROPPED_METRIC = "scheduler.timer.history.dropped";
+  static final String QUEUE_SIZE_METRIC = "scheduler.timer.history.queue.size";
+
+  private final TimerHistoryConfigurationProperties historyProperties;
+  private final TimerExecutionRepository timerExecutionRepository;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final BlockingQueue<TimerExecutionEntry> queue;
+  private final Counter droppedCounter;
+  private final ThreadPoolTaskScheduler flushScheduler;
+
+  public TimerExecutionHistoryWriter(TimerHistoryConfigurationProperties historyProperties,
+    TimerExecutionRepository timerExecutionRepository, FolioModuleMetadata folioModuleMetadata,
+    MeterRegistry meterRegistry) {
+    this.historyProperties = historyProperties;
+    this.timerExecutionRepository = timerExecutionRepository;
+    this.folioModuleMetadata = folioModuleMetadata;
+    this.queue = new ArrayBlockingQueue<>(historyProperties.getQueueCapacity());
+    this.droppedCounter = Counter.builder(DROPPED_METRIC)
+      .description("Number of timer executions dropped instead of being saved to the timer execution history")
+      .register(meterRegistry);
+    Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+      .description("Number of timer executions waiting to be saved to the timer execution history")
+      .register(meterRegistry);
+    this.flushScheduler = historyProperties.isEnabled() ? createFlushScheduler() : null;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    if (flushScheduler != null) {
+      flushScheduler.scheduleWithFixedDelay(this::flush, historyProperties.getFlushInterval());
+    }
+  }
+
+  /**
+   * Queues a finished timer execution to be saved, the execution is dropped if the queue is full.
+   *
+   * @param context - timer execution context
+   * @param outcome - execution outcome, as logged in the {@code outcome} field
+   * @param duration - execution duration, including retries
+   * @param retries - number of retries made
+   * @param httpStatus - HTTP status code of the last failed module call, {@code null} if there is none
+   */
+  void record(TimerExecutionLogContext context, String outcome, Duration duration, int retries,
+    Integer httpStatus) {
+    if (StringUtils.isEmpty(context.timerId())) {
+      return;
+    }
+
+    record(context.tenant(), UUID.fromString(context.timerId()), outcome, duration, retries, httpStatus);
+  }
+
+  /**
+   * Queues a finished timer execution to be saved, the execution is dropped if the queue is full.
+   *
+   * @param tenant - tenant of the timer
+   * @param timerId - timer id
+   * @param outcome - execution outcome, as logged in the {@code outcome} field
+   * @param duration - execution duration, including retries
+   * @param retries - number of retries made
+   * @param httpStatus - HTTP status code of the last failed module call, {@code null} if there is none
+   */
+  void record(String tenant, UUID timerId, String outcome, Duration duration, int retries, Integer httpStatus) {
+    if (!historyProperties.isEnabled()) {
+      return;
+    }
+
+    var startedAt = OffsetDateTime.now(UTC).minus(duration);
+    var entry = new TimerExecutionEntry(tenant, timerId, startedAt, duration.toMillis(), outcome, retries, httpStatus);
+    if (!queue.offer(entry)) {
+      droppedCounter.increment();
+    }
+  }
+
+  /**
+   * Saves all queued timer executions in batches.
+   */
+  public void flush() {
+    var batchSize = historyProperties.getBatchSize();
+    var batch = new ArrayList<TimerExecutionEntry>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      batch.stream()
+        .collect(groupingBy(TimerExecutionEntry::tenant, LinkedHashMap::new, toList()))
+        .forEach(this::save);
+      batch.clear();
+    }
+  }
+
+  /**
+   * Stops periodic flushes and saves timer executions queued before the shutdown.
+   */
+  @Override
+  public void destroy() {
+    if (flushScheduler != null) {
+      flushScheduler.shutdown();
+    }
+    flush();
+  }
+
+  private void save(String tenant, List<TimerExecutionEntry> entries) {
+    var headers = Map.<String, Collection<String>>of(TENANT, singletonList(tenant));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      timerExecutionRepository.insertAll(entries, historyProperties.getSize());
+    } catch (RuntimeException e) {
+      log.warn("Failed to save timer executions, they are dropped: tenant = {}, count = {}",
+        tenant, entries.size(), e);
+      droppedCounter.increment(entries.size());
+    }
+  }
+
+  private static ThreadPoolTaskScheduler createFlushScheduler() {
+    var scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("timer-history-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(10);
+    scheduler.initialize();
+    return scheduler;
+  }
+}
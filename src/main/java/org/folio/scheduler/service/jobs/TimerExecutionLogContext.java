@@ -0,0 +1,34 @@
+package org.folio.scheduler.service.jobs;
+
+import java.util.Objects;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerType;
+import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Timer fields shared by the structured log lines and the metrics of a single timer execution.
+ */
+record TimerExecutionLogContext(String timerId, String naturalKey, TimerType type, String moduleName,
+                                String moduleId, String tenant, HttpMethod method, String path) {
+
+  static TimerExecutionLogContext from(TimerDescriptor descriptor, String tenant, HttpMethod method, String path) {
+    return new TimerExecutionLogContext(
+      Objects.toString(descriptor.getId(), ""),
+      naturalKey(descriptor),
+      descriptor.getType(),
+      Objects.toString(descriptor.getModuleName(), ""),
+      Objects.toString(descriptor.getModuleId(), ""),
+      Objects.toString(tenant, ""),
+      method,
+      Objects.toString(path, ""));
+  }
+
+  private static String naturalKey(TimerDescriptor descriptor) {
+    try {
+      return Objects.toString(TimerDescriptorEntity.toNaturalKey(descriptor), "");
+    } catch (IllegalArgumentException exception) {
+      return "";
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package org.folio.scheduler.service.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.folio.scheduler.service.jobs.TimerExecutionRetryClassifier.RetryReason;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records Micrometer metrics of timer executions, with the same values as the {@code timer.execution.*} log lines.
+ *
+ * <p>Execution durations are published with percentile histograms, so latency SLOs can be computed by the metrics
+ * backend across module instances.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TimerExecutionMetrics {
+
+  static final String EXECUTION_METRIC = "scheduler.timer.execution";
+  static final String RETRIES_METRIC = "scheduler.timer.execution.retries";
+  static final String RETRY_COUNT_METRIC = "scheduler.timer.execution.retry.count";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Records a finished timer execution.
+   *
+   * @param context - timer execution context
+   * @param outcome - execution outcome, as logged in the {@code outcome} field
+   * @param duration - execution duration, including retries
+   * @param retries - number of retries made
+   */
+  void recordExecution(TimerExecutionLogContext context, String outcome, Duration duration, int retries) {
+    var tags = tags(context).and("outcome", outcome);
+    Timer.builder(EXECUTION_METRIC)
+      .description("Duration of timer executions, including retries")
+      .tags(tags)
+      .publishPercentileHistogram()
+      .register(meterRegistry)
+      .record(duration);
+    DistributionSummary.builder(RETRY_COUNT_METRIC)
+      .description("Number of retries per timer execution")
+      .tags(tags)
+      .register(meterRegistry)
+      .record(retries);
+  }
+
+  /**
+   * Records a retry of a timer execution.
+   *
+   * @param context - timer execution context
+   * @param reason - classified cause of the failure that is retried
+   */
+  void recordRetry(TimerExecutionLogContext context, RetryReason reason) {
+    Counter.builder(RETRIES_METRIC)
+      .description("Number of retried timer execution attempts")
+      .tags(tags(context).and("reason", reason != null ? reason.name() : "UNKNOWN"))
+      .register(meterRegistry)
+      .increment();
+  }
+
+  private static Tags tags(TimerExecutionLogContext context) {
+    return Tags.of(
+      "tenant", context.tenant(),
+      "module", context.moduleName(),
+      "method", context.method().name());
+  }
+}
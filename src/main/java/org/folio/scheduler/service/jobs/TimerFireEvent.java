@@ -0,0 +1,61 @@
+package org.folio.scheduler.service.jobs;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.folio.scheduler.service.ScheduledJobDetail;
+
+/**
+ * Base JFR event of a timer fire phase, identifying the timer by tenant, module and timer id.
+ *
+ * <p>The events are disabled unless a recording enables them, as the bundled {@code jfr/mod-scheduler.jfc} profile
+ * does. The identifying fields are set only when the event is going to be committed, so a disabled event or one that
+ * is under its threshold costs a timestamp read.</p>
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({"FOLIO", "Scheduler", "Timer Fire"})
+abstract class TimerFireEvent extends Event {
+
+  @Label("Tenant")
+  String tenant;
+
+  @Label("Module")
+  String moduleName;
+
+  @Label("Timer Id")
+  String timerId;
+
+  /**
+   * Ends the event of a phase before the timer descriptor is loaded and commits it if it is enabled and over its
+   * threshold.
+   *
+   * @param jobDetail - fired job detail
+   */
+  void commitFor(ScheduledJobDetail jobDetail) {
+    end();
+    if (shouldCommit()) {
+      tenant = jobDetail.getTenantId();
+      moduleName = jobDetail.getModuleName();
+      timerId = jobDetail.getId().toString();
+      commit();
+    }
+  }
+
+  /**
+   * Ends the event of a module call phase and commits it if it is enabled and over its threshold.
+   *
+   * @param context - timer execution context
+   */
+  void commitFor(TimerExecutionLogContext context) {
+    end();
+    if (shouldCommit()) {
+      tenant = context.tenant();
+      moduleName = context.moduleName();
+      timerId = context.timerId();
+      commit();
+    }
+  }
+}
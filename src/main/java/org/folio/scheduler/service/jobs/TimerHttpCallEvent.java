@@ -0,0 +1,31 @@
+package org.folio.scheduler.service.jobs;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.folio.scheduler.TimerHttpCall")
+@Label("Timer HTTP Call")
+@Description("Module HTTP call of a timer, including retries")
+class TimerHttpCallEvent extends TimerFireEvent {
+
+  @Label("Method")
+  String method;
+
+  @Label("Path")
+  String path;
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("Retries")
+  int retries;
+
+  void commitFor(TimerExecutionLogContext context, String outcome, int retries) {
+    this.method = context.method().name();
+    this.path = context.path();
+    this.outcome = outcome;
+    this.retries = retries;
+    commitFor(context);
+  }
+}
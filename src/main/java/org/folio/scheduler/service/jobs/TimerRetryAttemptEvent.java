@@ -0,0 +1,28 @@
+package org.folio.scheduler.service.jobs;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.folio.scheduler.service.jobs.TimerExecutionRetryClassifier.RetryReason;
+
+@Name("org.folio.scheduler.TimerRetryAttempt")
+@Label("Timer Retry Attempt")
+@Description("Retried attempt of a timer module HTTP call")
+class TimerRetryAttemptEvent extends TimerFireEvent {
+
+  @Label("Retry Number")
+  int retryNumber;
+
+  @Label("Reason")
+  String reason;
+
+  @Label("Succeeded")
+  boolean succeeded;
+
+  void commitFor(TimerExecutionLogContext context, int retryNumber, RetryReason reason, boolean succeeded) {
+    this.retryNumber = retryNumber;
+    this.reason = reason.name();
+    this.succeeded = succeeded;
+    commitFor(context);
+  }
+}
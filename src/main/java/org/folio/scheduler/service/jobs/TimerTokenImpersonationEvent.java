@@ -0,0 +1,10 @@
+package org.folio.scheduler.service.jobs;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.folio.scheduler.TimerTokenImpersonation")
+@Label("Timer Token Impersonation")
+@Description("Obtaining the user impersonation token of a timer request, from the token cache or by token exchange")
+class TimerTokenImpersonationEvent extends TimerFireEvent {}
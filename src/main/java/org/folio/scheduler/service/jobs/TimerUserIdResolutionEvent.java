@@ -0,0 +1,19 @@
+package org.folio.scheduler.service.jobs;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.folio.scheduler.domain.dto.TimerType;
+
+@Name("org.folio.scheduler.TimerUserIdResolution")
+@Label("Timer User Id Resolution")
+@Description("Resolution of the user a timer request is executed for, a system user lookup for system timers")
+class TimerUserIdResolutionEvent extends TimerFireEvent {
+
+  @Label("Timer Type")
+  String timerType;
+
+  TimerUserIdResolutionEvent(TimerType timerType) {
+    this.timerType = timerType.getValue();
+  }
+}
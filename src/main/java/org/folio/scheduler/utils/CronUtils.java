@@ -5,24 +5,87 @@ import static com.cronutils.model.CronType.UNIX;
 import static com.cronutils.model.definition.CronDefinitionBuilder.instanceDefinitionFor;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.TimeZone.getTimeZone;
+import static org.apache.commons.lang3.ObjectUtils.getIfNull;
 
 import com.cronutils.mapper.CronMapper;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.parser.CronParser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
+import org.quartz.CronExpression;
 
 @Log4j2
 @UtilityClass
 public class CronUtils {
 
+  private static final String DEFAULT_ZONE = "UTC";
+  private static final int CACHE_MAX_SIZE = 1024;
+
   private static final CronDefinition UNIX_DEF = instanceDefinitionFor(UNIX);
   private static final CronParser UNIX_PARSER = new CronParser(UNIX_DEF);
   private static final CronMapper UNIX_TO_QUARTZ_MAPPER = fromUnixToQuartz();
 
+  /**
+   * Converted Quartz expressions by the original cron expression.
+   *
+   * <p>Bulk operations (module enable, tenant init, migrations) reschedule many timers that share a handful of cron
+   * strings, so the cron-utils parse and mapping is done once per distinct expression. Invalid expressions are not
+   * cached: the conversion exception is propagated to every caller.</p>
+   */
+  private static final Cache<String, String> QUARTZ_EXPRESSIONS = Caffeine.newBuilder()
+    .maximumSize(CACHE_MAX_SIZE)
+    .build();
+
+  /**
+   * Parsed Quartz {@link CronExpression} objects by cron expression and time zone.
+   *
+   * <p>Cached instances are created with their time zone already set and are never mutated afterwards, so they are
+   * safe to share for next-fire-time computations and Quartz cron triggers: a trigger built from an expression only
+   * sets the same time zone on it again. They must not be given to {@code CronScheduleBuilder.inTimeZone}, which
+   * changes the time zone of the expression.</p>
+   */
+  private static final Cache<CronKey, CronExpression> CRON_EXPRESSIONS = Caffeine.newBuilder()
+    .maximumSize(CACHE_MAX_SIZE)
+    .build();
+
+  /**
+   * Converts cron expression to the Quartz format.
+   *
+   * <p>Unix expressions (5 fields) are converted to the Quartz format, Quartz expressions (6 or 7 fields) are returned
+   * as is. The conversion result is cached.</p>
+   *
+   * @param cronExpression - Unix or Quartz cron expression
+   * @return Quartz cron expression
+   * @throws IllegalArgumentException if cron expression is invalid
+   */
   public static String convertToQuartz(String cronExpression) {
     requireNonNull(cronExpression, "Cron expression cannot be null.");
+    return QUARTZ_EXPRESSIONS.get(cronExpression, CronUtils::parseAndConvertToQuartz);
+  }
 
+  /**
+   * Computes the next fire time of a cron expression after the given instant.
+   *
+   * @param cronExpression - Unix or Quartz cron expression
+   * @param zone - time zone id, {@code UTC} is used if value is {@code null}
+   * @param after - instant after which the next fire time is searched
+   * @return next fire time in {@link Optional} wrapper, it will be empty if the expression never fires again
+   * @throws IllegalArgumentException if cron expression is invalid
+   */
+  public static Optional<Instant> getNextFireTime(String cronExpression, String zone, Instant after) {
+    requireNonNull(after, "Instant cannot be null.");
+    var expression = getCronExpression(cronExpression, zone);
+    return Optional.ofNullable(expression.getNextValidTimeAfter(Date.from(after))).map(Date::toInstant);
+  }
+
+  static String parseAndConvertToQuartz(String cronExpression) {
     var parts = cronExpression.trim().split("\\s+");
     if (parts.length == 5) {
       var unixCron = UNIX_PARSER.parse(cronExpression);
@@ -38,4 +101,30 @@ public class CronUtils {
         format("Invalid cron expression: %s. Must have 5 (Unix) or 6/7 (Quartz) fields.", cronExpression));
     }
   }
+
+  /**
+   * Returns the parsed Quartz cron expression in the given time zone, shared by all callers.
+   *
+   * @param cronExpression - Unix or Quartz cron expression
+   * @param zone - time zone id, {@code UTC} is used if value is {@code null}
+   * @return cached {@link CronExpression} object, it must not be modified
+   * @throws IllegalArgumentException if cron expression is invalid
+   */
+  public static CronExpression getCronExpression(String cronExpression, String zone) {
+    requireNonNull(cronExpression, "Cron expression cannot be null.");
+    return CRON_EXPRESSIONS.get(new CronKey(cronExpression, getIfNull(zone, DEFAULT_ZONE)), CronUtils::parseCron);
+  }
+
+  private static CronExpression parseCron(CronKey key) {
+    try {
+      var expression = new CronExpression(convertToQuartz(key.expression()));
+      expression.setTimeZone(getTimeZone(key.zone()));
+      return expression;
+    } catch (ParseException exception) {
+      throw new IllegalArgumentException(format("Invalid cron expression: %s. %s",
+        key.expression(), exception.getMessage()), exception);
+    }
+  }
+
+  private record CronKey(String expression, String zone) {}
 }
@@ -0,0 +1,44 @@
+package org.folio.scheduler.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.Base64;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+import org.folio.scheduler.exception.RequestValidationException;
+
+@UtilityClass
+public class CursorUtils {
+
+  private static final String CURSOR_PARAMETER = "cursor";
+
+  /**
+   * Encodes the id of the last returned record as an opaque keyset pagination cursor.
+   *
+   * @param lastId - id of the last returned record
+   * @return URL-safe cursor value
+   */
+  public static String encodeCursor(UUID lastId) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.toString().getBytes(UTF_8));
+  }
+
+  /**
+   * Decodes the id of the last returned record from a keyset pagination cursor.
+   *
+   * @param cursor - cursor value, blank value means the first page
+   * @return decoded record id, {@code null} if cursor is blank
+   * @throws RequestValidationException if cursor is not a valid cursor value
+   */
+  public static UUID decodeCursor(String cursor) {
+    if (isBlank(cursor)) {
+      return null;
+    }
+
+    try {
+      return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), UTF_8));
+    } catch (IllegalArgumentException exception) {
+      throw new RequestValidationException("Invalid cursor value", CURSOR_PARAMETER, cursor);
+    }
+  }
+}
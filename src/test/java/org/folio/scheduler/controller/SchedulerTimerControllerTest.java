@@ -1,5 +1,6 @@
 package org.folio.scheduler.controller;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.scheduler.support.TestValues.timerDescriptor;
@@ -10,22 +11,29 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.UUID;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult.StatusEnum;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerDescriptorList;
 import org.folio.scheduler.domain.model.SearchResult;
+import org.folio.scheduler.domain.model.TotalRecordsMode;
 import org.folio.scheduler.exception.RequestValidationException;
 import org.folio.scheduler.service.RequestOrigin;
 import org.folio.scheduler.service.SchedulerTimerService;
+import org.folio.scheduler.service.TimerExportService;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,11 +53,12 @@ class SchedulerTimerControllerTest {
 
   @Autowired private MockMvc mockMvc;
   @MockitoBean private SchedulerTimerService schedulingTimerService;
+  @MockitoBean private TimerExportService timerExportService;
 
   @Test
   void get_positive() throws Exception {
     var timerDescriptor = new TimerDescriptor().id(TIMER_UUID).enabled(true);
-    when(schedulingTimerService.getById(TIMER_UUID)).thenReturn(timerDescriptor);
+    when(schedulingTimerService.getByIdWithLastExecution(TIMER_UUID)).thenReturn(timerDescriptor);
     var mvcResult = mockMvc.perform(get("/scheduler/timers/{id}", TIMER_UUID)
         .contentType(APPLICATION_JSON))
       .andExpect(status().isOk())
@@ -62,7 +71,8 @@ class SchedulerTimerControllerTest {
   @Test
   void get_negative() throws Exception {
     var errorMessage = "timer not found by id: " + TIMER_UUID;
-    when(schedulingTimerService.getById(TIMER_UUID)).thenThrow(new EntityNotFoundException(errorMessage));
+    when(schedulingTimerService.getByIdWithLastExecution(TIMER_UUID))
+      .thenThrow(new EntityNotFoundException(errorMessage));
     mockMvc.perform(get("/scheduler/timers/{id}", TIMER_UUID)
         .contentType(APPLICATION_JSON))
       .andExpect(status().isNotFound())
@@ -74,7 +84,8 @@ class SchedulerTimerControllerTest {
 
   @Test
   void get_negative_unsupportedError() throws Exception {
-    when(schedulingTimerService.getById(TIMER_UUID)).thenThrow(new UnsupportedOperationException("unsupported"));
+    when(schedulingTimerService.getByIdWithLastExecution(TIMER_UUID))
+      .thenThrow(new UnsupportedOperationException("unsupported"));
 
     mockMvc.perform(get("/scheduler/timers/{id}", TIMER_UUID)
         .contentType(APPLICATION_JSON))
@@ -90,7 +101,7 @@ class SchedulerTimerControllerTest {
     var timerDescriptors = SearchResult.of(
       List.of(new TimerDescriptor().id(TIMER_UUID), new TimerDescriptor().id(randomUUID())));
 
-    when(schedulingTimerService.getAll(null, 0, 10)).thenReturn(timerDescriptors);
+    when(schedulingTimerService.getAll(null, 0, 10, TotalRecordsMode.EXACT)).thenReturn(timerDescriptors);
     var mvcResult = mockMvc.perform(get("/scheduler/timers")
         .contentType(APPLICATION_JSON))
       .andExpect(status().isOk())
@@ -107,7 +118,7 @@ class SchedulerTimerControllerTest {
     var query = "moduleName==mod-foo";
     var timerDescriptors = SearchResult.of(List.of(new TimerDescriptor().id(TIMER_UUID)));
 
-    when(schedulingTimerService.getAll(query, 0, 10)).thenReturn(timerDescriptors);
+    when(schedulingTimerService.getAll(query, 0, 10, TotalRecordsMode.EXACT)).thenReturn(timerDescriptors);
     var mvcResult = mockMvc.perform(get("/scheduler/timers")
         .queryParam("query", query)
         .contentType(APPLICATION_JSON))
@@ -120,6 +131,50 @@ class SchedulerTimerControllerTest {
       .totalRecords(timerDescriptors.getTotalRecords()));
   }
 
+  @Test
+  void get_all_positive_cursor() throws Exception {
+    var cursor = "MDAwMDAwMDAtMDAwMC0wMDAwLTAwMDAtMDAwMDAwMDAwMDAx";
+    var timerDescriptors = SearchResult.of(null, List.of(new TimerDescriptor().id(TIMER_UUID))).nextCursor("next");
+
+    when(schedulingTimerService.getAllByCursor(null, cursor, 10, TotalRecordsMode.NONE)).thenReturn(timerDescriptors);
+    var mvcResult = mockMvc.perform(get("/scheduler/timers")
+        .queryParam("cursor", cursor)
+        .queryParam("totalRecords", "none")
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var actual = parseResponse(mvcResult, TimerDescriptorList.class);
+    assertThat(actual).isEqualTo(new TimerDescriptorList()
+      .timerDescriptors(timerDescriptors.getRecords())
+      .nextCursor("next"));
+  }
+
+  @Test
+  void get_all_negative_unknownTotalRecordsMode() throws Exception {
+    mockMvc.perform(get("/scheduler/timers")
+        .queryParam("totalRecords", "approximate")
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("Unknown total records mode")))
+      .andExpect(jsonPath("$.errors[0].parameters[0].key", is("totalRecords")))
+      .andExpect(jsonPath("$.errors[0].parameters[0].value", is("approximate")));
+  }
+
+  @Test
+  void export_positive() throws Exception {
+    var ndjson = "{\"id\":\"" + TIMER_UUID + "\"}\n";
+    when(timerExportService.exportTimers("mod-foo", "USER"))
+      .thenReturn(new ByteArrayInputStream(ndjson.getBytes(UTF_8)));
+
+    mockMvc.perform(get("/scheduler/timers/export")
+        .queryParam("moduleName", "mod-foo")
+        .queryParam("type", "USER"))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith(APPLICATION_NDJSON))
+      .andExpect(content().string(ndjson));
+  }
+
   @Test
   void create_positive() throws Exception {
     var timerDescriptor = timerDescriptor(null);
@@ -163,6 +218,27 @@ class SchedulerTimerControllerTest {
       .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
   }
 
+  @Test
+  void createBatch_positive() throws Exception {
+    var timerDescriptor = timerDescriptor(null);
+    var results = List.of(
+      new TimerBatchItemResult().index(0).status(StatusEnum.CREATED).timerDescriptor(timerDescriptor()),
+      new TimerBatchItemResult().index(1).status(StatusEnum.FAILED).message("Timer type is required"));
+    when(schedulingTimerService.createOrUpdateBatch(List.of(timerDescriptor, timerDescriptor), RequestOrigin.API))
+      .thenReturn(results);
+
+    mockMvc.perform(post("/scheduler/timers/batch")
+        .contentType(APPLICATION_JSON)
+        .content(asJsonString(new TimerDescriptorList().timerDescriptors(List.of(timerDescriptor, timerDescriptor)))))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(2)))
+      .andExpect(jsonPath("$.items[0].status", is("created")))
+      .andExpect(jsonPath("$.items[0].timerDescriptor.id", is(timerDescriptor().getId().toString())))
+      .andExpect(jsonPath("$.items[1].index", is(1)))
+      .andExpect(jsonPath("$.items[1].status", is("failed")))
+      .andExpect(jsonPath("$.items[1].message", is("Timer type is required")));
+  }
+
   @Test
   void update_positive() throws Exception {
     var timerDescriptor = timerDescriptor();
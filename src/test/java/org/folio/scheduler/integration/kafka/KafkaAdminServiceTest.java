@@ -0,0 +1,40 @@
+package org.folio.scheduler.integration.kafka;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KafkaAdminServiceTest {
+
+  @InjectMocks private KafkaAdminService kafkaAdminService;
+  @Mock private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock private MessageListenerContainer runningContainer;
+  @Mock private MessageListenerContainer stoppedContainer;
+
+  @Test
+  void refreshSubscriptions_positive_rebalanceIsEnforcedForRunningContainers() {
+    when(kafkaListenerEndpointRegistry.getAllListenerContainers())
+      .thenReturn(List.of(runningContainer, stoppedContainer));
+    when(runningContainer.isRunning()).thenReturn(true);
+    when(stoppedContainer.isRunning()).thenReturn(false);
+
+    kafkaAdminService.refreshSubscriptions();
+
+    verify(runningContainer).enforceRebalance();
+    verify(runningContainer, never()).stop();
+    verify(stoppedContainer, never()).enforceRebalance();
+    verify(stoppedContainer, never()).start();
+  }
+}
@@ -10,8 +10,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -21,6 +21,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerType;
@@ -28,7 +29,6 @@ import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
 import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
 import org.folio.scheduler.service.RequestOrigin;
 import org.folio.scheduler.service.SchedulerTimerService;
-import org.folio.scheduler.utils.TestUtils;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
@@ -39,9 +39,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tools.jackson.databind.ObjectMapper;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -53,7 +51,7 @@ class KafkaEventServiceTest {
 
   @Mock private SchedulerTimerService schedulerTimerService;
   @Mock private TimerTableCheckService timerTableCheckService;
-  @Spy private ObjectMapper objectMapper = TestUtils.OBJECT_MAPPER;
+  @Mock private ModuleEventLedgerService moduleEventLedgerService;
   @InjectMocks
   private KafkaEventService kafkaEventService;
 
@@ -74,6 +72,16 @@ class KafkaEventServiceTest {
       .build();
   }
 
+  private static TimerDescriptor systemTimer(RoutingEntry routingEntry) {
+    return new TimerDescriptor()
+      .id(UUID.randomUUID())
+      .enabled(TRUE)
+      .type(TimerType.SYSTEM)
+      .moduleName(MODULE_NAME)
+      .moduleId(MODULE_ID)
+      .routingEntry(routingEntry);
+  }
+
   private static RoutingEntry routingEntry1() {
     return new RoutingEntry()
       .addMethodsItem("POST")
@@ -99,13 +107,24 @@ class KafkaEventServiceTest {
 
       kafkaEventService.createTimers(event);
 
-      verify(schedulerTimerService).create(argThat(descriptor ->
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.stream().anyMatch(descriptor ->
         descriptor.getEnabled().equals(TRUE)
           && descriptor.getType() == TimerType.SYSTEM
           && Objects.equals(descriptor.getModuleName(), MODULE_NAME)
           && Objects.equals(descriptor.getModuleId(), MODULE_ID)
           && descriptor.getRoutingEntry().equals(routingEntry1())
-      ), eq(RequestOrigin.KAFKA));
+      )), eq(RequestOrigin.KAFKA));
+      verify(moduleEventLedgerService).markApplied(MODULE_NAME, event);
+    }
+
+    @Test
+    void positive_alreadyAppliedEventIsSkipped() {
+      var event = createResourceEvent(List.of(routingEntry1()));
+      when(moduleEventLedgerService.isApplied(MODULE_NAME, event)).thenReturn(true);
+
+      kafkaEventService.createTimers(event);
+
+      verify(moduleEventLedgerService, never()).markApplied(any(), any());
     }
 
     @Test
@@ -116,13 +135,13 @@ class KafkaEventServiceTest {
 
       kafkaEventService.createTimers(event);
 
-      verify(schedulerTimerService, times(2)).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
-      verify(schedulerTimerService).create(argThat(descriptor ->
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.size() == 2), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.stream().anyMatch(descriptor ->
         descriptor.getRoutingEntry().equals(routingEntry1)
-      ), eq(RequestOrigin.KAFKA));
-      verify(schedulerTimerService).create(argThat(descriptor ->
+      )), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.stream().anyMatch(descriptor ->
         descriptor.getRoutingEntry().equals(routingEntry2)
-      ), eq(RequestOrigin.KAFKA));
+      )), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -131,7 +150,7 @@ class KafkaEventServiceTest {
 
       kafkaEventService.createTimers(event);
 
-      verify(schedulerTimerService, never()).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService, never()).createAll(any(), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -141,7 +160,7 @@ class KafkaEventServiceTest {
 
       kafkaEventService.createTimers(event);
 
-      verify(schedulerTimerService).create(argThat(descriptor ->
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.stream().anyMatch(descriptor ->
         descriptor.getEnabled().equals(TRUE)
         && descriptor.getType() == TimerType.SYSTEM
         && Objects.equals(descriptor.getModuleName(), MODULE_NAME)
@@ -149,7 +168,7 @@ class KafkaEventServiceTest {
         && Objects.equals(descriptor.getRoutingEntry().getPathPattern(), "/test-entities/expire")
         && descriptor.getRoutingEntry().getMethods().contains("POST")
         && descriptor.getRoutingEntry().getUnit() == MINUTE
-        && Objects.equals(descriptor.getRoutingEntry().getDelay(), "1")), eq(RequestOrigin.KAFKA));
+        && Objects.equals(descriptor.getRoutingEntry().getDelay(), "1"))), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -157,24 +176,23 @@ class KafkaEventServiceTest {
       var event = createResourceEvent(List.of(routingEntry1()));
       var expectedException = new RuntimeException("Failed to create timer");
 
-      when(schedulerTimerService.create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA)))
-        .thenThrow(expectedException);
+      when(schedulerTimerService.createAll(any(), eq(RequestOrigin.KAFKA))).thenThrow(expectedException);
 
       assertThatThrownBy(() -> kafkaEventService.createTimers(event))
         .isInstanceOf(RuntimeException.class)
         .hasMessage("Failed to create timer");
 
-      verify(schedulerTimerService).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.size() == 1), eq(RequestOrigin.KAFKA));
     }
 
     @ParameterizedTest(name = "{0}")
     @MethodSource("nullParameterProvider")
-    void negative_nullParameters(String testName, ResourceEvent<?> event,
+    void negative_nullParameters(String testName, ResourceEvent<ScheduledTimers> event,
       Class<? extends Exception> expectedException) {
       assertThatThrownBy(() -> kafkaEventService.createTimers(event))
         .isInstanceOf(expectedException);
 
-      verify(schedulerTimerService, never()).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService, never()).createAll(any(), eq(RequestOrigin.KAFKA));
     }
 
     private static Stream<Arguments> nullParameterProvider() {
@@ -198,28 +216,6 @@ class KafkaEventServiceTest {
         Arguments.of("negative_nullModuleId", eventNullModuleId, IllegalArgumentException.class)
       );
     }
-
-    @Test
-    void negative_partialFailure() {
-      var routingEntry1 = routingEntry1();
-      var routingEntry2 = routingEntry2();
-      var event = createResourceEvent(List.of(routingEntry1, routingEntry2));
-
-      when(schedulerTimerService.create(argThat(d ->
-        d != null && d.getRoutingEntry() != null && d.getRoutingEntry().equals(routingEntry1)),
-        eq(RequestOrigin.KAFKA)))
-        .thenReturn(new TimerDescriptor());
-      when(schedulerTimerService.create(argThat(d ->
-        d != null && d.getRoutingEntry() != null && d.getRoutingEntry().equals(routingEntry2)),
-        eq(RequestOrigin.KAFKA)))
-        .thenThrow(new RuntimeException("Failed to create second timer"));
-
-      assertThatThrownBy(() -> kafkaEventService.createTimers(event))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessage("Failed to create second timer");
-
-      verify(schedulerTimerService, times(2)).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
-    }
   }
 
   @Nested
@@ -257,14 +253,14 @@ class KafkaEventServiceTest {
       kafkaEventService.updateTimers(event);
 
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
-      verify(schedulerTimerService).create(argThat(descriptor ->
+      verify(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.stream().anyMatch(descriptor ->
         descriptor.getEnabled().equals(TRUE)
           && descriptor.getType() == TimerType.SYSTEM
           && Objects.equals(descriptor.getModuleName(), MODULE_NAME)
           && Objects.equals(descriptor.getModuleId(), MODULE_ID)
           && descriptor.getRoutingEntry().equals(newRoutingEntry)
-      ), eq(RequestOrigin.KAFKA));
+      )), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -285,32 +281,34 @@ class KafkaEventServiceTest {
       kafkaEventService.updateTimers(event);
 
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService, never()).delete(any(UUID.class), eq(RequestOrigin.KAFKA));
-      verify(schedulerTimerService).create(argThat(descriptor ->
+      verify(schedulerTimerService, never()).deleteByIds(any(), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.stream().anyMatch(descriptor ->
         descriptor.getRoutingEntry().equals(newRoutingEntry)
-      ), eq(RequestOrigin.KAFKA));
+      )), eq(RequestOrigin.KAFKA));
     }
 
     @Test
-    void positive_multipleExistingTimers() {
-      var oldRoutingEntry1 = routingEntry1();
-      var oldRoutingEntry2 = routingEntry2();
-      var newRoutingEntry = routingEntry1();
-      var newTimers = new ScheduledTimers()
-        .moduleId(MODULE_ID)
-        .applicationId(APPLICATION_ID)
-        .timers(List.of(newRoutingEntry));
-      var event = ResourceEvent.<ScheduledTimers>baseBuilder()
-        .tenant(TENANT_ID)
-        .newValue(newTimers)
-        .build();
+    void positive_unchangedTimerIsKept() {
+      var event = createResourceEvent(List.of(routingEntry1()));
+      var existingTimer1 = systemTimer(routingEntry1());
+      var existingTimer2 = systemTimer(routingEntry2());
 
-      var existingTimer1 = new TimerDescriptor()
-        .id(UUID.randomUUID())
-        .routingEntry(oldRoutingEntry1);
-      var existingTimer2 = new TimerDescriptor()
-        .id(UUID.randomUUID())
-        .routingEntry(oldRoutingEntry2);
+      when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM))
+        .thenReturn(List.of(existingTimer1, existingTimer2));
+
+      kafkaEventService.updateTimers(event);
+
+      verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
+      verify(schedulerTimerService).deleteByIds(List.of(existingTimer2.getId()), RequestOrigin.KAFKA);
+      verify(schedulerTimerService, never()).createAll(any(), eq(RequestOrigin.KAFKA));
+    }
+
+    @Test
+    void positive_changedTimerIsSavedWithoutDeletion() {
+      var changedRoutingEntry = routingEntry1().delay("2");
+      var event = createResourceEvent(List.of(changedRoutingEntry, routingEntry2()));
+      var existingTimer1 = systemTimer(routingEntry1());
+      var existingTimer2 = systemTimer(routingEntry2());
 
       when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM))
         .thenReturn(List.of(existingTimer1, existingTimer2));
@@ -318,9 +316,24 @@ class KafkaEventServiceTest {
       kafkaEventService.updateTimers(event);
 
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer1.getId(), RequestOrigin.KAFKA);
-      verify(schedulerTimerService).delete(existingTimer2.getId(), RequestOrigin.KAFKA);
-      verify(schedulerTimerService).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService, never()).deleteByIds(any(), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.size() == 1
+        && descriptors.getFirst().getRoutingEntry().equals(changedRoutingEntry)), eq(RequestOrigin.KAFKA));
+    }
+
+    @Test
+    void positive_disabledTimerIsSaved() {
+      var event = createResourceEvent(List.of(routingEntry1()));
+      var existingTimer = systemTimer(routingEntry1()).enabled(false);
+
+      when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM))
+        .thenReturn(List.of(existingTimer));
+
+      kafkaEventService.updateTimers(event);
+
+      verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
+      verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.size() == 1
+        && descriptors.getFirst().getEnabled().equals(TRUE)), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -335,9 +348,7 @@ class KafkaEventServiceTest {
         .newValue(newTimers)
         .build();
 
-      var existingTimer = new TimerDescriptor()
-        .id(UUID.randomUUID())
-        .routingEntry(oldRoutingEntry);
+      var existingTimer = systemTimer(oldRoutingEntry);
 
       when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM))
         .thenReturn(List.of(existingTimer));
@@ -345,8 +356,8 @@ class KafkaEventServiceTest {
       kafkaEventService.updateTimers(event);
 
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
-      verify(schedulerTimerService, never()).create(any(TimerDescriptor.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
+      verify(schedulerTimerService, never()).createAll(any(), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -362,21 +373,19 @@ class KafkaEventServiceTest {
         .newValue(newTimers)
         .build();
 
-      var existingTimer = new TimerDescriptor()
-        .id(UUID.randomUUID())
-        .routingEntry(oldRoutingEntry);
+      var existingTimer = systemTimer(oldRoutingEntry);
 
       when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM))
         .thenReturn(List.of(existingTimer));
       doThrow(new RuntimeException("Failed to delete timer"))
-        .when(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
+        .when(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
 
       assertThatThrownBy(() -> kafkaEventService.updateTimers(event))
         .isInstanceOf(RuntimeException.class)
         .hasMessage("Failed to delete timer");
 
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
+      verify(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
     }
 
     @Test
@@ -419,8 +428,24 @@ class KafkaEventServiceTest {
 
       verify(timerTableCheckService).tableExists();
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer1.getId(), RequestOrigin.KAFKA);
-      verify(schedulerTimerService).delete(existingTimer2.getId(), RequestOrigin.KAFKA);
+      verify(schedulerTimerService)
+        .deleteByIds(List.of(existingTimer1.getId(), existingTimer2.getId()), RequestOrigin.KAFKA);
+    }
+
+    @Test
+    void positive_alreadyAppliedEventIsSkipped() {
+      var event = ResourceEvent.<ScheduledTimers>baseBuilder()
+        .type(ResourceEventType.DELETE)
+        .tenant(TENANT_ID)
+        .oldValue(new ScheduledTimers().moduleId(MODULE_ID).applicationId(APPLICATION_ID).timers(List.of()))
+        .build();
+      when(timerTableCheckService.tableExists()).thenReturn(true);
+      when(moduleEventLedgerService.isApplied(MODULE_NAME, event)).thenReturn(true);
+
+      kafkaEventService.deleteTimers(event);
+
+      verify(timerTableCheckService).tableExists();
+      verify(moduleEventLedgerService, never()).markApplied(any(), any());
     }
 
     @Test
@@ -446,7 +471,7 @@ class KafkaEventServiceTest {
 
       verify(timerTableCheckService).tableExists();
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
+      verify(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
     }
 
     @Test
@@ -468,7 +493,7 @@ class KafkaEventServiceTest {
 
       verify(timerTableCheckService).tableExists();
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService, never()).delete(any(UUID.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService, never()).deleteByIds(any(), eq(RequestOrigin.KAFKA));
     }
 
     @Test
@@ -513,7 +538,7 @@ class KafkaEventServiceTest {
       when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM))
         .thenReturn(List.of(existingTimer));
       doThrow(new RuntimeException("Failed to delete timer"))
-        .when(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
+        .when(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
 
       assertThatThrownBy(() -> kafkaEventService.deleteTimers(event))
         .isInstanceOf(RuntimeException.class)
@@ -521,7 +546,7 @@ class KafkaEventServiceTest {
 
       verify(timerTableCheckService).tableExists();
       verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
-      verify(schedulerTimerService).delete(existingTimer.getId(), RequestOrigin.KAFKA);
+      verify(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
     }
 
     @Test
@@ -551,7 +576,36 @@ class KafkaEventServiceTest {
 
       verify(timerTableCheckService).tableExists();
       verify(schedulerTimerService, never()).findByModuleNameAndType(any(), any());
-      verify(schedulerTimerService, never()).delete(any(UUID.class), eq(RequestOrigin.KAFKA));
+      verify(schedulerTimerService, never()).deleteByIds(any(), eq(RequestOrigin.KAFKA));
+    }
+  }
+
+  @Nested
+  class ApplyTimerEvents {
+
+    @Test
+    void positive_deleteAndCreateEventsAreAppliedInOrder() {
+      var oldTimers = new ScheduledTimers().moduleId(MODULE_ID).applicationId(APPLICATION_ID)
+        .timers(List.of(routingEntry1()));
+      var deleteEvent = ResourceEvent.<ScheduledTimers>baseBuilder()
+        .type(ResourceEventType.DELETE).tenant(TENANT_ID).oldValue(oldTimers).build();
+      var newTimers = new ScheduledTimers().moduleId(MODULE_ID).applicationId(APPLICATION_ID)
+        .timers(List.of(routingEntry2()));
+      var createEvent = ResourceEvent.<ScheduledTimers>baseBuilder()
+        .type(ResourceEventType.CREATE).tenant(TENANT_ID).newValue(newTimers).build();
+      var existingTimer = new TimerDescriptor().id(UUID.randomUUID()).routingEntry(routingEntry1());
+
+      when(timerTableCheckService.tableExists()).thenReturn(true);
+      when(schedulerTimerService.findByModuleNameAndType(MODULE_NAME, SYSTEM)).thenReturn(List.of(existingTimer));
+
+      kafkaEventService.applyTimerEvents(List.of(deleteEvent, createEvent));
+
+      var inOrder = inOrder(timerTableCheckService, schedulerTimerService);
+      inOrder.verify(timerTableCheckService).tableExists();
+      inOrder.verify(schedulerTimerService).findByModuleNameAndType(MODULE_NAME, SYSTEM);
+      inOrder.verify(schedulerTimerService).deleteByIds(List.of(existingTimer.getId()), RequestOrigin.KAFKA);
+      inOrder.verify(schedulerTimerService).createAll(argThat(descriptors -> descriptors.size() == 1
+        && descriptors.getFirst().getRoutingEntry().equals(routingEntry2())), eq(RequestOrigin.KAFKA));
     }
   }
 
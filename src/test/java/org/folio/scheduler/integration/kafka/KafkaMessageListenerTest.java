@@ -1,5 +1,6 @@
 package org.folio.scheduler.integration.kafka;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.integration.kafka.model.ResourceEventType.CREATE;
 import static org.folio.integration.kafka.model.ResourceEventType.DELETE;
@@ -8,9 +9,12 @@ import static org.folio.scheduler.integration.kafka.model.EntitlementEventType.E
 import static org.folio.scheduler.integration.kafka.model.EntitlementEventType.REVOKE;
 import static org.folio.scheduler.integration.kafka.model.EntitlementEventType.UPGRADE;
 import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -20,6 +24,10 @@ import java.util.List;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.folio.integration.kafka.model.ResourceEvent;
 import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.configuration.properties.ScheduledJobEventConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TenantLaneConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEventType;
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.TimerUnit;
 import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
@@ -28,13 +36,19 @@ import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
 import org.folio.spring.exception.LiquibaseMigrationException;
 import org.folio.spring.liquibase.LiquibaseMigrationLockService;
 import org.folio.test.types.UnitTest;
+import org.hibernate.exception.SQLGrammarException;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +70,20 @@ class KafkaMessageListenerTest {
   @Mock
   private LiquibaseMigrationLockService liquibaseMigrationLockService;
 
+  @Mock
+  private ParkedEventService parkedEventService;
+
+  @Spy
+  private TenantLaneDispatcher tenantLaneDispatcher =
+    new TenantLaneDispatcher(new TenantLaneConfigurationProperties(), new ParkedEventConfigurationProperties());
+
+  @Spy
+  private ScheduledJobEventConfigurationProperties scheduledJobProperties =
+    new ScheduledJobEventConfigurationProperties();
+
+  @Mock
+  private TimerTableCheckService timerTableCheckService;
+
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(eventService);
@@ -78,6 +106,12 @@ class KafkaMessageListenerTest {
     };
   }
 
+  private static InvalidDataAccessResourceUsageException relationNotFoundException() {
+    var message = "ERROR: relation \"" + TENANT_ID + "_mod_scheduler.timer\" does not exist";
+    return new InvalidDataAccessResourceUsageException("could not execute statement",
+      new SQLGrammarException("could not execute statement", new PSQLException(message, null)));
+  }
+
   private static ScheduledTimers getTimers() {
     return new ScheduledTimers()
       .moduleId(MODULE_ID1)
@@ -121,7 +155,7 @@ class KafkaMessageListenerTest {
     @Test
     void positive_createEvent() {
       var event = createResourceEvent(CREATE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
 
       kafkaMessageListener.handleScheduledJobEvent(consumerRecord);
 
@@ -133,7 +167,7 @@ class KafkaMessageListenerTest {
     @Test
     void positive_updateEvent() {
       var event = createResourceEvent(UPDATE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
 
       kafkaMessageListener.handleScheduledJobEvent(consumerRecord);
 
@@ -143,7 +177,7 @@ class KafkaMessageListenerTest {
     @Test
     void positive_deleteEvent() {
       var event = createResourceEvent(DELETE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
 
       kafkaMessageListener.handleScheduledJobEvent(consumerRecord);
 
@@ -153,7 +187,7 @@ class KafkaMessageListenerTest {
     @Test
     void positive_deleteEventBypassesLiquibasePrecheck() {
       var event = createResourceEvent(DELETE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
       lenient().when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(true);
 
       kafkaMessageListener.handleScheduledJobEvent(consumerRecord);
@@ -165,7 +199,7 @@ class KafkaMessageListenerTest {
     @Test
     void negative_createEventThrowsException() {
       var event = createResourceEvent(CREATE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
 
       doThrow(new RuntimeException("Failed to create timers"))
         .when(eventService).createTimers(event);
@@ -180,7 +214,7 @@ class KafkaMessageListenerTest {
     @Test
     void negative_updateEventThrowsException() {
       var event = createResourceEvent(UPDATE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
 
       doThrow(new RuntimeException("Failed to update timers"))
         .when(eventService).updateTimers(event);
@@ -195,7 +229,7 @@ class KafkaMessageListenerTest {
     @Test
     void negative_deleteEventThrowsException() {
       var event = createResourceEvent(DELETE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
 
       doThrow(new RuntimeException("Failed to delete timers"))
         .when(eventService).deleteTimers(event);
@@ -207,10 +241,22 @@ class KafkaMessageListenerTest {
       verify(eventService).deleteTimers(event);
     }
 
+    @Test
+    void positive_eventIsParkedAfterParkedEventsOfTenant() {
+      var event = createResourceEvent(CREATE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      when(parkedEventService.parkIfTenantParked(consumerRecord, ParkedEventType.SCHEDULED_JOB, TENANT_ID))
+        .thenReturn(true);
+
+      kafkaMessageListener.handleScheduledJobEvent(consumerRecord);
+
+      verifyNoInteractions(liquibaseMigrationLockService, eventService);
+    }
+
     @Test
     void handleScheduledJobEvent_negative_liquibaseMigrationInProgress() {
       var event = createResourceEvent(CREATE);
-      var consumerRecord = new ConsumerRecord<String, ResourceEvent<?>>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
       when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(true);
 
       assertThatThrownBy(() -> kafkaMessageListener.handleScheduledJobEvent(consumerRecord))
@@ -221,6 +267,120 @@ class KafkaMessageListenerTest {
     }
   }
 
+  @Nested
+  class HandleScheduledJobEvents {
+
+    @BeforeEach
+    void setUp() {
+      scheduledJobProperties.setBatchEnabled(true);
+    }
+
+    @Test
+    void positive_eventsOfModuleAreCoalesced() {
+      var createEvent = createResourceEvent(CREATE);
+      var updateEvent1 = createResourceEvent(UPDATE);
+      var updateEvent2 = createResourceEvent(UPDATE);
+      var otherTenantEvent = ResourceEvent.<ScheduledTimers>baseBuilder()
+        .type(UPDATE).resourceName("Scheduled Job").tenant("other_tenant")
+        .oldValue(getTimers()).newValue(scheduledTimersAfterUpgrade()).build();
+
+      kafkaMessageListener.handleScheduledJobEvents(List.of(consumerRecord(0, createEvent),
+        consumerRecord(1, updateEvent1), consumerRecord(2, otherTenantEvent), consumerRecord(3, updateEvent2)));
+
+      var inOrder = inOrder(eventService);
+      inOrder.verify(eventService).applyTimerEvents(List.of(updateEvent2));
+      inOrder.verify(eventService).applyTimerEvents(List.of(otherTenantEvent));
+    }
+
+    @Test
+    void positive_createEventsAfterDeleteAreKept() {
+      var createEvent1 = createResourceEvent(CREATE);
+      var deleteEvent = createResourceEvent(DELETE);
+      var createEvent2 = createResourceEvent(CREATE);
+
+      kafkaMessageListener.handleScheduledJobEvents(List.of(consumerRecord(0, createEvent1),
+        consumerRecord(1, deleteEvent), consumerRecord(2, createEvent2)));
+
+      verify(eventService).applyTimerEvents(List.of(deleteEvent, createEvent2));
+    }
+
+    @Test
+    void positive_eventsAreProcessedOneByOneIfBatchIsDisabled() {
+      scheduledJobProperties.setBatchEnabled(false);
+      var createEvent = createResourceEvent(CREATE);
+      var updateEvent = createResourceEvent(UPDATE);
+
+      kafkaMessageListener.handleScheduledJobEvents(List.of(consumerRecord(0, createEvent),
+        consumerRecord(1, updateEvent)));
+
+      var inOrder = inOrder(eventService);
+      inOrder.verify(eventService).createTimers(createEvent);
+      inOrder.verify(eventService).updateTimers(updateEvent);
+    }
+
+    @Test
+    void positive_groupOfParkedTenantIsParked() {
+      var firstRecord = consumerRecord(0, createResourceEvent(CREATE));
+      var secondRecord = consumerRecord(1, createResourceEvent(UPDATE));
+      when(parkedEventService.parkIfTenantParked(firstRecord, ParkedEventType.SCHEDULED_JOB, TENANT_ID))
+        .thenReturn(true);
+
+      kafkaMessageListener.handleScheduledJobEvents(List.of(firstRecord, secondRecord));
+
+      verify(parkedEventService).parkIfTenantParked(secondRecord, ParkedEventType.SCHEDULED_JOB, TENANT_ID);
+      verifyNoInteractions(liquibaseMigrationLockService);
+    }
+
+    @Test
+    void positive_failedGroupIsSkipped() {
+      var event = createResourceEvent(UPDATE);
+      var otherTenantEvent = ResourceEvent.<ScheduledTimers>baseBuilder()
+        .type(UPDATE).resourceName("Scheduled Job").tenant("other_tenant")
+        .oldValue(getTimers()).newValue(scheduledTimersAfterUpgrade()).build();
+      doThrow(new RuntimeException("Failed to update timers")).when(eventService).applyTimerEvents(List.of(event));
+
+      kafkaMessageListener.handleScheduledJobEvents(List.of(consumerRecord(0, createResourceEvent(CREATE)),
+        consumerRecord(1, event), consumerRecord(2, otherTenantEvent)));
+
+      verify(eventService).applyTimerEvents(List.of(event));
+      verify(eventService).applyTimerEvents(List.of(otherTenantEvent));
+      verify(parkedEventService, never()).park(any(), any(), any());
+    }
+
+    @Test
+    void positive_groupOfTenantNotReadyIsParked() {
+      var firstRecord = consumerRecord(0, createResourceEvent(CREATE));
+      var secondRecord = consumerRecord(1, createResourceEvent(CREATE));
+      var exception = new LiquibaseMigrationException("Liquibase migration is still running");
+      doThrow(exception).when(eventService).applyTimerEvents(any());
+      when(parkedEventService.isEnabled()).thenReturn(true);
+      when(parkedEventService.park(firstRecord, ParkedEventType.SCHEDULED_JOB, exception)).thenReturn(true);
+
+      kafkaMessageListener.handleScheduledJobEvents(List.of(firstRecord, secondRecord));
+
+      verify(eventService).applyTimerEvents(any());
+      verify(parkedEventService).park(secondRecord, ParkedEventType.SCHEDULED_JOB, exception);
+    }
+
+    @Test
+    void negative_liquibaseMigrationInProgress() {
+      var firstRecord = consumerRecord(0, createResourceEvent(CREATE));
+      when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(true);
+
+      assertThatThrownBy(() -> kafkaMessageListener.handleScheduledJobEvents(
+        List.of(firstRecord, consumerRecord(1, createResourceEvent(UPDATE)))))
+        .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+          assertThat(e.getRecord()).isSameAs(firstRecord);
+          assertThat(e.getCause()).isInstanceOf(LiquibaseMigrationException.class);
+        });
+    }
+
+    private static ConsumerRecord<String, ResourceEvent<ScheduledTimers>> consumerRecord(long offset,
+      ResourceEvent<ScheduledTimers> event) {
+      return new ConsumerRecord<>(TOPIC_NAME, 0, offset, TENANT_ID, event);
+    }
+  }
+
   @Nested
   class HandleEntitlementEvent {
 
@@ -298,6 +458,56 @@ class KafkaMessageListenerTest {
       verify(eventService).disableTimers(event);
     }
 
+    @Test
+    void positive_revokeEventIsIgnoredIfTimerTableIsDropped() {
+      var event = createEntitlementEvent(REVOKE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      doThrow(relationNotFoundException()).doNothing().when(eventService).disableTimers(event);
+      when(timerTableCheckService.recheckTableExists()).thenReturn(false);
+
+      kafkaMessageListener.handleEntitlementEvent(consumerRecord);
+
+      verify(eventService, times(2)).disableTimers(event);
+    }
+
+    @Test
+    void negative_revokeEventFailsIfTimerTableExists() {
+      var event = createEntitlementEvent(REVOKE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var exception = relationNotFoundException();
+      doThrow(exception).when(eventService).disableTimers(event);
+      when(timerTableCheckService.recheckTableExists()).thenReturn(true);
+
+      assertThatThrownBy(() -> kafkaMessageListener.handleEntitlementEvent(consumerRecord)).isSameAs(exception);
+
+      verify(eventService).disableTimers(event);
+    }
+
+    @Test
+    void negative_revokeEventFailureDoesNotRecheckTimerTable() {
+      var event = createEntitlementEvent(REVOKE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      doThrow(new RuntimeException("Failed to disable timers")).when(eventService).disableTimers(event);
+
+      assertThatThrownBy(() -> kafkaMessageListener.handleEntitlementEvent(consumerRecord))
+        .hasMessage("Failed to disable timers");
+
+      verify(eventService).disableTimers(event);
+      verifyNoInteractions(timerTableCheckService);
+    }
+
+    @Test
+    void positive_eventIsParkedAfterParkedEventsOfTenant() {
+      var event = createEntitlementEvent(ENTITLE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      when(parkedEventService.parkIfTenantParked(consumerRecord, ParkedEventType.ENTITLEMENT, TENANT_ID))
+        .thenReturn(true);
+
+      kafkaMessageListener.handleEntitlementEvent(consumerRecord);
+
+      verifyNoInteractions(liquibaseMigrationLockService, eventService);
+    }
+
     @Test
     void handleEntitlementEvent_negative_liquibaseMigrationInProgress() {
       var event = createEntitlementEvent(ENTITLE);
@@ -311,4 +521,64 @@ class KafkaMessageListenerTest {
       verify(liquibaseMigrationLockService).isMigrationRunning();
     }
   }
+
+  @Nested
+  class HandleEntitlementEvents {
+
+    @Test
+    void positive_eventsAreHandledInOrder() {
+      var entitleEvent = createEntitlementEvent(ENTITLE);
+      var revokeEvent = createEntitlementEvent(REVOKE);
+
+      kafkaMessageListener.handleEntitlementEvents(List.of(new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID,
+        entitleEvent), new ConsumerRecord<>(TOPIC_NAME, 0, 1, TENANT_ID, revokeEvent)));
+
+      var inOrder = inOrder(eventService);
+      inOrder.verify(eventService).enableTimers(entitleEvent);
+      inOrder.verify(eventService).disableTimers(revokeEvent);
+    }
+
+    @Test
+    void positive_failedEventIsSkipped() {
+      var event = createEntitlementEvent(ENTITLE);
+      var revokeEvent = createEntitlementEvent(REVOKE);
+      doThrow(new RuntimeException("Failed to enable timers")).when(eventService).enableTimers(event);
+
+      kafkaMessageListener.handleEntitlementEvents(List.of(new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event),
+        new ConsumerRecord<>(TOPIC_NAME, 0, 1, TENANT_ID, revokeEvent)));
+
+      verify(eventService).enableTimers(event);
+      verify(eventService).disableTimers(revokeEvent);
+    }
+
+    @Test
+    void positive_eventOfTenantNotReadyIsParked() {
+      var event = createEntitlementEvent(ENTITLE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      var exception = new LiquibaseMigrationException("Liquibase migration is still running");
+      doThrow(exception).when(eventService).enableTimers(event);
+      when(parkedEventService.isEnabled()).thenReturn(true);
+      when(parkedEventService.park(consumerRecord, ParkedEventType.ENTITLEMENT, exception)).thenReturn(true);
+
+      kafkaMessageListener.handleEntitlementEvents(List.of(consumerRecord));
+
+      verify(eventService).enableTimers(event);
+    }
+
+    @Test
+    void negative_eventOfTenantNotReadyIsReportedWithItsRecord() {
+      var event = createEntitlementEvent(ENTITLE);
+      var consumerRecord = new ConsumerRecord<>(TOPIC_NAME, 0, 0, TENANT_ID, event);
+      doThrow(new LiquibaseMigrationException("Liquibase migration is still running"))
+        .when(eventService).enableTimers(event);
+
+      assertThatThrownBy(() -> kafkaMessageListener.handleEntitlementEvents(List.of(consumerRecord)))
+        .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+          assertThat(e.getRecord()).isSameAs(consumerRecord);
+          assertThat(e.getCause()).hasMessage("Liquibase migration is still running");
+        });
+
+      verify(eventService).enableTimers(event);
+    }
+  }
 }
@@ -0,0 +1,107 @@
+package org.folio.scheduler.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.entity.ModuleEventLedgerEntity;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.folio.scheduler.repository.ModuleEventLedgerRepository;
+import org.folio.scheduler.utils.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleEventLedgerServiceTest {
+
+  private static final String MODULE_NAME = "mod-foo";
+
+  @InjectMocks private ModuleEventLedgerService moduleEventLedgerService;
+  @Mock private ModuleEventLedgerRepository moduleEventLedgerRepository;
+  @Spy private ObjectMapper objectMapper = TestUtils.OBJECT_MAPPER;
+
+  @Test
+  void isApplied_positive_lastAppliedEventIsRepeated() {
+    var event = resourceEvent(ResourceEventType.UPDATE, "/foo/expire");
+    var ledgerEntry = ledgerEntry(event);
+    when(moduleEventLedgerRepository.findById(MODULE_NAME)).thenReturn(Optional.of(ledgerEntry));
+
+    assertThat(moduleEventLedgerService.isApplied(MODULE_NAME, event)).isTrue();
+  }
+
+  @Test
+  void isApplied_negative_eventWithOtherTimers() {
+    var ledgerEntry = ledgerEntry(resourceEvent(ResourceEventType.UPDATE, "/foo/expire"));
+    when(moduleEventLedgerRepository.findById(MODULE_NAME)).thenReturn(Optional.of(ledgerEntry));
+
+    var event = resourceEvent(ResourceEventType.UPDATE, "/foo/cleanup");
+    assertThat(moduleEventLedgerService.isApplied(MODULE_NAME, event)).isFalse();
+  }
+
+  @Test
+  void isApplied_negative_eventOfOtherType() {
+    var ledgerEntry = ledgerEntry(resourceEvent(ResourceEventType.UPDATE, "/foo/expire"));
+    when(moduleEventLedgerRepository.findById(MODULE_NAME)).thenReturn(Optional.of(ledgerEntry));
+
+    var event = resourceEvent(ResourceEventType.CREATE, "/foo/expire");
+    assertThat(moduleEventLedgerService.isApplied(MODULE_NAME, event)).isFalse();
+  }
+
+  @Test
+  void isApplied_negative_noAppliedEvents() {
+    when(moduleEventLedgerRepository.findById(MODULE_NAME)).thenReturn(Optional.empty());
+
+    var event = resourceEvent(ResourceEventType.CREATE, "/foo/expire");
+    assertThat(moduleEventLedgerService.isApplied(MODULE_NAME, event)).isFalse();
+  }
+
+  @Test
+  void markApplied_positive() {
+    var event = resourceEvent(ResourceEventType.CREATE, "/foo/expire");
+
+    moduleEventLedgerService.markApplied(MODULE_NAME, event);
+
+    verify(moduleEventLedgerRepository).save(argThat(entry -> entry.getModuleName().equals(MODULE_NAME)
+      && entry.getEventType() == ResourceEventType.CREATE
+      && entry.getModuleId().equals("mod-foo-1.0.0")
+      && entry.getChecksum() != null
+      && entry.getAppliedAt() != null));
+  }
+
+  private ModuleEventLedgerEntity ledgerEntry(ResourceEvent<ScheduledTimers> event) {
+    var savedEntry = new AtomicReference<ModuleEventLedgerEntity>();
+    when(moduleEventLedgerRepository.save(any())).thenAnswer(invocation -> {
+      savedEntry.set(invocation.getArgument(0));
+      return savedEntry.get();
+    });
+    moduleEventLedgerService.markApplied(MODULE_NAME, event);
+    return savedEntry.get();
+  }
+
+  private static ResourceEvent<ScheduledTimers> resourceEvent(ResourceEventType type, String path) {
+    return ResourceEvent.<ScheduledTimers>baseBuilder()
+      .type(type)
+      .tenant(TENANT_ID)
+      .newValue(new ScheduledTimers()
+        .moduleId("mod-foo-1.0.0")
+        .applicationId("app-foo-1.0.0")
+        .timers(List.of(new RoutingEntry().methods(List.of("POST")).pathPattern(path))))
+      .build();
+  }
+}
@@ -0,0 +1,147 @@
+package org.folio.scheduler.integration.kafka;
+
+import static java.time.ZoneOffset.UTC;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.scheduler.utils.TestUtils.asJsonString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEvent;
+import org.folio.scheduler.domain.model.ParkedEventType;
+import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
+import org.folio.scheduler.integration.kafka.model.EntitlementEventType;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.folio.scheduler.repository.ParkedEventRepository;
+import org.folio.scheduler.utils.TestUtils;
+import org.folio.spring.exception.LiquibaseMigrationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ParkedEventReplayerTest {
+
+  private static final String TOPIC = "test.test.entitlement";
+
+  @InjectMocks private ParkedEventReplayer parkedEventReplayer;
+  @Mock private ParkedEventRepository parkedEventRepository;
+  @Mock private KafkaMessageListener kafkaMessageListener;
+  @Spy private ParkedEventConfigurationProperties parkingProperties = enabledProperties();
+  @Spy private ObjectMapper objectMapper = TestUtils.OBJECT_MAPPER;
+
+  @Test
+  void replayDueEvents_positive_eventsAreReplayedInOrderAndDeleted() {
+    var scheduledJobEvent = parkedEvent(1L, ParkedEventType.SCHEDULED_JOB, asJsonString(
+      ResourceEvent.<ScheduledTimers>baseBuilder().type(ResourceEventType.CREATE).tenant(TENANT_ID).build()));
+    var entitlementEvent = parkedEvent(2L, ParkedEventType.ENTITLEMENT, asJsonString(new EntitlementEvent()
+      .setType(EntitlementEventType.ENTITLE).setTenantName(TENANT_ID).setModuleId("mod-foo-1.0.0")));
+    when(parkedEventRepository.findTenantsWithDueEvents(any())).thenReturn(List.of(TENANT_ID));
+    stubTenantLock();
+    when(parkedEventRepository.findByTenant(TENANT_ID, 100))
+      .thenReturn(List.of(scheduledJobEvent, entitlementEvent), List.of());
+
+    parkedEventReplayer.replayDueEvents();
+
+    var inOrder = inOrder(kafkaMessageListener, parkedEventRepository);
+    inOrder.verify(kafkaMessageListener).processScheduledJobEvent(any());
+    inOrder.verify(parkedEventRepository).deleteById(1L);
+    inOrder.verify(kafkaMessageListener).processEntitlementEvent(argThat(consumerRecord ->
+      consumerRecord.topic().equals(TOPIC) && consumerRecord.value().getTenantName().equals(TENANT_ID)));
+    inOrder.verify(parkedEventRepository).deleteById(2L);
+  }
+
+  @Test
+  void replayDueEvents_positive_replayIsPostponedIfTenantIsNotReady() {
+    var event = parkedEvent(1L, ParkedEventType.ENTITLEMENT, asJsonString(new EntitlementEvent()
+      .setType(EntitlementEventType.ENTITLE).setTenantName(TENANT_ID).setModuleId("mod-foo-1.0.0")));
+    var nextEvent = parkedEvent(2L, ParkedEventType.ENTITLEMENT, event.payload());
+    when(parkedEventRepository.findTenantsWithDueEvents(any())).thenReturn(List.of(TENANT_ID));
+    stubTenantLock();
+    when(parkedEventRepository.findByTenant(TENANT_ID, 100)).thenReturn(List.of(event, nextEvent));
+    doThrow(new LiquibaseMigrationException("Liquibase migration is still running for tenant: " + TENANT_ID))
+      .when(kafkaMessageListener).processEntitlementEvent(any());
+
+    var minDueAt = OffsetDateTime.now(UTC).plusSeconds(2);
+    parkedEventReplayer.replayDueEvents();
+
+    verify(parkedEventRepository).postpone(eq(1L), argThat(dueAt -> !dueAt.isBefore(minDueAt)), anyString());
+    verify(kafkaMessageListener).processEntitlementEvent(any());
+    verify(parkedEventRepository, never()).deleteById(anyLong());
+  }
+
+  @Test
+  void replayDueEvents_positive_tenantLockedByAnotherInstanceIsSkipped() {
+    when(parkedEventRepository.findTenantsWithDueEvents(any())).thenReturn(List.of(TENANT_ID));
+    when(parkedEventRepository.runWithTenantLock(eq(TENANT_ID), any())).thenReturn(false);
+
+    parkedEventReplayer.replayDueEvents();
+
+    verify(parkedEventRepository, never()).findByTenant(any(), anyInt());
+    verifyNoInteractions(kafkaMessageListener);
+  }
+
+  @Test
+  void replayDueEvents_positive_eventPostponedByAnotherInstanceIsSkipped() {
+    var parkedAt = OffsetDateTime.now(UTC);
+    var event = new ParkedEvent(1L, ParkedEventType.ENTITLEMENT, TENANT_ID, TOPIC, 0, 1L, "{}", "Tenant is not ready",
+      1, parkedAt, parkedAt.plusMinutes(1));
+    when(parkedEventRepository.findTenantsWithDueEvents(any())).thenReturn(List.of(TENANT_ID));
+    stubTenantLock();
+    when(parkedEventRepository.findByTenant(TENANT_ID, 100)).thenReturn(List.of(event));
+
+    parkedEventReplayer.replayDueEvents();
+
+    verify(parkedEventRepository, never()).deleteById(anyLong());
+    verifyNoInteractions(kafkaMessageListener);
+  }
+
+  @Test
+  void replayDueEvents_positive_disabled() {
+    parkingProperties.setEnabled(false);
+
+    parkedEventReplayer.replayDueEvents();
+
+    verifyNoInteractions(parkedEventRepository, kafkaMessageListener);
+  }
+
+  private void stubTenantLock() {
+    when(parkedEventRepository.runWithTenantLock(eq(TENANT_ID), any())).thenAnswer(invocation -> {
+      invocation.<Runnable>getArgument(1).run();
+      return true;
+    });
+  }
+
+  private static ParkedEvent parkedEvent(long id, ParkedEventType type, String payload) {
+    var parkedAt = OffsetDateTime.now(UTC);
+    return new ParkedEvent(id, type, TENANT_ID, TOPIC, 0, id, payload, "Tenant is not ready", 0, parkedAt, parkedAt);
+  }
+
+  private static ParkedEventConfigurationProperties enabledProperties() {
+    var properties = new ParkedEventConfigurationProperties();
+    properties.setEnabled(true);
+    properties.setRetryDelay(Duration.ofSeconds(1));
+    return properties;
+  }
+}
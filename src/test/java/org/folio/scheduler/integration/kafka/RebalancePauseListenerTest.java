@@ -0,0 +1,54 @@
+package org.folio.scheduler.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RebalancePauseListenerTest {
+
+  private static final String GROUP_ID = "test-group";
+  private static final List<TopicPartition> PARTITIONS = List.of(new TopicPartition("test.entitlement", 0));
+
+  @Mock private Consumer<?, ?> consumer;
+  private SimpleMeterRegistry meterRegistry;
+  private RebalancePauseListener listener;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    listener = new RebalancePauseListener(meterRegistry);
+  }
+
+  @Test
+  void onPartitionsAssigned_positive_pauseAfterRevocationIsRecorded() {
+    when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata(GROUP_ID));
+
+    listener.onPartitionsRevokedAfterCommit(consumer, PARTITIONS);
+    listener.onPartitionsAssigned(consumer, PARTITIONS);
+
+    var timer = meterRegistry.find("scheduler.kafka.rebalance.pause").tag("group", GROUP_ID).timer();
+    assertThat(timer).isNotNull();
+    assertThat(timer.count()).isOne();
+  }
+
+  @Test
+  void onPartitionsAssigned_positive_rebalanceWithoutRevocationIsNotRecorded() {
+    listener.onPartitionsRevokedAfterCommit(consumer, List.of());
+    listener.onPartitionsAssigned(consumer, PARTITIONS);
+
+    assertThat(meterRegistry.find("scheduler.kafka.rebalance.pause").timer()).isNull();
+  }
+}
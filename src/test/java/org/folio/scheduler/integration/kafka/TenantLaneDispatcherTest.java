@@ -0,0 +1,105 @@
+package org.folio.scheduler.integration.kafka;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TenantLaneConfigurationProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TenantLaneDispatcherTest {
+
+  private TenantLaneDispatcher dispatcher;
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.destroy();
+  }
+
+  @Test
+  void dispatch_positive_itemsOfTenantAreHandledInOrder() {
+    dispatcher = new TenantLaneDispatcher(properties(true), new ParkedEventConfigurationProperties());
+    var handled = new CopyOnWriteArrayList<Item>();
+    var items = List.of(item("a", 0), item("b", 1), item("a", 2), item("b", 3), item("a", 4));
+
+    dispatcher.dispatch(items, Item::tenant, handled::add);
+
+    assertThat(handled).hasSize(5);
+    assertThat(handled.stream().filter(item -> item.tenant().equals("a")).toList())
+      .containsExactly(item("a", 0), item("a", 2), item("a", 4));
+    assertThat(handled.stream().filter(item -> item.tenant().equals("b")).toList())
+      .containsExactly(item("b", 1), item("b", 3));
+  }
+
+  @Test
+  void dispatch_positive_blockedTenantDoesNotDelayOtherTenants() {
+    dispatcher = new TenantLaneDispatcher(properties(true), new ParkedEventConfigurationProperties());
+    var otherTenantHandled = new CountDownLatch(1);
+    var items = List.of(item("a", 0), item("b", 1));
+
+    dispatcher.dispatch(items, Item::tenant, item -> {
+      if (item.tenant().equals("a")) {
+        await(otherTenantHandled);
+      } else {
+        otherTenantHandled.countDown();
+      }
+    });
+
+    assertThat(otherTenantHandled.getCount()).isZero();
+  }
+
+  @Test
+  void dispatch_negative_earliestFailureIsRethrown() {
+    dispatcher = new TenantLaneDispatcher(properties(true), new ParkedEventConfigurationProperties());
+    var handled = new CopyOnWriteArrayList<Item>();
+    var items = List.of(item("a", 0), item("b", 1), item("a", 2), item("a", 3), item("b", 4));
+
+    assertThatThrownBy(() -> dispatcher.dispatch(items, Item::tenant, item -> {
+      handled.add(item);
+      if (item.offset() == 1 || item.offset() == 2) {
+        throw new IllegalStateException("Failed item: " + item.offset());
+      }
+    })).isInstanceOf(IllegalStateException.class).hasMessage("Failed item: 1");
+
+    assertThat(handled).containsExactlyInAnyOrder(item("a", 0), item("b", 1), item("a", 2));
+  }
+
+  @Test
+  void dispatch_positive_disabledLanesHandleItemsInCallerThread() {
+    dispatcher = new TenantLaneDispatcher(properties(false), new ParkedEventConfigurationProperties());
+    var threads = new CopyOnWriteArrayList<Thread>();
+
+    dispatcher.dispatch(List.of(item("a", 0), item("b", 1)), Item::tenant, item -> threads.add(Thread.currentThread()));
+
+    assertThat(threads).containsOnly(Thread.currentThread()).hasSize(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static TenantLaneConfigurationProperties properties(boolean enabled) {
+    var properties = new TenantLaneConfigurationProperties();
+    properties.setEnabled(enabled);
+    properties.setPoolSize(2);
+    return properties;
+  }
+
+  private static Item item(String tenant, long offset) {
+    return new Item(tenant, offset);
+  }
+
+  private record Item(String tenant, long offset) {}
+}
@@ -5,6 +5,8 @@ import static org.folio.scheduler.support.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -17,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
 
@@ -34,6 +38,8 @@ class TimerTableCheckServiceTest {
   @Mock
   private FolioModuleMetadata moduleMetadata;
 
+  private final Cache cache = new ConcurrentMapCache("timer-table-exists");
+
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(jdbcTemplate);
@@ -42,7 +48,7 @@ class TimerTableCheckServiceTest {
   @Test
   void tableExists_positive_tableIsPresent() {
     setupContextMocks();
-    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context);
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, cache);
 
     when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
       .thenReturn(true);
@@ -55,7 +61,7 @@ class TimerTableCheckServiceTest {
   @Test
   void tableExists_positive_tableIsAbsent() {
     setupContextMocks();
-    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context);
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, cache);
 
     when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
       .thenReturn(false);
@@ -68,7 +74,7 @@ class TimerTableCheckServiceTest {
   @Test
   void tableExists_positive_tableIsPresentReturnsNull() {
     setupContextMocks();
-    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context);
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, cache);
 
     when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
       .thenReturn(null);
@@ -81,7 +87,7 @@ class TimerTableCheckServiceTest {
   @Test
   void tableExists_withUpperCase_tableIsPresent() {
     setupContextMocks();
-    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, TableNameCase.UPPER);
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, TableNameCase.UPPER, cache);
 
     when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME),
       eq(TIMER_TABLE_NAME.toUpperCase())))
@@ -95,7 +101,7 @@ class TimerTableCheckServiceTest {
   @Test
   void tableExists_withMixedCase_tableIsPresent() {
     setupContextMocks();
-    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, TableNameCase.MIXED);
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, TableNameCase.MIXED, cache);
 
     when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
       .thenReturn(true);
@@ -105,6 +111,54 @@ class TimerTableCheckServiceTest {
     assertThat(result).isTrue();
   }
 
+  @Test
+  void tableExists_positive_presentTableIsCachedUntilEvicted() {
+    setupContextMocks();
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, cache);
+
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
+      .thenReturn(true);
+
+    assertThat(timerTableCheckService.tableExists()).isTrue();
+    assertThat(timerTableCheckService.tableExists()).isTrue();
+    timerTableCheckService.evictCache();
+    assertThat(timerTableCheckService.tableExists()).isTrue();
+
+    verify(jdbcTemplate, times(2))
+      .query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME));
+  }
+
+  @Test
+  void tableExists_positive_absentTableIsNotCached() {
+    setupContextMocks();
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, cache);
+
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
+      .thenReturn(false, true);
+
+    assertThat(timerTableCheckService.tableExists()).isFalse();
+    assertThat(timerTableCheckService.tableExists()).isTrue();
+
+    verify(jdbcTemplate, times(2))
+      .query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME));
+  }
+
+  @Test
+  void recheckTableExists_positive_cachedResultIsRefreshed() {
+    setupContextMocks();
+    var timerTableCheckService = new TimerTableCheckService(jdbcTemplate, context, cache);
+
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME)))
+      .thenReturn(true, false);
+
+    assertThat(timerTableCheckService.tableExists()).isTrue();
+    assertThat(timerTableCheckService.recheckTableExists()).isFalse();
+    assertThat(cache.get(SCHEMA_NAME)).isNull();
+
+    verify(jdbcTemplate, times(2))
+      .query(anyString(), any(ResultSetExtractor.class), eq(SCHEMA_NAME), eq(TIMER_TABLE_NAME));
+  }
+
   private void setupContextMocks() {
     when(context.getFolioModuleMetadata()).thenReturn(moduleMetadata);
     when(context.getTenantId()).thenReturn(TENANT_ID);
@@ -1,6 +1,8 @@
 package org.folio.scheduler.it;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import org.folio.scheduler.support.base.BaseIntegrationTest;
@@ -16,4 +18,9 @@ class ActuatorIT extends BaseIntegrationTest {
   void getContainerHealth_positive() throws Exception {
     doGet("/admin/health").andExpect(jsonPath("$.status", is("UP")));
   }
+
+  @Test
+  void getPrometheusMetrics_positive() throws Exception {
+    doGet("/admin/prometheus").andExpect(content().string(containsString("jvm_memory_used_bytes")));
+  }
 }
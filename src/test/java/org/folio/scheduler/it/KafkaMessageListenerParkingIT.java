@@ -0,0 +1,116 @@
+package org.folio.scheduler.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.integration.kafka.model.ResourceEventType.CREATE;
+import static org.folio.integration.kafka.model.ResourceEventType.UPDATE;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.scheduler.utils.TestUtils.asJsonString;
+import static org.folio.scheduler.utils.TestUtils.await;
+import static org.mockito.Mockito.when;
+import static org.quartz.impl.matchers.GroupMatcher.anyJobGroup;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import java.util.List;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.spring.liquibase.LiquibaseMigrationLockService;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.extensions.KeycloakRealms;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Verifies that scheduled job events waiting for a Liquibase migration are parked and replayed in order.
+ */
+@EnableKeycloakTlsMode
+@IntegrationTest
+@TestPropertySource(properties = {
+  "application.kafka.parking.enabled=true",
+  "application.kafka.parking.retry-delay=100ms",
+  "application.kafka.parking.max-delay=200ms",
+  "application.kafka.parking.replay-interval=100ms"
+})
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class KafkaMessageListenerParkingIT extends BaseIntegrationTest {
+
+  private static final String SCHEDULED_TIMER_TOPIC = "it.test.mgr-tenant-entitlements.scheduled-job";
+  private static final String FAR_FUTURE_CRON = "0 0 1 1 *";
+
+  @MockitoBean private LiquibaseMigrationLockService liquibaseMigrationLockService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private KafkaTemplate<String, String> kafkaTemplate;
+
+  @BeforeAll
+  static void beforeAll(@Autowired KafkaAdmin kafkaAdmin) {
+    createTopic(SCHEDULED_TIMER_TOPIC, kafkaAdmin);
+    setUpTenant();
+  }
+
+  @AfterAll
+  static void afterAll(@Autowired Scheduler scheduler) throws Exception {
+    removeTenant();
+    deleteAllQuartzJobs(scheduler);
+    assertThat(scheduler.getJobKeys(anyJobGroup())).isEmpty();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM sys_quartz_mod_scheduler.parked_event");
+  }
+
+  @Test
+  @KeycloakRealms("/json/keycloak/test-realm.json")
+  void handleScheduledJobEvent_positive_eventsAreParkedAndReplayedInOrder() {
+    when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(true);
+
+    kafkaTemplate.send(SCHEDULED_TIMER_TOPIC, asJsonString(resourceEvent(CREATE, "/parking/created")));
+    await().untilAsserted(() -> assertThat(countParkedEvents()).isEqualTo(1));
+
+    kafkaTemplate.send(SCHEDULED_TIMER_TOPIC, asJsonString(resourceEvent(UPDATE, "/parking/updated")));
+    await().untilAsserted(() -> assertThat(countParkedEvents()).isEqualTo(2));
+    assertThat(findTimerPaths()).isEmpty();
+
+    when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(false);
+
+    await().untilAsserted(() -> assertThat(countParkedEvents()).isZero());
+    assertThat(findTimerPaths()).containsExactly("/parking/updated");
+  }
+
+  private Integer countParkedEvents() {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM sys_quartz_mod_scheduler.parked_event", Integer.class);
+  }
+
+  private List<String> findTimerPaths() {
+    return jdbcTemplate.queryForList("SELECT path FROM " + TENANT_ID + "_mod_scheduler.timer", String.class);
+  }
+
+  private static ResourceEvent<ScheduledTimers> resourceEvent(ResourceEventType type, String path) {
+    return ResourceEvent.<ScheduledTimers>baseBuilder()
+      .resourceName("Scheduled Job")
+      .tenant(TENANT_ID)
+      .type(type)
+      .newValue(new ScheduledTimers()
+        .moduleId("mod-parking-1.0.0")
+        .applicationId("app-parking-1.0.0")
+        .timers(List.of(new RoutingEntry()
+          .methods(List.of("POST"))
+          .pathPattern(path)
+          .schedule(new RoutingEntrySchedule().cron(FAR_FUTURE_CRON)))))
+      .build();
+  }
+}
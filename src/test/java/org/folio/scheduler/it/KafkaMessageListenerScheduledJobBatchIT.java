@@ -0,0 +1,113 @@
+package org.folio.scheduler.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.integration.kafka.model.ResourceEventType.UPDATE;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.scheduler.utils.TestUtils.asJsonString;
+import static org.folio.scheduler.utils.TestUtils.await;
+import static org.quartz.impl.matchers.GroupMatcher.anyJobGroup;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.extensions.KeycloakRealms;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Verifies the batch processing of scheduled job events: only the last UPDATE event of each module is applied.
+ *
+ * <p>
+ * The elapsed time until the timers of all modules reflect their last event is logged. The amount of events defaults
+ * to a small value to keep the build fast; it can be increased with {@code -Dscheduler.it.kafka-modules=50} and
+ * {@code -Dscheduler.it.kafka-events-per-module=100}, and the record listener can be measured for comparison with
+ * {@code -Dscheduler.it.kafka-batch-enabled=false}.
+ * </p>
+ */
+@Log4j2
+@EnableKeycloakTlsMode
+@IntegrationTest
+@TestPropertySource(properties =
+  "application.kafka.scheduled-jobs.batch-enabled=${scheduler.it.kafka-batch-enabled:true}")
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class KafkaMessageListenerScheduledJobBatchIT extends BaseIntegrationTest {
+
+  private static final String SCHEDULED_TIMER_TOPIC = "it.test.mgr-tenant-entitlements.scheduled-job";
+  private static final String FAR_FUTURE_CRON = "0 0 1 1 *";
+  private static final int MODULES_COUNT = Integer.getInteger("scheduler.it.kafka-modules", 5);
+  private static final int EVENTS_PER_MODULE = Integer.getInteger("scheduler.it.kafka-events-per-module", 20);
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private KafkaTemplate<String, String> kafkaTemplate;
+
+  @BeforeAll
+  static void beforeAll(@Autowired KafkaAdmin kafkaAdmin) {
+    createTopic(SCHEDULED_TIMER_TOPIC, kafkaAdmin);
+    setUpTenant();
+  }
+
+  @AfterAll
+  static void afterAll(@Autowired Scheduler scheduler) throws Exception {
+    removeTenant();
+    deleteAllQuartzJobs(scheduler);
+    assertThat(scheduler.getJobKeys(anyJobGroup())).isEmpty();
+  }
+
+  @Test
+  @KeycloakRealms("/json/keycloak/test-realm.json")
+  void handleScheduledJobEvents_positive_appliesLastEventOfEachModule() {
+    var startTime = System.nanoTime();
+    for (int version = 1; version <= EVENTS_PER_MODULE; version++) {
+      for (int module = 0; module < MODULES_COUNT; module++) {
+        kafkaTemplate.send(SCHEDULED_TIMER_TOPIC, asJsonString(updateEvent(module, version)));
+      }
+    }
+
+    var expectedPaths = IntStream.range(0, MODULES_COUNT).mapToObj(module -> path(module, EVENTS_PER_MODULE)).toList();
+    await().untilAsserted(() -> assertThat(findTimerPaths()).containsExactlyInAnyOrderElementsOf(expectedPaths));
+
+    var events = MODULES_COUNT * EVENTS_PER_MODULE;
+    var elapsedNanos = System.nanoTime() - startTime;
+    log.info("Scheduled job events processed [events: {}, modules: {}, elapsedMs: {}, eventsPerSec: {}]",
+      events, MODULES_COUNT, elapsedNanos / 1_000_000, events * 1_000_000_000L / Math.max(1L, elapsedNanos));
+  }
+
+  private List<String> findTimerPaths() {
+    return jdbcTemplate.queryForList("SELECT path FROM " + TENANT_ID + "_mod_scheduler.timer", String.class);
+  }
+
+  private static ResourceEvent<ScheduledTimers> updateEvent(int module, int version) {
+    return ResourceEvent.<ScheduledTimers>baseBuilder()
+      .resourceName("Scheduled Job")
+      .tenant(TENANT_ID)
+      .type(UPDATE)
+      .newValue(new ScheduledTimers()
+        .moduleId("mod-batch" + module + "-1.0." + version)
+        .applicationId("app-batch-1.0." + version)
+        .timers(List.of(new RoutingEntry()
+          .methods(List.of("POST"))
+          .pathPattern(path(module, version))
+          .schedule(new RoutingEntrySchedule().cron(FAR_FUTURE_CRON)))))
+      .build();
+  }
+
+  private static String path(int module, int version) {
+    return "/batch/" + module + "/" + version;
+  }
+}
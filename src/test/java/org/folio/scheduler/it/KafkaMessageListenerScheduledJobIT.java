@@ -1,12 +1,14 @@
 package org.folio.scheduler.it;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Durations.ONE_HUNDRED_MILLISECONDS;
 import static org.awaitility.Durations.ONE_SECOND;
 import static org.awaitility.Durations.TWO_SECONDS;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.integration.kafka.model.ResourceEventType.CREATE;
+import static org.folio.integration.kafka.model.ResourceEventType.UPDATE;
 import static org.folio.scheduler.domain.dto.TimerUnit.SECOND;
 import static org.folio.scheduler.support.TestConstants.TENANT_ID;
 import static org.folio.scheduler.utils.TestUtils.asJsonString;
@@ -15,6 +17,7 @@ import static org.folio.scheduler.utils.TestUtils.awaitFor;
 import static org.folio.scheduler.utils.TestUtils.convertValue;
 import static org.folio.scheduler.utils.TestUtils.parse;
 import static org.folio.scheduler.utils.TestUtils.readString;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -30,12 +33,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.testcontainers.shaded.org.awaitility.Durations.FIVE_HUNDRED_MILLISECONDS;
 
 import java.sql.SQLDataException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.utils.SemverUtils;
 import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerDescriptorList;
@@ -44,7 +50,9 @@ import org.folio.scheduler.integration.kafka.model.ScheduledTimers;
 import org.folio.scheduler.service.RequestOrigin;
 import org.folio.scheduler.service.SchedulerTimerService;
 import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.liquibase.LiquibaseMigrationLockService;
+import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.folio.test.extensions.EnableKeycloakTlsMode;
 import org.folio.test.extensions.KeycloakRealms;
 import org.folio.test.extensions.WireMockStub;
@@ -85,6 +93,7 @@ class KafkaMessageListenerScheduledJobIT extends BaseIntegrationTest {
   @MockitoBean private LiquibaseMigrationLockService liquibaseMigrationLockService;
   @Autowired private Scheduler scheduler;
   @Autowired private KafkaTemplate<String, String> kafkaTemplate;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
 
   @BeforeAll
   static void beforeAll(@Autowired KafkaAdmin kafkaAdmin) {
@@ -194,6 +203,28 @@ class KafkaMessageListenerScheduledJobIT extends BaseIntegrationTest {
     await().untilAsserted(() -> getScheduledTimers(userTimer));
   }
 
+  @Test
+  @WireMockStub("/wiremock/stubs/timer-endpoint.json")
+  @KeycloakRealms("/json/keycloak/test-realm.json")
+  void handleScheduledJobEvent_positive_updateEventSchedulesDisabledSystemTimer() throws Exception {
+    kafkaTemplate.send(SCHEDULED_TIMER_TOPIC, asJsonString(resourceEvent()));
+    await().untilAsserted(() -> getScheduledTimers(timerDescriptorList(timerDescriptor())));
+
+    var timer = parse(doGet("/scheduler/timers").andReturn().getResponse().getContentAsString(),
+      TimerDescriptorList.class).getTimerDescriptors().getFirst();
+    var jobKey = JobKey.jobKey(timer.getId().toString(), TENANT_ID + "#" + MODULE_NAME);
+    Map<String, Collection<String>> headers = Map.of(TENANT, singletonList(TENANT_ID));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      schedulerTimerService.update(timer.getId(), timer.enabled(false), RequestOrigin.KAFKA);
+    }
+    assertThat(scheduler.checkExists(jobKey)).isFalse();
+
+    kafkaTemplate.send(SCHEDULED_TIMER_TOPIC, asJsonString(resourceEvent(UPDATE)));
+
+    await().untilAsserted(() -> assertThat(scheduler.checkExists(jobKey)).isTrue());
+    getScheduledTimers(timerDescriptorList(timerDescriptor()));
+  }
+
   @MethodSource("exceptionDataProvider")
   @KeycloakRealms("/json/keycloak/test-realm.json")
   @ParameterizedTest(name = "[{index}] name={0}")
@@ -303,10 +334,15 @@ class KafkaMessageListenerScheduledJobIT extends BaseIntegrationTest {
   }
 
   private static ResourceEvent<ScheduledTimers> resourceEvent() {
+    return resourceEvent(CREATE);
+  }
+
+  private static ResourceEvent<ScheduledTimers> resourceEvent(ResourceEventType type) {
     return ResourceEvent.<ScheduledTimers>baseBuilder()
       .resourceName("Scheduled Job")
       .tenant(TENANT_ID)
-      .type(CREATE)
+      .type(type)
+      .oldValue(type == UPDATE ? scheduledTimers(routingEntry()) : null)
       .newValue(scheduledTimers(routingEntry()))
       .build();
   }
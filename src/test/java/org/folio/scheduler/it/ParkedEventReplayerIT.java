@@ -0,0 +1,102 @@
+package org.folio.scheduler.it;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.utils.TestUtils.asJsonString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.scheduler.configuration.properties.ParkedEventConfigurationProperties;
+import org.folio.scheduler.domain.model.ParkedEvent;
+import org.folio.scheduler.domain.model.ParkedEventType;
+import org.folio.scheduler.integration.kafka.KafkaMessageListener;
+import org.folio.scheduler.integration.kafka.ParkedEventReplayer;
+import org.folio.scheduler.integration.kafka.model.EntitlementEvent;
+import org.folio.scheduler.integration.kafka.model.EntitlementEventType;
+import org.folio.scheduler.repository.ParkedEventRepository;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Verifies that parked events of a tenant are replayed by a single module instance at a time.
+ */
+@EnableKeycloakTlsMode
+@IntegrationTest
+class ParkedEventReplayerIT extends BaseIntegrationTest {
+
+  private static final String TENANT = "replaytenant";
+  private static final String TOPIC = "it.test.entitlement";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private ParkedEventRepository parkedEventRepository;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM sys_quartz_mod_scheduler.parked_event");
+  }
+
+  @Test
+  void replayDueEvents_positive_tenantIsReplayedBySingleInstance() throws Exception {
+    parkEvent(1L);
+    parkEvent(2L);
+    var replayBlocked = new CountDownLatch(1);
+    var replayResumed = new CountDownLatch(1);
+    var replayedEvents = new AtomicInteger();
+    // the first instance is blocked on the second event, after the first one has been deleted
+    var firstListener = mock(KafkaMessageListener.class, invocation -> {
+      if (replayedEvents.incrementAndGet() == 2) {
+        replayBlocked.countDown();
+        replayResumed.await();
+      }
+      return null;
+    });
+    var secondListener = mock(KafkaMessageListener.class);
+
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var firstReplay = executor.submit(replayer(firstListener)::replayDueEvents);
+      assertThat(replayBlocked.await(10, SECONDS)).isTrue();
+
+      replayer(secondListener).replayDueEvents();
+      verifyNoInteractions(secondListener);
+
+      replayResumed.countDown();
+      firstReplay.get(10, SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(replayedEvents).hasValue(2);
+    assertThat(countParkedEvents()).isZero();
+  }
+
+  private ParkedEventReplayer replayer(KafkaMessageListener kafkaMessageListener) {
+    var parkingProperties = new ParkedEventConfigurationProperties();
+    parkingProperties.setEnabled(true);
+    return new ParkedEventReplayer(parkedEventRepository, parkingProperties, kafkaMessageListener, objectMapper);
+  }
+
+  private void parkEvent(long offset) {
+    var now = OffsetDateTime.now(UTC);
+    var payload = asJsonString(new EntitlementEvent()
+      .setType(EntitlementEventType.ENTITLE).setTenantName(TENANT).setModuleId("mod-foo-1.0.0"));
+    parkedEventRepository.insert(new ParkedEvent(0L, ParkedEventType.ENTITLEMENT, TENANT, TOPIC, 0, offset, payload,
+      "Tenant is not ready", 0, now, now));
+  }
+
+  private Integer countParkedEvents() {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM sys_quartz_mod_scheduler.parked_event", Integer.class);
+  }
+}
@@ -0,0 +1,253 @@
+package org.folio.scheduler.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
+import static org.folio.test.TestUtils.asJsonString;
+import static org.quartz.impl.matchers.GroupMatcher.anyJobGroup;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerDescriptorList;
+import org.folio.scheduler.domain.dto.TimerUnit;
+import org.folio.scheduler.service.UserImpersonationService;
+import org.folio.scheduler.support.StatementCountingDataSource;
+import org.folio.scheduler.support.TestConstants;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.scheduler.utils.TestUtils;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.extensions.WireMockStub;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Load-test harness that fires timers of several tenants against a stub module and reports the sustained throughput
+ * of a single node.
+ *
+ * <p>
+ * The user impersonation service is replaced by a stub returning a static token, so the harness measures timer
+ * scheduling and execution without token exchanges. Module calls are served by WireMock with the latency profile set
+ * by {@code -Dscheduler.it.load.latency=fast|slow}, where {@code slow} responses follow a log-normal distribution with
+ * a 200 ms median, and {@code -Dscheduler.it.load.error-rate} sends the given share of timers to an endpoint failing
+ * with a retryable {@code 503}.
+ * </p>
+ *
+ * <p>
+ * The harness is skipped by the default build and runs only with {@code -Dscheduler.it.load=true}. By default, a small
+ * load runs for a few seconds; it can be run at scale with e.g.
+ * {@code -Dscheduler.it.load.tenants=10 -Dscheduler.it.load.timers=500 -Dscheduler.it.load.duration=300
+ * -Dscheduler.it.load.quartz-threads=20}. Fires per second, fire lag percentiles, statements per fire and heap usage
+ * are logged and written to {@code target/load-test-result.json}.
+ * </p>
+ */
+@Log4j2
+@EnableKeycloakTlsMode
+@IntegrationTest
+@EnabledIfSystemProperty(named = "scheduler.it.load", matches = "true")
+@TestPropertySource(properties = {
+  "spring.jpa.show-sql=false",
+  "spring.quartz.properties.org.quartz.threadPool.threadCount=${scheduler.it.load.quartz-threads:5}"
+})
+class SchedulerLoadIT extends BaseIntegrationTest {
+
+  private static final int TENANTS = Integer.getInteger("scheduler.it.load.tenants", 2);
+  private static final int TIMERS_PER_TENANT = Integer.getInteger("scheduler.it.load.timers", 10);
+  private static final int INTERVAL_SECONDS = Integer.getInteger("scheduler.it.load.interval", 1);
+  private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("scheduler.it.load.warmup", 3));
+  private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("scheduler.it.load.duration", 10));
+  private static final String LATENCY = System.getProperty("scheduler.it.load.latency", "fast");
+  private static final double ERROR_RATE = Double.parseDouble(System.getProperty("scheduler.it.load.error-rate", "0"));
+  private static final String EXECUTION_METRIC = "scheduler.timer.execution";
+  private static final File REPORT_FILE = new File("target/load-test-result.json");
+
+  @Autowired private Scheduler scheduler;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private StatementCountingDataSource dataSource;
+
+  @BeforeAll
+  static void beforeAll() {
+    tenants().forEach(BaseIntegrationTest::enableTenant);
+  }
+
+  @AfterAll
+  static void afterAll(@Autowired Scheduler scheduler) throws Exception {
+    scheduler.standby();
+    tenants().forEach(BaseIntegrationTest::removeTenant);
+    deleteAllQuartzJobs(scheduler);
+    assertThat(scheduler.getJobKeys(anyJobGroup())).isEmpty();
+    scheduler.start();
+  }
+
+  @Test
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/load-timer-fast.json",
+    "/wiremock/stubs/load-timer-slow.json",
+    "/wiremock/stubs/load-timer-error.json"})
+  void fireTimers_positive_sustainedLoad() throws Exception {
+    for (var tenant : tenants()) {
+      createTimers(tenant);
+    }
+    awaitFor(WARMUP);
+
+    var fireLag = new FireLagListener();
+    scheduler.getListenerManager().addTriggerListener(fireLag);
+    var heapUsedMax = new AtomicLong();
+    var heapSampler = Executors.newSingleThreadScheduledExecutor();
+    heapSampler.scheduleAtFixedRate(() -> heapUsedMax.accumulateAndGet(heapUsed(), Math::max), 0, 1, TimeUnit.SECONDS);
+    var successesBefore = executions("SUCCESS");
+    var failuresBefore = executions("FAILURE");
+    var statementsBefore = dataSource.getStatementCount();
+
+    awaitFor(DURATION);
+
+    scheduler.getListenerManager().removeTriggerListener(fireLag.getName());
+    heapSampler.shutdownNow();
+    var statements = dataSource.getStatementCount() - statementsBefore;
+    var fires = fireLag.lagsMillis.size();
+    var lags = new ArrayList<>(fireLag.lagsMillis);
+    Collections.sort(lags);
+
+    var report = new LoadTestReport(TENANTS, TIMERS_PER_TENANT, INTERVAL_SECONDS, LATENCY, ERROR_RATE,
+      DURATION.toSeconds(), fires, (double) fires / DURATION.toSeconds(), executions("SUCCESS") - successesBefore,
+      executions("FAILURE") - failuresBefore, percentile(lags, 0.5), percentile(lags, 0.95), percentile(lags, 0.99),
+      lags.isEmpty() ? 0 : lags.getLast(), fires == 0 ? 0 : (double) statements / fires,
+      toMegabytes(heapUsedMax.get()), toMegabytes(heapUsed()));
+    log.info("Load test finished: {}", report);
+    TestUtils.OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(REPORT_FILE, report);
+
+    assertThat(fires).isPositive();
+  }
+
+  private static void createTimers(String tenant) throws Exception {
+    var errorTimers = (int) Math.round(TIMERS_PER_TENANT * ERROR_RATE);
+    var timers = IntStream.range(0, TIMERS_PER_TENANT)
+      .mapToObj(i -> timerDescriptor((i < errorTimers ? "/load/error/" : "/load/" + LATENCY + "/") + i))
+      .toList();
+
+    mockMvc.perform(post("/scheduler/timers/batch")
+        .header(TENANT, tenant)
+        .header(USER_ID, TestConstants.USER_ID)
+        .content(asJsonString(new TimerDescriptorList().timerDescriptors(timers)))
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isOk());
+  }
+
+  private static TimerDescriptor timerDescriptor(String path) {
+    return new TimerDescriptor()
+      .enabled(true)
+      .moduleId(TestConstants.MODULE_ID)
+      .routingEntry(new RoutingEntry()
+        .methods(List.of("POST"))
+        .pathPattern(path)
+        .delay(String.valueOf(INTERVAL_SECONDS))
+        .unit(TimerUnit.SECOND));
+  }
+
+  private long executions(String outcome) {
+    return meterRegistry.find(EXECUTION_METRIC).tag("outcome", outcome).timers().stream()
+      .mapToLong(Timer::count)
+      .sum();
+  }
+
+  private static void awaitFor(Duration duration) {
+    await().pollDelay(duration).atMost(duration.plusSeconds(1)).until(() -> true);
+  }
+
+  private static List<String> tenants() {
+    return IntStream.rangeClosed(1, TENANTS).mapToObj(i -> "loadtenant" + i).toList();
+  }
+
+  private static long percentile(List<Long> sortedValues, double percentile) {
+    if (sortedValues.isEmpty()) {
+      return 0;
+    }
+    var index = (int) Math.ceil(percentile * sortedValues.size()) - 1;
+    return sortedValues.get(Math.max(index, 0));
+  }
+
+  private static long heapUsed() {
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static long toMegabytes(long bytes) {
+    return bytes / (1024 * 1024);
+  }
+
+  record LoadTestReport(int tenants, int timersPerTenant, int intervalSeconds, String latency, double errorRate,
+                        long durationSeconds, long fires, double firesPerSecond, long successes, long failures,
+                        long lagP50Ms, long lagP95Ms, long lagP99Ms, long lagMaxMs, double statementsPerFire,
+                        long heapUsedMaxMb, long heapUsedEndMb) {}
+
+  /**
+   * Collects the lag of each fire in the measurement window.
+   */
+  private static final class FireLagListener extends TriggerListenerSupport {
+
+    private final Queue<Long> lagsMillis = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String getName() {
+      return "loadTestFireLagListener";
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+      lagsMillis.add(context.getFireTime().getTime() - context.getScheduledFireTime().getTime());
+    }
+  }
+
+  @TestConfiguration
+  static class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    UserImpersonationService stubUserImpersonationService() {
+      return (tenant, userId) -> TestConstants.USER_TOKEN;
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+            ? new StatementCountingDataSource(dataSource) : bean;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package org.folio.scheduler.it;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.support.TestConstants.USER_ID_UUID;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.quartz.impl.matchers.GroupMatcher.anyJobGroup;
+import static org.quartz.impl.matchers.GroupMatcher.jobGroupStartsWith;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerType;
+import org.folio.scheduler.service.JobSchedulingService;
+import org.folio.scheduler.service.SchedulerTimerService;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.quartz.Scheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Verifies the set-based tenant purge: timers are removed with a single statement and Quartz jobs by the tenant group
+ * prefix, while jobs of a tenant whose id matches the prefix as a {@code LIKE} pattern are left untouched.
+ *
+ * <p>
+ * The purge at production scale runs only with {@code -Dscheduler.it.load=true}, for 50000 timers by default or for
+ * the amount set by {@code -Dscheduler.it.purge-timers}, and its elapsed time is logged.
+ * </p>
+ */
+@Log4j2
+@EnableKeycloakTlsMode
+@IntegrationTest
+class SchedulerTenantPurgeIT extends BaseIntegrationTest {
+
+  private static final String TENANT_A = "purge_a";
+  private static final String TENANT_B = "purgexa";
+  private static final String MODULE_NAME = "mod-foo";
+  private static final int TIMERS_COUNT = 50;
+  private static final int LOAD_TIMERS_COUNT = Integer.getInteger("scheduler.it.purge-timers", 50_000);
+
+  @Autowired private Scheduler scheduler;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private JobSchedulingService jobSchedulingService;
+  @Autowired private SchedulerTimerService schedulerTimerService;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+
+  @BeforeAll
+  static void beforeAll() {
+    enableTenant(TENANT_A);
+  }
+
+  @AfterAll
+  static void afterAll(@Autowired Scheduler scheduler) throws Exception {
+    removeTenant(TENANT_A);
+    deleteAllQuartzJobs(scheduler);
+    assertThat(scheduler.getJobKeys(anyJobGroup())).isEmpty();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    deleteAllQuartzJobs(scheduler);
+  }
+
+  @Test
+  void deleteAll_positive_removesTenantTimersAndJobs() throws Exception {
+    purgeTenant(TIMERS_COUNT);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "scheduler.it.load", matches = "true")
+  void deleteAll_positive_purgeAtProductionScale() throws Exception {
+    var elapsedNanos = purgeTenant(LOAD_TIMERS_COUNT);
+    log.info("Tenant timers purged [timers: {}, elapsedMs: {}]", LOAD_TIMERS_COUNT, elapsedNanos / 1_000_000);
+  }
+
+  private long purgeTenant(int timersCount) throws Exception {
+    var timers = IntStream.range(0, timersCount).mapToObj(i -> timerDescriptor()).toList();
+    insertTimers(timers);
+    runInContext(TENANT_A, () -> jobSchedulingService.scheduleAll(timers));
+    runInContext(TENANT_B, () -> jobSchedulingService.scheduleAll(List.of(timerDescriptor())));
+    assertThat(scheduler.getJobKeys(jobGroupStartsWith(TENANT_A + "#"))).hasSize(timersCount);
+
+    var startTime = System.nanoTime();
+    runInContext(TENANT_A, schedulerTimerService::deleteAll);
+    var elapsedNanos = System.nanoTime() - startTime;
+
+    assertThat(countTimers()).isZero();
+    assertThat(scheduler.getJobKeys(anyJobGroup()))
+      .singleElement()
+      .satisfies(jobKey -> assertThat(jobKey.getGroup()).isEqualTo(TENANT_B + "#" + MODULE_NAME));
+    return elapsedNanos;
+  }
+
+  private void insertTimers(List<TimerDescriptor> timers) {
+    jdbcTemplate.batchUpdate("INSERT INTO " + TENANT_A + "_mod_scheduler.timer"
+        + "(id, module_name, type, user_id, natural_key, timer_descriptor) VALUES (?, ?, 'USER', ?, ?, ?::jsonb)",
+      timers, 1000, (ps, timer) -> {
+        ps.setObject(1, timer.getId());
+        ps.setString(2, MODULE_NAME);
+        ps.setObject(3, USER_ID_UUID);
+        ps.setString(4, "USER#" + timer.getId());
+        ps.setString(5, "{\"id\":\"" + timer.getId() + "\",\"enabled\":true,\"type\":\"user\"}");
+      });
+  }
+
+  private Integer countTimers() {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM " + TENANT_A + "_mod_scheduler.timer", Integer.class);
+  }
+
+  private void runInContext(String tenant, Runnable action) {
+    Map<String, Collection<String>> headers = Map.of(TENANT, singletonList(tenant));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      action.run();
+    }
+  }
+
+  private static TimerDescriptor timerDescriptor() {
+    // a far-future cron so the jobs are scheduled but do not fire during the test
+    return new TimerDescriptor()
+      .id(UUID.randomUUID())
+      .type(TimerType.USER)
+      .userId(USER_ID_UUID)
+      .enabled(true)
+      .moduleName(MODULE_NAME)
+      .routingEntry(new RoutingEntry()
+        .methods(List.of("POST"))
+        .pathPattern("/test")
+        .schedule(new RoutingEntrySchedule().cron("0 0 1 1 *")));
+  }
+}
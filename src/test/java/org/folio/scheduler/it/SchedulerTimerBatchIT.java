@@ -0,0 +1,167 @@
+package org.folio.scheduler.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.support.TestConstants.MODULE_ID;
+import static org.folio.scheduler.support.TestConstants.MODULE_NAME;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.scheduler.utils.CronUtils.convertToQuartz;
+import static org.folio.test.TestUtils.parseResponse;
+import static org.quartz.JobKey.jobKey;
+import static org.quartz.TriggerKey.triggerKey;
+import static org.quartz.impl.matchers.GroupMatcher.anyJobGroup;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.domain.dto.RoutingEntry;
+import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult.StatusEnum;
+import org.folio.scheduler.domain.dto.TimerBatchResult;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerDescriptorList;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.quartz.CronTrigger;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Verifies the batch creation and update of timers.
+ *
+ * <p>
+ * The throughput comparison of single timer requests with a batch request runs only with
+ * {@code -Dscheduler.it.load=true}, for 1000 and 10000 timers by default, or for the amounts set by
+ * {@code -Dscheduler.it.batch-timers=1000,10000}. The elapsed time and throughput of both approaches are logged for
+ * each amount.
+ * </p>
+ */
+@Log4j2
+@EnableKeycloakTlsMode
+@IntegrationTest
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class SchedulerTimerBatchIT extends BaseIntegrationTest {
+
+  private static final String JOB_GROUP = TENANT_ID + "#" + MODULE_NAME;
+  private static final String FAR_FUTURE_CRON = "0 0 1 1 *";
+  private static final int BATCH_TIMERS_COUNT = 50;
+  private static final String LOAD_TIMERS_COUNTS = System.getProperty("scheduler.it.batch-timers", "1000,10000");
+
+  @Autowired private Scheduler scheduler;
+
+  @BeforeAll
+  static void beforeAll() {
+    setUpTenant();
+  }
+
+  @AfterAll
+  static void afterAll(@Autowired Scheduler scheduler) throws Exception {
+    removeTenant();
+    assertThat(scheduler.getJobKeys(anyJobGroup())).isEmpty();
+  }
+
+  @AfterEach
+  void tearDown() throws SchedulerException {
+    scheduler.clear();
+  }
+
+  @Test
+  void createBatch_positive() throws Exception {
+    var timer = timerDescriptor("/batch/timer");
+    var invalidTimer = timerDescriptor("/batch/invalid").moduleId(null).moduleName(null);
+
+    var created = postBatch(List.of(timer, invalidTimer));
+
+    assertThat(created.getTotalRecords()).isEqualTo(2);
+    assertThat(created.getItems()).extracting(TimerBatchItemResult::getStatus)
+      .containsExactly(StatusEnum.CREATED, StatusEnum.FAILED);
+    assertThat(created.getItems().get(1).getMessage()).isEqualTo("Module id or module name is required");
+    var timerId = created.getItems().getFirst().getTimerDescriptor().getId().toString();
+    assertThat(scheduler.checkExists(jobKey(timerId, JOB_GROUP))).isTrue();
+
+    var updatedTimer = timerDescriptor("/batch/timer");
+    updatedTimer.getRoutingEntry().getSchedule().setCron("0 0 1 2 *");
+    var updated = postBatch(List.of(updatedTimer, timerDescriptor("/batch/other")));
+
+    assertThat(updated.getItems()).extracting(TimerBatchItemResult::getStatus)
+      .containsExactly(StatusEnum.UPDATED, StatusEnum.CREATED);
+    var updatedDescriptor = updated.getItems().getFirst().getTimerDescriptor();
+    assertThat(updatedDescriptor.getId()).hasToString(timerId);
+    assertThat(updatedDescriptor.getModified()).isTrue();
+    assertThat(updatedDescriptor.getMetadata().getCreatedDate()).isNotNull();
+    var trigger = (CronTrigger) scheduler.getTrigger(triggerKey(timerId, JOB_GROUP));
+    assertThat(trigger.getCronExpression()).isEqualTo(convertToQuartz("0 0 1 2 *"));
+  }
+
+  @Test
+  void createBatch_positive_manyTimers() throws Exception {
+    var result = postBatch(timerDescriptors("/batch/", BATCH_TIMERS_COUNT));
+
+    assertThat(result.getItems()).hasSize(BATCH_TIMERS_COUNT)
+      .allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(StatusEnum.CREATED));
+    assertThat(scheduler.getJobKeys(anyJobGroup())).hasSize(BATCH_TIMERS_COUNT);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "scheduler.it.load", matches = "true")
+  void createBatch_positive_throughputComparedToSingleRequests() throws Exception {
+    for (var count : Arrays.stream(LOAD_TIMERS_COUNTS.split(",")).map(String::trim).map(Integer::valueOf).toList()) {
+      var singleTimers = timerDescriptors("/single/" + count + "/", count);
+      var startTime = System.nanoTime();
+      for (var timer : singleTimers) {
+        doPost("/scheduler/timers", timer);
+      }
+      var singleElapsedNanos = System.nanoTime() - startTime;
+
+      var batchTimers = timerDescriptors("/batch/" + count + "/", count);
+      startTime = System.nanoTime();
+      var result = postBatch(batchTimers);
+      var batchElapsedNanos = System.nanoTime() - startTime;
+
+      log.info("Timers created [timers: {}, singleElapsedMs: {}, singleTimersPerSec: {}, batchElapsedMs: {}, "
+          + "batchTimersPerSec: {}]", count, singleElapsedNanos / 1_000_000, perSecond(count, singleElapsedNanos),
+        batchElapsedNanos / 1_000_000, perSecond(count, batchElapsedNanos));
+      assertThat(result.getItems()).hasSize(count)
+        .allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(StatusEnum.CREATED));
+    }
+  }
+
+  private static TimerBatchResult postBatch(List<TimerDescriptor> timers) throws Exception {
+    var mvcResult = attemptPost("/scheduler/timers/batch", new TimerDescriptorList().timerDescriptors(timers))
+      .andExpect(status().isOk())
+      .andReturn();
+    return parseResponse(mvcResult, TimerBatchResult.class);
+  }
+
+  private static List<TimerDescriptor> timerDescriptors(String pathPrefix, int count) {
+    return IntStream.range(0, count).mapToObj(i -> timerDescriptor(pathPrefix + i)).toList();
+  }
+
+  private static long perSecond(int count, long elapsedNanos) {
+    return count * 1_000_000_000L / Math.max(1L, elapsedNanos);
+  }
+
+  private static TimerDescriptor timerDescriptor(String path) {
+    // a far-future cron so the jobs are scheduled but do not fire during the test
+    return new TimerDescriptor()
+      .id(UUID.randomUUID())
+      .enabled(true)
+      .moduleId(MODULE_ID)
+      .routingEntry(new RoutingEntry()
+        .methods(List.of("POST"))
+        .pathPattern(path)
+        .schedule(new RoutingEntrySchedule().cron(FAR_FUTURE_CRON)));
+  }
+}
@@ -0,0 +1,148 @@
+package org.folio.scheduler.it;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.repository.SchedulerTimerRepository;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.data.OffsetRequest;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Verifies that CQL searches by timer descriptor fields are served by indexes.
+ *
+ * <p>
+ * The plans of the predicates generated for CQL queries are checked on an analyzed table with a few hundred timers,
+ * which is enough for the planner to prefer the indexes over a sequential scan.
+ * </p>
+ *
+ * <p>
+ * The latency at production scale is measured only with {@code -Dscheduler.it.load=true}, for 100000 timers by
+ * default or for the amount set by {@code -Dscheduler.it.cql-timers}: the execution time of each predicate with and
+ * without index scans is logged together with the latency of the CQL query.
+ * </p>
+ */
+@Log4j2
+@EnableKeycloakTlsMode
+@IntegrationTest
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class SchedulerTimerCqlIndexIT extends BaseIntegrationTest {
+
+  private static final int TIMERS_COUNT = 500;
+  private static final int LOAD_TIMERS_COUNT = Integer.getInteger("scheduler.it.cql-timers", 100_000);
+  private static final String TIMER_TABLE = TENANT_ID + "_mod_scheduler.timer";
+  private static final String INSERT_TIMERS_SQL = """
+    INSERT INTO %s(id, module_id, module_name, type, natural_key, timer_descriptor)
+    SELECT id, module_name || '-1.0.0', module_name, type::timer_type, type || '#' || module_name || '#POST#/cql/' || i,
+      jsonb_build_object('id', id, 'enabled', i %% 10 = 0, 'moduleName', module_name, 'type', lower(type),
+        'routingEntry', jsonb_build_object(
+          'methods', jsonb_build_array('POST'), 'pathPattern', '/cql/' || i, 'unit', 'hour', 'delay', '1'))
+    FROM (SELECT gen_random_uuid() AS id, i, 'mod-cql-' || (i %% 50) AS module_name,
+      CASE WHEN i %% 200 = 0 THEN 'SYSTEM' ELSE 'USER' END AS type
+      FROM generate_series(1, ?) AS i) AS timers
+    """;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private SchedulerTimerRepository repository;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+
+  @BeforeAll
+  static void beforeAll() {
+    setUpTenant();
+  }
+
+  @AfterAll
+  static void afterAll() {
+    removeTenant();
+  }
+
+  @ParameterizedTest
+  @MethodSource("cqlQueries")
+  void findByCql_positive_usesIndex(String query, String predicate, String index) {
+    insertTimers(TIMERS_COUNT);
+
+    assertThat(explain(predicate)).contains(index);
+    assertThat(findByCql(query)).isPositive();
+  }
+
+  @ParameterizedTest
+  @MethodSource("cqlQueries")
+  @EnabledIfSystemProperty(named = "scheduler.it.load", matches = "true")
+  void findByCql_positive_latencyAtProductionScale(String query, String predicate, String index) {
+    insertTimers(LOAD_TIMERS_COUNT);
+    var plan = explainAnalyze(predicate, true);
+    assertThat(plan).contains(index);
+
+    var startTime = System.nanoTime();
+    var found = findByCql(query);
+    log.info("CQL query executed [query: {}, timers: {}, found: {}, elapsedMs: {}, indexed: {}, seqScan: {}]",
+      query, LOAD_TIMERS_COUNT, found, (System.nanoTime() - startTime) / 1_000_000,
+      executionTime(plan), executionTime(explainAnalyze(predicate, false)));
+    assertThat(found).isPositive();
+  }
+
+  private static Stream<Arguments> cqlQueries() {
+    return Stream.of(
+      arguments("path==/cql/42", "path = '/cql/42'", "idx_timer_path"),
+      arguments("path==/cql/42*", "path LIKE '/cql/42%'", "idx_timer_path"),
+      arguments("type==SYSTEM", "type = 'SYSTEM'", "idx_timer_type_module_name"),
+      arguments("type==SYSTEM and moduleName==mod-cql-0", "type = 'SYSTEM' AND module_name = 'mod-cql-0'",
+        "idx_timer_type_module_name")
+    );
+  }
+
+  private void insertTimers(int timersCount) {
+    jdbcTemplate.update(INSERT_TIMERS_SQL.formatted(TIMER_TABLE), timersCount);
+    jdbcTemplate.execute("ANALYZE " + TIMER_TABLE);
+  }
+
+  private long findByCql(String query) {
+    Map<String, Collection<String>> headers = Map.of(TENANT, singletonList(TENANT_ID));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      return repository.findByCql(query, OffsetRequest.of(0, 100)).getTotalElements();
+    }
+  }
+
+  private String explain(String predicate) {
+    var sql = "EXPLAIN SELECT * FROM " + TIMER_TABLE + " WHERE " + predicate;
+    return String.join("\n", jdbcTemplate.queryForList(sql, String.class));
+  }
+
+  private String explainAnalyze(String predicate, boolean indexScans) {
+    return transactionTemplate.execute(status -> {
+      if (!indexScans) {
+        jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_indexonlyscan = off");
+      }
+      var sql = "EXPLAIN ANALYZE SELECT * FROM " + TIMER_TABLE + " WHERE " + predicate;
+      return String.join("\n", jdbcTemplate.queryForList(sql, String.class));
+    });
+  }
+
+  private static String executionTime(String plan) {
+    return plan.lines().filter(line -> line.startsWith("Execution Time")).findFirst().orElse("n/a");
+  }
+}
@@ -0,0 +1,137 @@
+package org.folio.scheduler.it;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.service.TimerExportService;
+import org.folio.scheduler.support.base.BaseIntegrationTest;
+import org.folio.scheduler.utils.TestUtils;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Verifies the NDJSON timer export.
+ *
+ * <p>
+ * The export at production scale runs only with {@code -Dscheduler.it.load=true}, for 1000000 timers by default or
+ * for the amount set by {@code -Dscheduler.it.export-timers}, and its elapsed time and heap usage are logged.
+ * </p>
+ */
+@Log4j2
+@EnableKeycloakTlsMode
+@IntegrationTest
+@Sql(scripts = "classpath:/sql/timer-descriptor-it.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class SchedulerTimerExportIT extends BaseIntegrationTest {
+
+  private static final int BULK_TIMERS_COUNT = 250;
+  private static final int LOAD_TIMERS_COUNT = Integer.getInteger("scheduler.it.export-timers", 1_000_000);
+  private static final String INSERT_BULK_TIMERS_SQL = """
+    INSERT INTO test_mod_scheduler.timer(id, module_id, module_name, type, natural_key, timer_descriptor)
+    SELECT id, 'mod-bulk-1.0.0', 'mod-bulk', 'USER', 'USER#mod-bulk#POST#/bulk/' || i,
+      jsonb_build_object('id', id, 'enabled', true, 'moduleId', 'mod-bulk-1.0.0', 'moduleName', 'mod-bulk',
+        'type', 'user', 'routingEntry', jsonb_build_object(
+          'methods', jsonb_build_array('POST'), 'pathPattern', '/bulk/' || i, 'unit', 'hour', 'delay', '1'))
+    FROM (SELECT gen_random_uuid() AS id, i FROM generate_series(1, ?) AS i) AS timers
+    """;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TimerExportService timerExportService;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+
+  @BeforeAll
+  static void beforeAll() {
+    setUpTenant();
+  }
+
+  @AfterAll
+  static void afterAll() {
+    removeTenant();
+  }
+
+  @Test
+  void export_positive() throws Exception {
+    var response = doGet("/scheduler/timers/export")
+      .andReturn().getResponse().getContentAsString(UTF_8);
+
+    assertThat(response.lines().map(line -> TestUtils.parse(line, TimerDescriptor.class).getId().toString()))
+      .containsExactly("123e4567-e89b-12d3-a456-426614174000", "123e4567-e89b-12d3-a456-426614174001",
+        "123e4567-e89b-12d3-a456-426614174002", "123e4567-e89b-12d3-a456-426614174003");
+  }
+
+  @Test
+  void export_positive_filterByModuleAndType() throws Exception {
+    var response = doGet("/scheduler/timers/export?moduleName=mod-foo&type=SYSTEM")
+      .andReturn().getResponse().getContentAsString(UTF_8);
+
+    assertThat(response.lines())
+      .singleElement()
+      .satisfies(line -> assertThat(TestUtils.parse(line, TimerDescriptor.class).getId())
+        .hasToString("123e4567-e89b-12d3-a456-426614174003"));
+  }
+
+  @Test
+  void export_negative_unknownType() throws Exception {
+    attemptGet("/scheduler/timers/export?type=unknown")
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void export_positive_bulk() throws Exception {
+    jdbcTemplate.update(INSERT_BULK_TIMERS_SQL, BULK_TIMERS_COUNT);
+
+    assertThat(exportBulkTimers(() -> {})).isEqualTo(BULK_TIMERS_COUNT);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "scheduler.it.load", matches = "true")
+  void export_positive_bulkAtProductionScale() throws Exception {
+    jdbcTemplate.update(INSERT_BULK_TIMERS_SQL, LOAD_TIMERS_COUNT);
+    var runtime = Runtime.getRuntime();
+    var maxUsedHeap = new AtomicLong();
+
+    var startTime = System.nanoTime();
+    var exported = exportBulkTimers(
+      () -> maxUsedHeap.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max));
+
+    log.info("Timers exported [timers: {}, elapsedMs: {}, maxUsedHeapMb: {}]",
+      exported, (System.nanoTime() - startTime) / 1_000_000, maxUsedHeap.get() / (1024 * 1024));
+    assertThat(exported).isEqualTo(LOAD_TIMERS_COUNT);
+  }
+
+  private int exportBulkTimers(Runnable lineCallback) throws Exception {
+    var exported = 0;
+    Map<String, Collection<String>> headers = Map.of(TENANT, singletonList(TENANT_ID));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers);
+      var stream = timerExportService.exportTimers("mod-bulk", null);
+      var reader = new BufferedReader(new InputStreamReader(stream, UTF_8))) {
+      while (reader.readLine() != null) {
+        exported++;
+        lineCallback.run();
+      }
+    }
+    return exported;
+  }
+}
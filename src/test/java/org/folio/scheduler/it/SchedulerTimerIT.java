@@ -11,6 +11,7 @@ import static org.folio.scheduler.support.TestConstants.TENANT_ID;
 import static org.folio.scheduler.support.TestConstants.USER_ID;
 import static org.folio.scheduler.support.TestConstants.USER_ID_UUID;
 import static org.folio.test.TestUtils.parseResponse;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -22,6 +23,7 @@ import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TE
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import jakarta.persistence.EntityManagerFactory;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -38,6 +40,7 @@ import org.folio.test.extensions.EnableKeycloakTlsMode;
 import org.folio.test.extensions.KeycloakRealms;
 import org.folio.test.extensions.WireMockStub;
 import org.folio.test.types.IntegrationTest;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -62,6 +65,7 @@ class SchedulerTimerIT extends BaseIntegrationTest {
   private static final String JOB_GROUP = TENANT_ID + "#" + MODULE_NAME;
 
   @Autowired private Scheduler scheduler;
+  @Autowired private EntityManagerFactory entityManagerFactory;
 
   @BeforeAll
   static void beforeAll() {
@@ -126,11 +130,45 @@ class SchedulerTimerIT extends BaseIntegrationTest {
   }
 
   @Test
-  void getAll_negative_queryByEnabledIsUnsupported() throws Exception {
-    attemptGet("/scheduler/timers?query=enabled==true")
+  void getAll_positive_cursor() throws Exception {
+    var firstPage = parseResponse(doGet("/scheduler/timers?cursor=&limit=3&totalRecords=none")
+      .andExpect(jsonPath("$.totalRecords").doesNotExist())
+      .andExpect(jsonPath("$.timerDescriptors[*].id", contains("123e4567-e89b-12d3-a456-426614174000",
+        "123e4567-e89b-12d3-a456-426614174001", "123e4567-e89b-12d3-a456-426614174002")))
+      .andReturn(), TimerDescriptorList.class);
+
+    doGet("/scheduler/timers?limit=3&totalRecords=exact&cursor={cursor}", firstPage.getNextCursor())
+      .andExpect(jsonPath("$.totalRecords", is(4)))
+      .andExpect(jsonPath("$.timerDescriptors[*].id", contains("123e4567-e89b-12d3-a456-426614174003")))
+      .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void getAll_negative_cursorWithQuery() throws Exception {
+    attemptGet("/scheduler/timers?cursor=&query=moduleName==mod-foo")
       .andExpect(status().isBadRequest());
   }
 
+  @Test
+  void getAll_positive_queryByEnabled() throws Exception {
+    doGet("/scheduler/timers?query=enabled==true")
+      .andExpect(jsonPath("$.totalRecords", is(1)))
+      .andExpect(jsonPath("$.timerDescriptors[0].id", is("123e4567-e89b-12d3-a456-426614174000")));
+  }
+
+  @Test
+  void getAll_positive_queryByPath() throws Exception {
+    doGet("/scheduler/timers?query=path==/testb/timer/3")
+      .andExpect(jsonPath("$.totalRecords", is(1)))
+      .andExpect(jsonPath("$.timerDescriptors[0].id", is("123e4567-e89b-12d3-a456-426614174002")));
+  }
+
+  @Test
+  void getAll_positive_queryByPathPrefix() throws Exception {
+    doGet("/scheduler/timers?query=path==/testb/timer/* and type==USER")
+      .andExpect(jsonPath("$.totalRecords", is(3)));
+  }
+
   @Test
   @WireMockStub("/wiremock/stubs/user-timer-endpoint.json")
   @KeycloakRealms("/json/keycloak/test-realm.json")
@@ -150,6 +188,11 @@ class SchedulerTimerIT extends BaseIntegrationTest {
 
     await().atMost(TEN_SECONDS).pollDelay(ONE_SECOND)
       .untilAsserted(BaseIntegrationTest::verifyTimerRequestCallsCount);
+    await().atMost(TEN_SECONDS).pollDelay(ONE_SECOND)
+      .untilAsserted(() -> doGet("/scheduler/timers/{id}", timerId)
+        .andExpect(jsonPath("$.lastExecution.outcome", is("SUCCESS")))
+        .andExpect(jsonPath("$.lastExecution.retries", is(0)))
+        .andExpect(jsonPath("$.lastExecution.startedAt", notNullValue())));
   }
 
   @Test
@@ -205,6 +248,29 @@ class SchedulerTimerIT extends BaseIntegrationTest {
       .andExpect(jsonPath("$.enabled", is(true)));
   }
 
+  @Test
+  void update_positive_loadsAndUpdatesTimerOnly() throws Exception {
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    try {
+      var desc = TestValues.timerDescriptor(TIMER_ID_TO_UPDATE).moduleId(MODULE_ID);
+      doPut("/scheduler/timers/{id}", desc, TIMER_ID_TO_UPDATE)
+        .andExpect(jsonPath("$.modified", is(true)))
+        .andExpect(jsonPath("$.metadata.createdDate", notNullValue()))
+        .andExpect(jsonPath("$.metadata.updatedDate", notNullValue()))
+        .andExpect(jsonPath("$.metadata.updatedByUserId", is(USER_ID)));
+
+      // a single select to load the timer and a single update, audit metadata is not reloaded
+      assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+      assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+      assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    } finally {
+      statistics.setStatisticsEnabled(false);
+    }
+  }
+
   @Test
   void update_negative_systemTimerForbidden() throws Exception {
     var result = doGet("/scheduler/timers/{id}", SYSTEM_TIMER_ID).andReturn();
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.within;
 import static org.folio.scheduler.support.TestConstants.MODULE_NAME;
 import static org.folio.scheduler.support.TestConstants.TENANT_ID;
 import static org.folio.scheduler.support.TestConstants.USER_ID_UUID;
+import static org.folio.scheduler.support.TestValues.timerDescriptor;
 import static org.folio.scheduler.support.TestValues.timerDescriptorEntity;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
@@ -19,9 +20,11 @@ import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
+import org.folio.scheduler.repository.SchedulerTimerJdbcRepository;
 import org.folio.scheduler.repository.SchedulerTimerRepository;
 import org.folio.scheduler.support.TestConstants;
 import org.folio.scheduler.support.base.BaseIntegrationTest;
@@ -49,6 +52,8 @@ class SchedulerTimerRepositoryIT extends BaseIntegrationTest {
   @Autowired
   private SchedulerTimerRepository repository;
   @Autowired
+  private SchedulerTimerJdbcRepository jdbcRepository;
+  @Autowired
   private FolioModuleMetadata folioModuleMetadata;
 
   @BeforeAll
@@ -98,6 +103,24 @@ class SchedulerTimerRepositoryIT extends BaseIntegrationTest {
     }
   }
 
+  @Test
+  void findByModuleNameAndEnabledState_positive_enabledColumnFollowsDescriptor() {
+    var entity = timerDescriptorEntity();
+
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, prepareContextHeaders())) {
+      var saved = repository.saveAndFlush(entity);
+      var moduleName = saved.getModuleName();
+      assertThat(repository.findByModuleNameAndEnabledState(moduleName, false)).containsExactly(saved);
+      assertThat(repository.findByModuleNameAndEnabledState(moduleName, true)).isEmpty();
+
+      saved.getTimerDescriptor().setEnabled(false);
+      repository.saveAndFlush(saved);
+
+      assertThat(repository.findByModuleNameAndEnabledState(moduleName, false)).isEmpty();
+      assertThat(repository.findByModuleNameAndEnabledState(moduleName, true)).containsExactly(saved);
+    }
+  }
+
   @Test
   void saveAndFlush_positive_populatesAllAuditFields() {
     var entity = timerDescriptorEntity();
@@ -158,6 +181,75 @@ class SchedulerTimerRepositoryIT extends BaseIntegrationTest {
     }
   }
 
+  @Test
+  void upsert_positive_insertsAndUpdatesTimerByNaturalKey() {
+    var entity = timerDescriptorEntity();
+    entity.setUserId(TEST_USER_A_ID);
+    var createdDate = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(5);
+    var updatingEntity = timerDescriptorEntity(timerDescriptor(UUID.randomUUID()).enabled(false));
+    updatingEntity.setId(updatingEntity.getTimerDescriptor().getId());
+    updatingEntity.setUserId(TEST_USER_B_ID);
+
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, prepareContextHeaders())) {
+      var inserted = jdbcRepository.upsert(entity, TEST_USER_A_ID, createdDate, false);
+      var updated = jdbcRepository.upsert(updatingEntity, TEST_USER_B_ID, createdDate.plusMinutes(5), false);
+
+      assertThat(inserted.inserted()).isTrue();
+      assertThat(inserted.previousDescriptor()).isNull();
+      assertThat(inserted.row().createdDate()).isCloseTo(createdDate, within(1, ChronoUnit.SECONDS));
+
+      assertThat(updated.inserted()).isFalse();
+      assertThat(updated.previousDescriptor().getEnabled()).isTrue();
+      var row = updated.row();
+      assertThat(row.id()).isEqualTo(entity.getId());
+      assertThat(row.timerDescriptor().getId()).isEqualTo(entity.getId());
+      assertThat(row.timerDescriptor().getModified()).isTrue();
+      assertThat(row.timerDescriptor().getEnabled()).isFalse();
+      assertThat(row.userId()).isEqualTo(TEST_USER_A_ID);
+      assertThat(row.createdDate()).isCloseTo(createdDate, within(1, ChronoUnit.SECONDS));
+      assertThat(row.createdByUserId()).isEqualTo(TEST_USER_A_ID);
+      assertThat(row.updatedDate()).isCloseTo(createdDate.plusMinutes(5), within(1, ChronoUnit.SECONDS));
+      assertThat(row.updatedByUserId()).isEqualTo(TEST_USER_B_ID);
+      assertThat(repository.count()).isEqualTo(1);
+
+      var refreshed = jdbcRepository.upsert(updatingEntity, TEST_USER_B_ID, createdDate.plusMinutes(6), true);
+      assertThat(refreshed.row().userId()).isEqualTo(TEST_USER_B_ID);
+    }
+  }
+
+  @Test
+  void upsertAll_positive_insertsAndUpdatesTimersByNaturalKey() {
+    var existingEntity = timerDescriptorEntity();
+    var updatingEntity = timerDescriptorEntity(timerDescriptor(UUID.randomUUID()).enabled(false));
+    updatingEntity.setId(updatingEntity.getTimerDescriptor().getId());
+    var newDescriptor = timerDescriptor(UUID.randomUUID());
+    newDescriptor.getRoutingEntry().setPathPattern("/test/new-timer");
+    var newEntity = timerDescriptorEntity(newDescriptor);
+    newEntity.setId(newDescriptor.getId());
+    var auditDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, prepareContextHeaders())) {
+      jdbcRepository.upsert(existingEntity, TEST_USER_A_ID, auditDate.minusMinutes(5), false);
+
+      var results = jdbcRepository.upsertAll(List.of(newEntity, updatingEntity), TEST_USER_B_ID, auditDate, false);
+
+      assertThat(results).hasSize(2);
+      assertThat(results.get(0).inserted()).isTrue();
+      assertThat(results.get(0).previousDescriptor()).isNull();
+      assertThat(results.get(0).row().id()).isEqualTo(newEntity.getId());
+      assertThat(results.get(0).row().createdByUserId()).isEqualTo(TEST_USER_B_ID);
+
+      assertThat(results.get(1).inserted()).isFalse();
+      assertThat(results.get(1).previousDescriptor().getEnabled()).isTrue();
+      assertThat(results.get(1).row().id()).isEqualTo(existingEntity.getId());
+      assertThat(results.get(1).row().timerDescriptor().getModified()).isTrue();
+      assertThat(results.get(1).row().timerDescriptor().getEnabled()).isFalse();
+      assertThat(results.get(1).row().createdByUserId()).isEqualTo(TEST_USER_A_ID);
+      assertThat(results.get(1).row().updatedByUserId()).isEqualTo(TEST_USER_B_ID);
+      assertThat(repository.count()).isEqualTo(2);
+    }
+  }
+
   private Map<String, Collection<String>> prepareContextHeaders() {
     var headers = new HashMap<String, Collection<String>>();
     headers.put(TENANT, singletonList(TENANT_ID));
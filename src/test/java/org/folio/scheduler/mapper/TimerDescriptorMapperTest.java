@@ -160,4 +160,41 @@ class TimerDescriptorMapperTest {
     assertThat(entity.getCreatedDate()).isEqualTo(createdDate);
     assertThat(result.getMetadata().getCreatedDate()).isEqualTo(newDate);
   }
+
+  @Test
+  void toReadOnlyDescriptor_positive_copiesTopLevelObjectOnly() {
+    var entity = new org.folio.scheduler.domain.entity.TimerDescriptorEntity();
+    entity.setId(TEST_TIMER_ID);
+    entity.setType(org.folio.scheduler.domain.model.TimerType.USER);
+    entity.setUserId(TEST_USER_ID);
+    entity.setCreatedDate(OffsetDateTime.now(ZoneOffset.UTC));
+    entity.setCreatedByUserId(TEST_USER_ID);
+
+    var originalDescriptor = new TimerDescriptor();
+    originalDescriptor.setEnabled(true);
+    originalDescriptor.setModified(true);
+    originalDescriptor.setModuleName(MODULE_NAME);
+    originalDescriptor.setModuleId(MODULE_NAME + "-1.0.0");
+    originalDescriptor.setRoutingEntry(new RoutingEntry()
+      .pathPattern("/test")
+      .methods(List.of("POST")));
+
+    entity.setTimerDescriptor(originalDescriptor);
+
+    var result = mapper.toReadOnlyDescriptor(entity);
+
+    assertThat(result).isNotSameAs(originalDescriptor);
+    assertThat(result.getRoutingEntry()).isSameAs(originalDescriptor.getRoutingEntry());
+    assertThat(result.getId()).isEqualTo(TEST_TIMER_ID);
+    assertThat(result.getType()).isEqualTo(org.folio.scheduler.domain.dto.TimerType.USER);
+    assertThat(result.getUserId()).isEqualTo(TEST_USER_ID);
+    assertThat(result.getEnabled()).isTrue();
+    assertThat(result.getModified()).isTrue();
+    assertThat(result.getModuleName()).isEqualTo(MODULE_NAME);
+    assertThat(result.getModuleId()).isEqualTo(MODULE_NAME + "-1.0.0");
+    assertThat(result.getMetadata().getCreatedByUserId()).isEqualTo(TEST_USER_ID);
+    assertThat(originalDescriptor.getId()).isNull();
+    assertThat(originalDescriptor.getMetadata()).isNull();
+    assertThat(result).isEqualTo(mapper.toDescriptor(entity));
+  }
 }
@@ -18,6 +18,7 @@ import static org.quartz.JobKey.jobKey;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Optional;
 import liquibase.database.Database;
 import liquibase.database.jvm.JdbcConnection;
@@ -88,8 +89,8 @@ class PopulateTimerTypeAndUserIdMigrationTest {
     verify(scheduler, never()).getJobDetail(any());
     assertThat(entity.getUserId()).isNull();
     verify(repository).save(entity);
-    verify(scheduler).deleteJob(jobKey(TIMER_ID));
-    verify(jobSchedulingService).schedule(descriptor);
+    verify(scheduler).deleteJobs(List.of(jobKey(TIMER_ID)));
+    verify(jobSchedulingService).scheduleAll(List.of(descriptor));
   }
 
   @Test
@@ -107,8 +108,8 @@ class PopulateTimerTypeAndUserIdMigrationTest {
     assertThat(entity.getUserId()).isEqualTo(USER_ID_UUID);
     verify(repository).save(entity);
     verify(scheduler).getJobDetail(jobKey(TIMER_ID));
-    verify(scheduler).deleteJob(jobKey(TIMER_ID));
-    verify(jobSchedulingService).schedule(descriptor);
+    verify(scheduler).deleteJobs(List.of(jobKey(TIMER_ID)));
+    verify(jobSchedulingService).scheduleAll(List.of(descriptor));
   }
 
   @Test
@@ -122,7 +123,7 @@ class PopulateTimerTypeAndUserIdMigrationTest {
     unit.execute(dbMock(singleIdResultSet()));
 
     verify(scheduler).getJobDetail(jobKey(TIMER_ID));
-    verify(scheduler, never()).deleteJob(any());
+    verify(scheduler, never()).deleteJobs(any());
     verify(repository, never()).save(any());
     verifyNoInteractions(jobSchedulingService);
   }
@@ -159,7 +160,7 @@ class PopulateTimerTypeAndUserIdMigrationTest {
     var entity = TestValues.timerDescriptorEntity(TestValues.timerDescriptor().type(TimerType.SYSTEM));
     when(repository.findById(TIMER_UUID)).thenReturn(Optional.of(entity));
     when(mapper.toDescriptor(entity)).thenReturn(TestValues.timerDescriptor().type(TimerType.SYSTEM));
-    when(scheduler.deleteJob(jobKey(TIMER_ID))).thenThrow(new SchedulerException("boom"));
+    when(scheduler.deleteJobs(List.of(jobKey(TIMER_ID)))).thenThrow(new SchedulerException("boom"));
 
     var dbMock = dbMock(singleIdResultSet());
     assertThatThrownBy(() -> unit.execute(dbMock))
@@ -182,7 +183,7 @@ class PopulateTimerTypeAndUserIdMigrationTest {
       .isInstanceOf(MigrationException.class)
       .hasMessageContaining("Failed to read existing job detail");
 
-    verify(scheduler, never()).deleteJob(any());
+    verify(scheduler, never()).deleteJobs(any());
     verify(repository, never()).save(any());
     verifyNoInteractions(jobSchedulingService);
   }
@@ -16,6 +16,7 @@ import static org.quartz.JobKey.jobKey;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Optional;
 import liquibase.database.Database;
 import liquibase.database.jvm.JdbcConnection;
@@ -81,8 +82,8 @@ class RegroupTimerJobsMigrationTest {
 
     unit.execute(dbMock(singleIdResultSet()));
 
-    verify(scheduler).deleteJob(jobKey(TIMER_ID));
-    verify(jobSchedulingService).schedule(descriptor);
+    verify(scheduler).deleteJobs(List.of(jobKey(TIMER_ID)));
+    verify(jobSchedulingService).scheduleAll(List.of(descriptor));
   }
 
   @Test
@@ -96,8 +97,8 @@ class RegroupTimerJobsMigrationTest {
 
     unit.execute(dbMock(singleIdResultSet()));
 
-    verify(scheduler).deleteJob(jobKey(TIMER_ID));
-    verify(jobSchedulingService).schedule(descriptor);
+    verify(scheduler).deleteJobs(List.of(jobKey(TIMER_ID)));
+    verify(jobSchedulingService).scheduleAll(List.of(descriptor));
   }
 
   @Test
@@ -110,7 +111,7 @@ class RegroupTimerJobsMigrationTest {
 
     unit.execute(dbMock(singleIdResultSet()));
 
-    verify(scheduler, never()).deleteJob(any());
+    verify(scheduler, never()).deleteJobs(any());
     verifyNoInteractions(jobSchedulingService);
   }
 
@@ -146,7 +147,7 @@ class RegroupTimerJobsMigrationTest {
     var entity = TestValues.timerDescriptorEntity(TestValues.timerDescriptor().type(TimerType.SYSTEM));
     when(repository.findById(TIMER_UUID)).thenReturn(Optional.of(entity));
     when(mapper.toDescriptor(entity)).thenReturn(TestValues.timerDescriptor().type(TimerType.SYSTEM));
-    when(scheduler.deleteJob(jobKey(TIMER_ID))).thenThrow(new SchedulerException("boom"));
+    when(scheduler.deleteJobs(List.of(jobKey(TIMER_ID)))).thenThrow(new SchedulerException("boom"));
 
     var dbMock = dbMock(singleIdResultSet());
     assertThatThrownBy(() -> unit.execute(dbMock))
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.scheduler.domain.entity.TimerDescriptorEntity.toNaturalKey;
 import static org.folio.scheduler.support.TestConstants.MODULE_NAME;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -98,7 +99,7 @@ class SplitTimersByMethodMigrationTest {
       }
     });
 
-    verify(mockJobSchedulingService, times(2)).schedule(any());
+    verify(mockJobSchedulingService).scheduleAll(argThat(timers -> timers.size() == 2));
   }
 
   protected Database setupDbConnectionMock(Map<String, ResultSet> mockQueryResponses) throws Exception {
@@ -18,6 +18,8 @@ import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -31,10 +33,17 @@ import static org.quartz.TriggerKey.triggerKey;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
 import org.folio.scheduler.configuration.properties.SystemTimerConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TimerSchedulingConfigurationProperties;
 import org.folio.scheduler.domain.dto.RoutingEntry;
 import org.folio.scheduler.domain.dto.RoutingEntrySchedule;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
 import org.folio.scheduler.domain.dto.TimerType;
 import org.folio.scheduler.domain.dto.TimerUnit;
 import org.folio.scheduler.exception.RequestValidationException;
@@ -60,6 +69,7 @@ import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
+import org.quartz.impl.matchers.GroupMatcher;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -71,9 +81,11 @@ class JobSchedulingServiceTest {
   @Mock private Scheduler scheduler;
   @Mock private FolioExecutionContext folioExecutionContext;
   @Mock private SystemTimerConfigurationProperties systemTimerConfigurationProperties;
+  @Mock private TimerSchedulingConfigurationProperties timerSchedulingConfigurationProperties;
 
   @Captor private ArgumentCaptor<Trigger> triggerArgumentCaptor;
   @Captor private ArgumentCaptor<JobDetail> jobDetailArgumentCaptor;
+  @Captor private ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> triggersAndJobsCaptor;
 
   @ParameterizedTest
   @MethodSource("cronBasedTimerDataProvider")
@@ -89,6 +101,9 @@ class JobSchedulingServiceTest {
     service.schedule(timerDescriptor);
 
     assertThat(triggerArgumentCaptor.getValue()).isEqualTo(cronTrigger(expectedCron, expectedTimezone));
+    var trigger = (CronTrigger) triggerArgumentCaptor.getValue();
+    assertThat(trigger.getCronExpression()).isEqualTo(expectedCron);
+    assertThat(trigger.getTimeZone().getID()).isEqualTo(expectedTimezone);
   }
 
   @ParameterizedTest
@@ -389,6 +404,21 @@ class JobSchedulingServiceTest {
     verify(scheduler).deleteJob(jobKey(TIMER_ID, JOB_GROUP));
   }
 
+  @Test
+  void reschedule_positive_disabledTimerIsEnabled() throws SchedulerException {
+    var routingEntry = new RoutingEntry().unit(SECOND).delay("20");
+    var oldTimerDesc = timerDescriptor().type(TimerType.SYSTEM).routingEntry(routingEntry).enabled(false);
+    var newTimerDesc = timerDescriptor().type(TimerType.SYSTEM).routingEntry(routingEntry);
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+
+    service.reschedule(oldTimerDesc, newTimerDesc);
+
+    verify(scheduler).scheduleJob(jobDetailArgumentCaptor.capture(), eq(Set.of(simpleTrigger(20_000L))), eq(true));
+    assertThat(jobDetailArgumentCaptor.getValue().getKey()).isEqualTo(jobKey(TIMER_ID, JOB_GROUP));
+    verify(scheduler, never()).rescheduleJob(any(), any());
+  }
+
   @ParameterizedTest(name = "[{index}] test case: {index}")
   @MethodSource("sameTimerRoutingEntriesProvider")
   void reschedule_positive_timerIsNotUpdated(RoutingEntry routingEntry) {
@@ -413,6 +443,139 @@ class JobSchedulingServiceTest {
       .hasMessage("Failed to reschedule job");
   }
 
+  @Test
+  void scheduleAll_positive_chunked() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(2);
+    var timers = List.of(systemTimer(), systemTimer(), systemTimer().enabled(false), systemTimer());
+
+    service.scheduleAll(timers);
+
+    verify(scheduler, times(2)).scheduleJobs(triggersAndJobsCaptor.capture(), eq(false));
+    var chunks = triggersAndJobsCaptor.getAllValues();
+    assertThat(chunks.get(0)).hasSize(2);
+    assertThat(chunks.get(1)).hasSize(1);
+    assertThat(chunks.get(1).keySet()).extracting(JobDetail::getKey)
+      .containsExactly(jobKey(timers.get(3).getId().toString(), JOB_GROUP));
+    verify(scheduler, never()).scheduleJob(any(), any());
+  }
+
+  @Test
+  void scheduleAll_positive_existingJobFallsBackToSingleScheduling() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(10);
+    doThrow(new ObjectAlreadyExistsException("test")).when(scheduler).scheduleJobs(any(), eq(false));
+    when(scheduler.scheduleJob(any(JobDetail.class), any(Trigger.class)))
+      .thenThrow(new ObjectAlreadyExistsException("test"))
+      .thenReturn(new Date());
+
+    service.scheduleAll(List.of(systemTimer(), systemTimer()));
+
+    verify(scheduler, times(2)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+  }
+
+  @Test
+  void scheduleAll_positive_nothingToSchedule() {
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(10);
+
+    service.scheduleAll(List.of(systemTimer().enabled(false)));
+
+    verifyNoInteractions(scheduler);
+  }
+
+  @Test
+  void scheduleAll_negative_internalException() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(10);
+    doThrow(new SchedulerException("test")).when(scheduler).scheduleJobs(any(), eq(false));
+    var timers = List.of(systemTimer());
+
+    assertThatThrownBy(() -> service.scheduleAll(timers))
+      .isInstanceOf(TimerSchedulingException.class)
+      .hasMessage("Failed to schedule jobs");
+  }
+
+  @Test
+  void rescheduleAll_positive() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(10);
+    var enabledTimer = systemTimer();
+    var disabledTimer = systemTimer().enabled(false);
+
+    service.rescheduleAll(List.of(enabledTimer, disabledTimer));
+
+    verify(scheduler).deleteJobs(List.of(jobKey(disabledTimer.getId().toString(), JOB_GROUP)));
+    verify(scheduler).scheduleJobs(triggersAndJobsCaptor.capture(), eq(true));
+    assertThat(triggersAndJobsCaptor.getValue().keySet()).extracting(JobDetail::getKey)
+      .containsExactly(jobKey(enabledTimer.getId().toString(), JOB_GROUP));
+  }
+
+  @Test
+  void deleteAll_positive_chunked() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(1);
+    var timer1 = systemTimer();
+    var timer2 = systemTimer();
+
+    service.deleteAll(List.of(timer1, timer2));
+
+    verify(scheduler).deleteJobs(List.of(jobKey(timer1.getId().toString(), JOB_GROUP)));
+    verify(scheduler).deleteJobs(List.of(jobKey(timer2.getId().toString(), JOB_GROUP)));
+  }
+
+  @Test
+  void deleteAll_negative_internalException() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(10);
+    when(scheduler.deleteJobs(any())).thenThrow(new SchedulerException("test"));
+    var timers = List.of(systemTimer());
+
+    assertThatThrownBy(() -> service.deleteAll(timers))
+      .isInstanceOf(TimerSchedulingException.class)
+      .hasMessage("Failed to delete jobs");
+  }
+
+  @Test
+  void deleteAllTenantJobs_positive_chunked() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn("test_a");
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(1);
+    var jobKey1 = jobKey(UUID.randomUUID().toString(), "test_a#" + MODULE_NAME);
+    var jobKey2 = jobKey(UUID.randomUUID().toString(), "test_a#mod-bar");
+    // '_' is a LIKE wildcard, so the job store may return groups of other tenants
+    var otherTenantJobKey = jobKey(UUID.randomUUID().toString(), "testxa#" + MODULE_NAME);
+    when(scheduler.getJobKeys(GroupMatcher.jobGroupStartsWith("test_a#")))
+      .thenReturn(new LinkedHashSet<>(List.of(jobKey1, otherTenantJobKey, jobKey2)));
+
+    var result = service.deleteAllTenantJobs();
+
+    assertThat(result).isEqualTo(2);
+    verify(scheduler).deleteJobs(List.of(jobKey1));
+    verify(scheduler).deleteJobs(List.of(jobKey2));
+    verify(scheduler, never()).deleteJobs(List.of(otherTenantJobKey));
+  }
+
+  @Test
+  void deleteAllTenantJobs_positive_noJobs() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(timerSchedulingConfigurationProperties.getBatchSize()).thenReturn(10);
+    when(scheduler.getJobKeys(GroupMatcher.jobGroupStartsWith(TENANT_ID + "#"))).thenReturn(Set.of());
+
+    var result = service.deleteAllTenantJobs();
+
+    assertThat(result).isZero();
+    verify(scheduler, never()).deleteJobs(any());
+  }
+
+  @Test
+  void deleteAllTenantJobs_negative_internalException() throws SchedulerException {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(scheduler.getJobKeys(any())).thenThrow(new SchedulerException("test"));
+
+    assertThatThrownBy(() -> service.deleteAllTenantJobs())
+      .isInstanceOf(TimerSchedulingException.class)
+      .hasMessage("Failed to delete tenant jobs");
+  }
+
   @Test
   void delete_positive() throws SchedulerException {
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
@@ -515,4 +678,9 @@ class JobSchedulingServiceTest {
       arguments("*/10 * * * * ?", "PLT", "*/10 * * * * ?", "PLT")
     );
   }
+
+  private static TimerDescriptor systemTimer() {
+    return timerDescriptor().id(UUID.randomUUID()).type(TimerType.SYSTEM)
+      .routingEntry(new RoutingEntry().delay("20").unit(SECOND));
+  }
 }
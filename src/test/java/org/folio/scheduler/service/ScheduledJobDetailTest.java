@@ -134,6 +134,21 @@ class ScheduledJobDetailTest {
       .hasMessage("moduleName must not be blank");
   }
 
+  @Test
+  void tenantGroupPrefix_positive() {
+    assertThat(ScheduledJobDetail.tenantGroupPrefix(TENANT_ID)).isEqualTo(TENANT_ID + "#");
+    assertThat(JOB_GROUP).startsWith(ScheduledJobDetail.tenantGroupPrefix(TENANT_ID));
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"   "})
+  void tenantGroupPrefix_negative_blankTenant(String tenantId) {
+    assertThatThrownBy(() -> ScheduledJobDetail.tenantGroupPrefix(tenantId))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("tenantId must not be blank");
+  }
+
   @Test
   void toQuartzJobDetail_positive_userTimer() {
     var jobDetail = userTimer().toQuartzJobDetail();
@@ -1,8 +1,13 @@
 package org.folio.scheduler.service;
 
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.folio.scheduler.integration.kafka.KafkaAdminService;
+import org.folio.scheduler.integration.kafka.ParkedEventService;
+import org.folio.scheduler.integration.kafka.TimerTableCheckService;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.tenant.domain.dto.TenantAttributes;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -18,13 +23,19 @@ class SchedulerTenantServiceTest {
   @InjectMocks private SchedulerTenantService schedulerTenantService;
   @Mock private KafkaAdminService kafkaAdminService;
   @Mock private SchedulerTimerService schedulerTimerService;
+  @Mock private TimerTableCheckService timerTableCheckService;
+  @Mock private ParkedEventService parkedEventService;
+  @Mock private FolioExecutionContext context;
 
   @Test
   void afterTenantUpdate_positive() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
     var tenantAttributes = new TenantAttributes().moduleTo("mod-scheduler");
     schedulerTenantService.afterTenantUpdate(tenantAttributes);
 
-    verify(kafkaAdminService).restartEventListeners();
+    verify(timerTableCheckService).evictCache();
+    verify(kafkaAdminService).refreshSubscriptions();
+    verify(parkedEventService).releaseTenant(TENANT_ID);
   }
 
   @Test
@@ -32,5 +43,6 @@ class SchedulerTenantServiceTest {
     var tenantAttributes = new TenantAttributes().moduleTo("mod-scheduler");
     schedulerTenantService.beforeTenantDeletion(tenantAttributes);
     verify(schedulerTimerService).deleteAll();
+    verify(timerTableCheckService).evictCache();
   }
 }
@@ -4,11 +4,16 @@ import static java.util.Collections.singletonList;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.common.utils.CollectionUtils.mapItems;
+import static org.folio.scheduler.support.TestConstants.MODULE_NAME;
 import static org.folio.scheduler.support.TestConstants.TIMER_UUID;
 import static org.folio.scheduler.support.TestConstants.USER_ID_UUID;
 import static org.folio.scheduler.support.TestValues.timerDescriptor;
 import static org.folio.scheduler.support.TestValues.timerDescriptorEntity;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -18,19 +23,32 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityExistsException;
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.folio.scheduler.configuration.properties.TimerApiConfigurationProperties;
+import org.folio.scheduler.configuration.properties.TimerSchedulingConfigurationProperties;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult;
+import org.folio.scheduler.domain.dto.TimerBatchItemResult.StatusEnum;
 import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.dto.TimerExecution;
 import org.folio.scheduler.domain.dto.TimerType;
 import org.folio.scheduler.domain.entity.TimerDescriptorEntity;
 import org.folio.scheduler.domain.model.SearchResult;
+import org.folio.scheduler.domain.model.TimerRow;
+import org.folio.scheduler.domain.model.TimerUpsertResult;
+import org.folio.scheduler.domain.model.TotalRecordsMode;
 import org.folio.scheduler.exception.RequestValidationException;
 import org.folio.scheduler.mapper.TimerDescriptorMapper;
+import org.folio.scheduler.repository.ModuleEventLedgerRepository;
+import org.folio.scheduler.repository.SchedulerTimerJdbcRepository;
 import org.folio.scheduler.repository.SchedulerTimerRepository;
+import org.folio.scheduler.repository.TimerExecutionRepository;
+import org.folio.scheduler.utils.CursorUtils;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
 import org.folio.test.types.UnitTest;
@@ -40,8 +58,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -51,11 +72,15 @@ class SchedulerTimerServiceTest {
 
   @InjectMocks SchedulerTimerService service;
   @Mock private SchedulerTimerRepository repository;
+  @Mock private SchedulerTimerJdbcRepository jdbcRepository;
+  @Mock private ModuleEventLedgerRepository moduleEventLedgerRepository;
   @Mock private TimerDescriptorMapper mapper;
   @Mock private JobSchedulingService jobSchedulingService;
-  @Mock private EntityManager entityManager;
   @Mock private TimerApiConfigurationProperties timerApiConfigurationProperties;
   @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private TimerExecutionRepository timerExecutionRepository;
+  @Spy private TimerSchedulingConfigurationProperties timerSchedulingConfigurationProperties =
+    new TimerSchedulingConfigurationProperties();
 
   @Captor private ArgumentCaptor<TimerDescriptor> timerDescriptorCaptor;
 
@@ -63,7 +88,7 @@ class SchedulerTimerServiceTest {
   void findById_positive() {
     var expectedEntity = timerDescriptorEntity();
     when(repository.findById(TIMER_UUID)).thenReturn(Optional.of(expectedEntity));
-    when(mapper.toDescriptor(expectedEntity)).thenReturn(timerDescriptor());
+    when(mapper.toReadOnlyDescriptor(expectedEntity)).thenReturn(timerDescriptor());
 
     var actual = service.findById(TIMER_UUID);
 
@@ -81,11 +106,37 @@ class SchedulerTimerServiceTest {
   void getById_positive() {
     var expectedEntity = timerDescriptorEntity();
     when(repository.findById(TIMER_UUID)).thenReturn(Optional.of(expectedEntity));
-    when(mapper.toDescriptor(expectedEntity)).thenReturn(timerDescriptor());
+    when(mapper.toReadOnlyDescriptor(expectedEntity)).thenReturn(timerDescriptor());
     var actual = service.getById(TIMER_UUID);
     assertThat(actual).isEqualTo(timerDescriptor());
   }
 
+  @Test
+  void getByIdWithLastExecution_positive() {
+    var entity = timerDescriptorEntity();
+    var lastExecution = new TimerExecution().outcome("SUCCESS").durationMs(10L).retries(0)
+      .startedAt(OffsetDateTime.parse("2026-01-01T00:00:00Z"));
+    when(repository.findById(TIMER_UUID)).thenReturn(Optional.of(entity));
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+    when(timerExecutionRepository.findLast(TIMER_UUID)).thenReturn(Optional.of(lastExecution));
+
+    var actual = service.getByIdWithLastExecution(TIMER_UUID);
+
+    assertThat(actual).isEqualTo(timerDescriptor().lastExecution(lastExecution));
+  }
+
+  @Test
+  void getByIdWithLastExecution_positive_noExecutions() {
+    var entity = timerDescriptorEntity();
+    when(repository.findById(TIMER_UUID)).thenReturn(Optional.of(entity));
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+    when(timerExecutionRepository.findLast(TIMER_UUID)).thenReturn(Optional.empty());
+
+    var actual = service.getByIdWithLastExecution(TIMER_UUID);
+
+    assertThat(actual).isEqualTo(timerDescriptor());
+  }
+
   @Test
   void getById_negative_entityNotFound() {
     var errorMessage = "Unable to find timer descriptor with id " + TIMER_UUID;
@@ -101,11 +152,50 @@ class SchedulerTimerServiceTest {
     var entity = timerDescriptorEntity();
     var expectedTimerDescriptors = new PageImpl<>(singletonList(entity));
     when(repository.findAll(OffsetRequest.of(0, 100))).thenReturn(expectedTimerDescriptors);
-    when(mapper.toDescriptor(entity)).thenReturn(timerDescriptor());
-    var actual = service.getAll(null, 0, 100);
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+    var actual = service.getAll(null, 0, 100, TotalRecordsMode.EXACT);
     assertThat(actual).isEqualTo(SearchResult.of(1, singletonList(timerDescriptor())));
   }
 
+  @Test
+  void getAll_positive_estimatedTotalRecords() {
+    var entity = timerDescriptorEntity();
+    when(repository.findAllBy(OffsetRequest.of(0, 100))).thenReturn(List.of(entity));
+    when(repository.estimateCount()).thenReturn(42L);
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+
+    var actual = service.getAll(null, 0, 100, TotalRecordsMode.ESTIMATED);
+
+    assertThat(actual).isEqualTo(SearchResult.of(42, singletonList(timerDescriptor())));
+    verify(repository, never()).count();
+  }
+
+  @Test
+  void getAll_positive_estimatedTotalRecordsForNotAnalyzedTable() {
+    var entity = timerDescriptorEntity();
+    when(repository.findAllBy(OffsetRequest.of(0, 100))).thenReturn(List.of(entity));
+    when(repository.estimateCount()).thenReturn(-1L);
+    when(repository.count()).thenReturn(1L);
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+
+    var actual = service.getAll(null, 0, 100, TotalRecordsMode.ESTIMATED);
+
+    assertThat(actual).isEqualTo(SearchResult.of(1, singletonList(timerDescriptor())));
+  }
+
+  @Test
+  void getAll_positive_noTotalRecords() {
+    var entity = timerDescriptorEntity();
+    when(repository.findAllBy(OffsetRequest.of(0, 100))).thenReturn(List.of(entity));
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+
+    var actual = service.getAll(null, 0, 100, TotalRecordsMode.NONE);
+
+    assertThat(actual).isEqualTo(SearchResult.of(null, singletonList(timerDescriptor())));
+    verify(repository, never()).count();
+    verify(repository, never()).estimateCount();
+  }
+
   @Test
   void getAll_positive_query() {
     var entity = timerDescriptorEntity();
@@ -113,30 +203,69 @@ class SchedulerTimerServiceTest {
     var offsetRequest = OffsetRequest.of(0, 1);
     var expectedTimerDescriptors = new PageImpl<>(singletonList(entity), offsetRequest, 5);
     when(repository.findByCql(query, offsetRequest)).thenReturn(expectedTimerDescriptors);
-    when(mapper.toDescriptor(entity)).thenReturn(timerDescriptor());
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
 
-    var actual = service.getAll(query, 0, 1);
+    var actual = service.getAll(query, 0, 1, TotalRecordsMode.EXACT);
 
     assertThat(actual).isEqualTo(SearchResult.of(5, singletonList(timerDescriptor())));
   }
 
+  @Test
+  void getAllByCursor_positive_firstPage() {
+    var entity1 = timerDescriptorEntity(timerDescriptor(randomUUID()));
+    var entity2 = timerDescriptorEntity(timerDescriptor(randomUUID()));
+    entity1.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+    entity2.setId(UUID.fromString("00000000-0000-0000-0000-000000000002"));
+    when(repository.findAllBy(PageRequest.of(0, 2, Sort.by("id")))).thenReturn(List.of(entity1, entity2));
+    when(mapper.toReadOnlyDescriptor(entity1)).thenReturn(timerDescriptor(entity1.getId()));
+
+    var actual = service.getAllByCursor(null, "", 1, TotalRecordsMode.NONE);
+
+    assertThat(actual.getRecords()).containsExactly(timerDescriptor(entity1.getId()));
+    assertThat(actual.getTotalRecords()).isNull();
+    assertThat(actual.getNextCursor()).isEqualTo(CursorUtils.encodeCursor(entity1.getId()));
+  }
+
+  @Test
+  void getAllByCursor_positive_lastPage() {
+    var lastId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    var entity = timerDescriptorEntity();
+    when(repository.findByIdGreaterThan(lastId, PageRequest.of(0, 11, Sort.by("id")))).thenReturn(List.of(entity));
+    when(repository.count()).thenReturn(2L);
+    when(mapper.toReadOnlyDescriptor(entity)).thenReturn(timerDescriptor());
+
+    var actual = service.getAllByCursor(null, CursorUtils.encodeCursor(lastId), 10, TotalRecordsMode.EXACT);
+
+    assertThat(actual).isEqualTo(SearchResult.of(2, singletonList(timerDescriptor())));
+  }
+
+  @Test
+  void getAllByCursor_negative_queryIsNotSupported() {
+    assertThatThrownBy(() -> service.getAllByCursor("moduleName==mod-foo", "", 10, TotalRecordsMode.NONE))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Cursor pagination cannot be combined with CQL query");
+
+    verifyNoInteractions(repository);
+  }
+
   @Test
   void create_positive() {
     var descriptor = timerDescriptor().moduleId(MODULE_ID);
     var descriptorCopy = timerDescriptor().moduleId(MODULE_ID);
     var entity = timerDescriptorEntity(descriptorCopy);
+    var row = timerRow(descriptorCopy, USER_ID_UUID);
 
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(repository.findByNaturalKey(TimerDescriptorEntity.toNaturalKey(descriptorCopy))).thenReturn(Optional.empty());
-
     when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
-    when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(mapper.toDescriptor(entity)).thenReturn(descriptorCopy);
-    when(jobSchedulingService.schedule(descriptorCopy)).thenReturn(true);
     when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsert(eq(entity), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, true, null));
+    when(mapper.toDescriptor(row)).thenReturn(descriptorCopy);
+    when(jobSchedulingService.schedule(descriptorCopy)).thenReturn(true);
 
     var actual = service.create(descriptor, RequestOrigin.KAFKA);
     assertThat(actual).isEqualTo(descriptorCopy);
+    verify(repository, never()).saveAndFlush(any());
   }
 
   @Test
@@ -157,18 +286,20 @@ class SchedulerTimerServiceTest {
     var descriptor = timerDescriptor().moduleId(MODULE_ID).type(TimerType.SYSTEM);
     var descriptorCopy = timerDescriptor().moduleId(MODULE_ID).type(TimerType.SYSTEM);
     var entity = timerDescriptorEntity(descriptorCopy);
+    var row = timerRow(descriptorCopy, null);
 
     when(timerApiConfigurationProperties.isAllowSystemTimerMutation()).thenReturn(true);
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(repository.findByNaturalKey(TimerDescriptorEntity.toNaturalKey(descriptorCopy))).thenReturn(Optional.empty());
     when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
-    when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(mapper.toDescriptor(entity)).thenReturn(descriptorCopy);
+    when(jdbcRepository.upsert(eq(entity), any(), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, true, null));
+    when(mapper.toDescriptor(row)).thenReturn(descriptorCopy);
     when(jobSchedulingService.schedule(descriptorCopy)).thenReturn(true);
 
     var actual = service.create(descriptor, RequestOrigin.API);
 
     assertThat(actual.getType()).isEqualTo(TimerType.SYSTEM);
+    verify(moduleEventLedgerRepository).deleteAllByIdInBatch(Set.of(MODULE_NAME));
   }
 
   @Test
@@ -177,15 +308,13 @@ class SchedulerTimerServiceTest {
     var descriptorCopy = timerDescriptor(null).moduleId(MODULE_ID);
 
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(repository.findByNaturalKey(TimerDescriptorEntity.toNaturalKey(descriptorCopy))).thenReturn(Optional.empty());
-
     when(mapper.toDescriptorEntity(timerDescriptorCaptor.capture()))
       .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
-    when(repository.saveAndFlush(any(TimerDescriptorEntity.class))).thenAnswer(inv -> inv.getArgument(0));
-    when(mapper.toDescriptor(any(TimerDescriptorEntity.class)))
-      .thenAnswer(inv -> ((TimerDescriptorEntity) inv.getArgument(0)).getTimerDescriptor());
-    when(jobSchedulingService.schedule(any(TimerDescriptor.class))).thenReturn(true);
     when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsert(any(TimerDescriptorEntity.class), any(), any(OffsetDateTime.class), eq(false)))
+      .thenAnswer(inv -> insertedRow(inv.getArgument(0)));
+    when(mapper.toDescriptor(any(TimerRow.class))).thenAnswer(inv -> ((TimerRow) inv.getArgument(0)).timerDescriptor());
+    when(jobSchedulingService.schedule(any(TimerDescriptor.class))).thenReturn(true);
 
     var actual = service.create(descriptor, RequestOrigin.KAFKA);
 
@@ -229,6 +358,8 @@ class SchedulerTimerServiceTest {
 
     var existingDescriptor = timerDescriptor().moduleId(MODULE_ID).modified(null);
     var existingEntity = timerDescriptorEntity(existingDescriptor);
+    existingEntity.setCreatedDate(OffsetDateTime.now());
+    existingEntity.setCreatedByUserId(USER_ID_UUID);
 
     var expectedDescriptor = timerDescriptorWithPath("/modified").modified(true);
     var entityToUpdate = timerDescriptorEntity(expectedDescriptor);
@@ -253,13 +384,14 @@ class SchedulerTimerServiceTest {
     when(mapper.toDescriptorEntity(any(TimerDescriptor.class))).thenReturn(entityToUpdate);
 
     when(repository.saveAndFlush(entityToUpdate)).thenReturn(entityToUpdate);
-    doNothing().when(entityManager).refresh(entityToUpdate);
     doNothing().when(jobSchedulingService).reschedule(existingDescriptor, expectedDescriptor);
     when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
 
     var actual = service.update(TIMER_UUID, inputDescriptor, RequestOrigin.KAFKA);
 
     assertThat(actual).isEqualTo(expectedDescriptor);
+    assertThat(entityToUpdate.getCreatedDate()).isEqualTo(existingEntity.getCreatedDate());
+    assertThat(entityToUpdate.getCreatedByUserId()).isEqualTo(USER_ID_UUID);
   }
 
   @Test
@@ -270,10 +402,10 @@ class SchedulerTimerServiceTest {
 
     when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(repository.findByNaturalKey(TimerDescriptorEntity.toNaturalKey(descriptorCopy))).thenReturn(Optional.empty());
     when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
-    when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(mapper.toDescriptor(entity)).thenReturn(descriptorCopy);
+    when(jdbcRepository.upsert(eq(entity), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenAnswer(inv -> insertedRow(inv.getArgument(0)));
+    when(mapper.toDescriptor(any(TimerRow.class))).thenReturn(descriptorCopy);
     when(jobSchedulingService.schedule(descriptorCopy)).thenReturn(true);
 
     service.create(descriptor, RequestOrigin.KAFKA);
@@ -288,11 +420,12 @@ class SchedulerTimerServiceTest {
     var entity = timerDescriptorEntity(descriptorCopy);
     entity.setUserId(randomUUID()); // must be cleared for a SYSTEM timer
 
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(repository.findByNaturalKey(TimerDescriptorEntity.toNaturalKey(descriptorCopy))).thenReturn(Optional.empty());
     when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
-    when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(mapper.toDescriptor(entity)).thenReturn(descriptorCopy);
+    when(jdbcRepository.upsert(eq(entity), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenAnswer(inv -> insertedRow(inv.getArgument(0)));
+    when(mapper.toDescriptor(any(TimerRow.class))).thenReturn(descriptorCopy);
     when(jobSchedulingService.schedule(descriptorCopy)).thenReturn(true);
 
     service.create(descriptor, RequestOrigin.KAFKA);
@@ -308,12 +441,27 @@ class SchedulerTimerServiceTest {
 
     when(folioExecutionContext.getUserId()).thenReturn(null);
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(repository.findByNaturalKey(TimerDescriptorEntity.toNaturalKey(descriptorCopy))).thenReturn(Optional.empty());
     when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
+    when(jdbcRepository.upsert(eq(entity), eq(null), any(OffsetDateTime.class), eq(false)))
+      .thenAnswer(inv -> insertedRow(inv.getArgument(0)));
 
     assertThatThrownBy(() -> service.create(descriptor, RequestOrigin.KAFKA))
       .isInstanceOf(RequestValidationException.class)
       .hasMessage("User timer requires a userId");
+    verifyNoInteractions(jobSchedulingService);
+  }
+
+  @Test
+  void create_negative_userIdRefreshWithoutContextUser() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID);
+
+    when(mapper.deepCopy(descriptor)).thenReturn(timerDescriptor().moduleId(MODULE_ID));
+    when(timerApiConfigurationProperties.isAllowUserIdUpdate()).thenReturn(true);
+
+    assertThatThrownBy(() -> service.create(descriptor, RequestOrigin.KAFKA))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("User timer requires a userId");
+    verifyNoInteractions(jdbcRepository);
   }
 
   @Test
@@ -334,7 +482,6 @@ class SchedulerTimerServiceTest {
     });
     when(mapper.toDescriptorEntity(any(TimerDescriptor.class))).thenReturn(entityToUpdate);
     when(repository.saveAndFlush(entityToUpdate)).thenReturn(entityToUpdate);
-    doNothing().when(entityManager).refresh(entityToUpdate);
     doNothing().when(jobSchedulingService).reschedule(existingDescriptor, expectedDescriptor);
 
     service.update(TIMER_UUID, inputDescriptor, RequestOrigin.KAFKA);
@@ -362,7 +509,6 @@ class SchedulerTimerServiceTest {
     });
     when(mapper.toDescriptorEntity(any(TimerDescriptor.class))).thenReturn(entityToUpdate);
     when(repository.saveAndFlush(entityToUpdate)).thenReturn(entityToUpdate);
-    doNothing().when(entityManager).refresh(entityToUpdate);
     doNothing().when(jobSchedulingService).reschedule(existingDescriptor, expectedDescriptor);
 
     service.update(TIMER_UUID, inputDescriptor, RequestOrigin.KAFKA);
@@ -422,12 +568,12 @@ class SchedulerTimerServiceTest {
     });
     when(mapper.toDescriptorEntity(any(TimerDescriptor.class))).thenReturn(entityToUpdate);
     when(repository.saveAndFlush(entityToUpdate)).thenReturn(entityToUpdate);
-    doNothing().when(entityManager).refresh(entityToUpdate);
     doNothing().when(jobSchedulingService).reschedule(existingDescriptor, expectedDescriptor);
 
     var actual = service.update(TIMER_UUID, inputDescriptor, RequestOrigin.API);
 
     assertThat(actual.getType()).isEqualTo(TimerType.SYSTEM);
+    verify(moduleEventLedgerRepository).deleteAllByIdInBatch(Set.of(MODULE_NAME));
   }
 
   @Test
@@ -537,6 +683,7 @@ class SchedulerTimerServiceTest {
 
     verify(repository).findById(TIMER_UUID);
     verify(jobSchedulingService).delete(timerDescriptor);
+    verify(moduleEventLedgerRepository).deleteAllByIdInBatch(Set.of(MODULE_NAME));
   }
 
   @Test
@@ -548,34 +695,308 @@ class SchedulerTimerServiceTest {
 
   @Test
   void deleteAll_positive() {
-    var entity = timerDescriptorEntity();
-    when(repository.findAll()).thenReturn(List.of(entity));
+    when(jobSchedulingService.deleteAllTenantJobs()).thenReturn(1);
 
     service.deleteAll();
 
-    verify(repository).delete(entity);
-    verify(jobSchedulingService).delete(timerDescriptor());
+    verify(repository).deleteAllInBatch();
+    verify(moduleEventLedgerRepository).deleteAllInBatch();
+    verify(jobSchedulingService).deleteAllTenantJobs();
+    verify(repository, never()).findAll();
+  }
+
+  @Test
+  void deleteByIds_positive() {
+    var entity = timerDescriptorEntity();
+    when(repository.findAllById(List.of(TIMER_UUID))).thenReturn(List.of(entity));
+
+    service.deleteByIds(List.of(TIMER_UUID), RequestOrigin.KAFKA);
+
+    verify(repository).deleteAll(List.of(entity));
+    verify(jobSchedulingService).deleteAll(List.of(timerDescriptor()));
+    verifyNoInteractions(moduleEventLedgerRepository);
   }
 
   @Test
-  void create_duplicate() {
+  void deleteByIds_positive_apiSystemTimerMutationInvalidatesAppliedModuleEvent() {
+    var systemEntity = timerDescriptorEntity(timerDescriptor().type(TimerType.SYSTEM));
+    var userEntity = timerDescriptorEntity(timerDescriptor().moduleName("mod-user"));
+    var ids = List.of(TIMER_UUID);
+    when(timerApiConfigurationProperties.isAllowSystemTimerMutation()).thenReturn(true);
+    when(repository.findAllById(ids)).thenReturn(List.of(systemEntity, userEntity));
+
+    service.deleteByIds(ids, RequestOrigin.API);
+
+    verify(repository).deleteAll(List.of(systemEntity, userEntity));
+    verify(moduleEventLedgerRepository).deleteAllByIdInBatch(Set.of(MODULE_NAME));
+  }
+
+  @Test
+  void deleteByIds_negative_rejectsSystemTimerMutationForApiRequest() {
+    var entity = timerDescriptorEntity(timerDescriptor().type(TimerType.SYSTEM));
+    when(timerApiConfigurationProperties.isAllowSystemTimerMutation()).thenReturn(false);
+    when(repository.findAllById(List.of(TIMER_UUID))).thenReturn(List.of(entity));
+
+    var ids = List.of(TIMER_UUID);
+    assertThatThrownBy(() -> service.deleteByIds(ids, RequestOrigin.API))
+      .isInstanceOf(RequestValidationException.class);
+
+    verify(repository, never()).deleteAll(any());
+    verifyNoInteractions(jobSchedulingService);
+  }
+
+  @Test
+  void createAll_positive() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID);
+    var descriptorCopy = timerDescriptor().moduleId(MODULE_ID);
+    var entity = timerDescriptorEntity(descriptorCopy);
+    var row = timerRow(descriptorCopy, USER_ID_UUID);
+
+    when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
+    when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsert(eq(entity), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, true, null));
+    when(mapper.toDescriptor(row)).thenReturn(descriptorCopy);
+
+    var actual = service.createAll(List.of(descriptor), RequestOrigin.KAFKA);
+
+    assertThat(actual).containsExactly(descriptorCopy);
+    verify(jobSchedulingService).scheduleAll(argThat(descriptors -> List.copyOf(descriptors).equals(actual)));
+    verify(jobSchedulingService, never()).schedule(any());
+  }
+
+  @Test
+  void createAll_positive_existingTimerIsUpdated() {
     var descriptor = timerDescriptor().moduleId(MODULE_ID).id(null);
     var descriptorCopy = timerDescriptor().moduleId(MODULE_ID).id(null);
-    var entity = timerDescriptorEntity(descriptorCopy);
     var existingDescriptor = timerDescriptor().moduleId(MODULE_ID);
     var updatedDescriptor = timerDescriptor().moduleId(MODULE_ID).modified(true);
+    updatedDescriptor.getRoutingEntry().setDelay("30");
+    var row = timerRow(updatedDescriptor, USER_ID_UUID);
 
     when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
-    when(mapper.toDescriptorEntity(any(TimerDescriptor.class))).thenReturn(entity);
-    when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(repository.findByNaturalKey(any())).thenReturn(Optional.of(entity));
-    when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
-    when(mapper.toDescriptor(entity)).thenReturn(existingDescriptor, updatedDescriptor);
-    doNothing().when(jobSchedulingService).reschedule(any(TimerDescriptor.class), any(TimerDescriptor.class));
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
     when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsert(any(TimerDescriptorEntity.class), any(), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, false, existingDescriptor));
+    when(mapper.toDescriptor(row)).thenReturn(updatedDescriptor);
+
+    var actual = service.createAll(List.of(descriptor), RequestOrigin.KAFKA);
+
+    assertThat(actual).containsExactly(updatedDescriptor);
+    verify(jobSchedulingService).reschedule(existingDescriptor, updatedDescriptor);
+    verify(jobSchedulingService).scheduleAll(argThat(Collection::isEmpty));
+  }
+
+  @Test
+  void create_positive_existingTimerWithUnchangedTriggerIsNotRescheduled() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID).id(null);
+    var existingDescriptor = timerDescriptor().moduleId(MODULE_ID);
+    var updatedDescriptor = timerDescriptor().moduleId(MODULE_ID).modified(true);
+    var row = timerRow(updatedDescriptor, USER_ID_UUID);
+
+    when(mapper.deepCopy(descriptor)).thenReturn(timerDescriptor().moduleId(MODULE_ID).id(null));
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(jdbcRepository.upsert(any(TimerDescriptorEntity.class), any(), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, false, existingDescriptor));
+    when(mapper.toDescriptor(row)).thenReturn(updatedDescriptor);
 
     var actual = service.create(descriptor, RequestOrigin.KAFKA);
+
     assertThat(actual).isEqualTo(updatedDescriptor);
+    verifyNoInteractions(jobSchedulingService);
+  }
+
+  @Test
+  void create_positive_existingTimerWithChangedTriggerIsRescheduled() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID).id(null);
+    var existingDescriptor = timerDescriptor().moduleId(MODULE_ID).enabled(false);
+    var updatedDescriptor = timerDescriptor().moduleId(MODULE_ID).modified(true);
+    var row = timerRow(updatedDescriptor, USER_ID_UUID);
+
+    when(mapper.deepCopy(descriptor)).thenReturn(timerDescriptor().moduleId(MODULE_ID).id(null));
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(jdbcRepository.upsert(any(TimerDescriptorEntity.class), any(), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, false, existingDescriptor));
+    when(mapper.toDescriptor(row)).thenReturn(updatedDescriptor);
+
+    var actual = service.create(descriptor, RequestOrigin.KAFKA);
+
+    assertThat(actual).isEqualTo(updatedDescriptor);
+    verify(jobSchedulingService).reschedule(existingDescriptor, updatedDescriptor);
+  }
+
+  @Test
+  void create_positive_concurrentlyInsertedTimerIsRescheduled() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID).id(null);
+    var updatedDescriptor = timerDescriptor().moduleId(MODULE_ID).modified(true);
+    var row = timerRow(updatedDescriptor, USER_ID_UUID);
+
+    when(mapper.deepCopy(descriptor)).thenReturn(timerDescriptor().moduleId(MODULE_ID).id(null));
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(jdbcRepository.upsert(any(TimerDescriptorEntity.class), any(), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(new TimerUpsertResult(row, false, null));
+    when(mapper.toDescriptor(row)).thenReturn(updatedDescriptor);
+
+    service.create(descriptor, RequestOrigin.KAFKA);
+
+    verify(jobSchedulingService).rescheduleAll(List.of(updatedDescriptor));
+  }
+
+  @Test
+  void createOrUpdateBatch_positive() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID);
+    var descriptorCopy = timerDescriptor().moduleId(MODULE_ID);
+    var invalidDescriptor = timerDescriptor(randomUUID()).type(null);
+    var entity = timerDescriptorEntity(descriptorCopy);
+    var row = timerRow(descriptorCopy, USER_ID_UUID);
+
+    when(repository.findAllById(List.of(TIMER_UUID, invalidDescriptor.getId()))).thenReturn(List.of());
+    when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
+    when(mapper.toDescriptorEntity(descriptorCopy)).thenReturn(entity);
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsertAll(eq(List.of(entity)), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(List.of(new TimerUpsertResult(row, true, null)));
+    when(mapper.toDescriptor(row)).thenReturn(descriptorCopy);
+
+    var actual = service.createOrUpdateBatch(List.of(descriptor, invalidDescriptor), RequestOrigin.KAFKA);
+
+    assertThat(actual).containsExactly(
+      new TimerBatchItemResult().index(0).status(StatusEnum.CREATED).timerDescriptor(descriptorCopy),
+      new TimerBatchItemResult().index(1).status(StatusEnum.FAILED).message("Timer type is required"));
+    assertThat(entity.getUserId()).isEqualTo(USER_ID_UUID);
+    verify(jobSchedulingService).scheduleAll(List.of(descriptorCopy));
+    verify(jobSchedulingService).rescheduleAll(List.of());
+    verify(repository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void createOrUpdateBatch_positive_existingTimerIsUpdated() {
+    var descriptor = timerDescriptor(null).moduleId(MODULE_ID);
+    var descriptorCopy = timerDescriptor(null).moduleId(MODULE_ID);
+    var existingDescriptor = timerDescriptor().moduleId(MODULE_ID);
+    var updatedDescriptor = timerDescriptor().moduleId(MODULE_ID).modified(true);
+    updatedDescriptor.getRoutingEntry().setDelay("30");
+    var row = timerRow(updatedDescriptor, USER_ID_UUID);
+
+    when(mapper.deepCopy(descriptor)).thenReturn(descriptorCopy);
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsertAll(anyList(), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(List.of(new TimerUpsertResult(row, false, existingDescriptor)));
+    when(mapper.toDescriptor(row)).thenReturn(updatedDescriptor);
+
+    var actual = service.createOrUpdateBatch(List.of(descriptor), RequestOrigin.KAFKA);
+
+    assertThat(actual).containsExactly(
+      new TimerBatchItemResult().index(0).status(StatusEnum.UPDATED).timerDescriptor(updatedDescriptor));
+    verify(jobSchedulingService).scheduleAll(List.of());
+    verify(jobSchedulingService).rescheduleAll(List.of(updatedDescriptor));
+  }
+
+  @Test
+  void createOrUpdateBatch_positive_duplicateTimerIsFailed() {
+    var descriptor = timerDescriptor(null).moduleId(MODULE_ID);
+    var duplicateDescriptor = timerDescriptor(null).moduleId(MODULE_ID);
+
+    when(mapper.deepCopy(any(TimerDescriptor.class)))
+      .thenReturn(timerDescriptor(null).moduleId(MODULE_ID), timerDescriptor(null).moduleId(MODULE_ID));
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsertAll(anyList(), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenAnswer(inv -> mapItems(inv.<List<TimerDescriptorEntity>>getArgument(0),
+        SchedulerTimerServiceTest::insertedRow));
+    when(mapper.toDescriptor(any(TimerRow.class)))
+      .thenAnswer(inv -> ((TimerRow) inv.getArgument(0)).timerDescriptor());
+
+    var actual = service.createOrUpdateBatch(List.of(descriptor, duplicateDescriptor), RequestOrigin.KAFKA);
+
+    assertThat(actual).extracting(TimerBatchItemResult::getStatus)
+      .containsExactly(StatusEnum.CREATED, StatusEnum.FAILED);
+    assertThat(actual.get(1).getMessage()).isEqualTo("Timer is specified more than once in the batch");
+    verify(jdbcRepository).upsertAll(argThat(entities -> entities.size() == 1), any(), any(OffsetDateTime.class),
+      eq(false));
+    verify(jobSchedulingService).scheduleAll(argThat(descriptors -> descriptors.size() == 1));
+  }
+
+  @Test
+  void createOrUpdateBatch_positive_userTimerWithoutContextUserIsFailed() {
+    var newTimer = timerDescriptor(null).moduleId(MODULE_ID);
+    var existingTimer = timerDescriptor(null).moduleId(MODULE_ID);
+    existingTimer.getRoutingEntry().setPathPattern("/existing");
+    var existingTimerCopy = timerDescriptor(null).moduleId(MODULE_ID);
+    existingTimerCopy.getRoutingEntry().setPathPattern("/existing");
+    var existingKey = TimerDescriptorEntity.toNaturalKey(existingTimerCopy);
+    var row = timerRow(existingTimerCopy, USER_ID_UUID);
+
+    when(mapper.deepCopy(newTimer)).thenReturn(timerDescriptor(null).moduleId(MODULE_ID));
+    when(mapper.deepCopy(existingTimer)).thenReturn(existingTimerCopy);
+    when(folioExecutionContext.getUserId()).thenReturn(null);
+    when(jdbcRepository.findNaturalKeysWithUserId(argThat(keys -> keys.size() == 2)))
+      .thenReturn(Set.of(existingKey));
+    when(mapper.toDescriptorEntity(existingTimerCopy)).thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(jdbcRepository.upsertAll(anyList(), eq(null), any(OffsetDateTime.class), eq(false)))
+      .thenReturn(List.of(new TimerUpsertResult(row, false, existingTimerCopy)));
+    when(mapper.toDescriptor(row)).thenReturn(existingTimerCopy);
+
+    var actual = service.createOrUpdateBatch(List.of(newTimer, existingTimer), RequestOrigin.KAFKA);
+
+    assertThat(actual).containsExactly(
+      new TimerBatchItemResult().index(0).status(StatusEnum.FAILED).message("User timer requires a userId"),
+      new TimerBatchItemResult().index(1).status(StatusEnum.UPDATED).timerDescriptor(existingTimerCopy));
+    verify(jdbcRepository).upsertAll(argThat(entities -> entities.size() == 1), any(), any(OffsetDateTime.class),
+      eq(false));
+    verify(jobSchedulingService).scheduleAll(List.of());
+    verify(jobSchedulingService).rescheduleAll(List.of());
+  }
+
+  @Test
+  void createOrUpdateBatch_positive_timersAreSavedInChunks() {
+    var descriptor1 = timerDescriptor(null).moduleId(MODULE_ID);
+    var descriptor2 = timerDescriptor(null).moduleId(MODULE_ID);
+    descriptor2.getRoutingEntry().setPathPattern("/other");
+    timerSchedulingConfigurationProperties.setBatchSize(1);
+
+    when(mapper.deepCopy(any(TimerDescriptor.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(mapper.toDescriptorEntity(any(TimerDescriptor.class)))
+      .thenAnswer(inv -> timerDescriptorEntity(inv.getArgument(0)));
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID_UUID);
+    when(jdbcRepository.upsertAll(anyList(), eq(USER_ID_UUID), any(OffsetDateTime.class), eq(false)))
+      .thenAnswer(inv -> mapItems(inv.<List<TimerDescriptorEntity>>getArgument(0),
+        SchedulerTimerServiceTest::insertedRow));
+    when(mapper.toDescriptor(any(TimerRow.class)))
+      .thenAnswer(inv -> ((TimerRow) inv.getArgument(0)).timerDescriptor());
+
+    var actual = service.createOrUpdateBatch(List.of(descriptor1, descriptor2), RequestOrigin.KAFKA);
+
+    assertThat(actual).extracting(TimerBatchItemResult::getStatus)
+      .containsExactly(StatusEnum.CREATED, StatusEnum.CREATED);
+    verify(jdbcRepository, times(2)).upsertAll(argThat(entities -> entities.size() == 1), eq(USER_ID_UUID),
+      any(OffsetDateTime.class), eq(false));
+    verify(jobSchedulingService).scheduleAll(argThat(descriptors -> descriptors.size() == 2));
+  }
+
+  @Test
+  void createOrUpdateBatch_positive_rejectsSystemTypeForApiRequest() {
+    var descriptor = timerDescriptor().moduleId(MODULE_ID).type(TimerType.SYSTEM);
+
+    when(repository.findAllById(List.of(TIMER_UUID))).thenReturn(List.of());
+    when(timerApiConfigurationProperties.isAllowSystemTimerMutation()).thenReturn(false);
+
+    var actual = service.createOrUpdateBatch(List.of(descriptor), RequestOrigin.API);
+
+    assertThat(actual).singleElement().satisfies(result -> {
+      assertThat(result.getStatus()).isEqualTo(StatusEnum.FAILED);
+      assertThat(result.getMessage()).startsWith("SYSTEM timers are internal-only");
+    });
+    verifyNoInteractions(mapper);
   }
 
   @Test
@@ -597,6 +1018,22 @@ class SchedulerTimerServiceTest {
     assertThat(result).isEqualTo(3);
 
     verify(repository, times(1)).switchTimersByIds(List.of(id1, id2, id3), enabled);
+    verify(jobSchedulingService).scheduleAll(argThat(descriptors -> descriptors.size() == 3));
+  }
+
+  @Test
+  void switchModuleTimers_positive_disable() {
+    var module = "mod-foo";
+    var id = randomUUID();
+
+    doReturn(List.of(mockTimerDescriptorEntity(id))).when(repository).findByModuleNameAndEnabledState(module, false);
+    when(mapper.toDescriptor(any(TimerDescriptorEntity.class))).thenReturn(timerDescriptor());
+
+    var result = service.switchModuleTimers(module, false);
+
+    assertThat(result).isEqualTo(1);
+    verify(repository).switchTimersByIds(List.of(id), false);
+    verify(jobSchedulingService).deleteAll(List.of(timerDescriptor().enabled(false)));
   }
 
   @Test
@@ -612,7 +1049,7 @@ class SchedulerTimerServiceTest {
 
     assertThat(result).isEqualTo(1);
     verify(repository).switchTimersByIds(List.of(withUserId.getId()), true);
-    verify(jobSchedulingService).schedule(any(TimerDescriptor.class));
+    verify(jobSchedulingService).scheduleAll(argThat(descriptors -> descriptors.size() == 1));
     verify(mapper, never()).toDescriptor(withoutUserId);
   }
 
@@ -631,6 +1068,15 @@ class SchedulerTimerServiceTest {
     return entity;
   }
 
+  private static TimerUpsertResult insertedRow(TimerDescriptorEntity entity) {
+    return new TimerUpsertResult(timerRow(entity.getTimerDescriptor(), entity.getUserId()), true, null);
+  }
+
+  private static TimerRow timerRow(TimerDescriptor descriptor, UUID userId) {
+    var type = org.folio.scheduler.domain.model.TimerType.valueOf(descriptor.getType().name());
+    return new TimerRow(descriptor.getId(), type, userId, descriptor, null, null, null, null);
+  }
+
   private static TimerDescriptor timerDescriptorWithPath(String path) {
     var inputDescriptor = timerDescriptor().moduleId(MODULE_ID);
     inputDescriptor.getRoutingEntry().setPathPattern(path);
@@ -0,0 +1,89 @@
+package org.folio.scheduler.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.scheduler.service.TimerExportService.CHUNK_SIZE;
+import static org.folio.scheduler.support.TestValues.timerDescriptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.folio.scheduler.domain.dto.TimerDescriptor;
+import org.folio.scheduler.domain.model.TimerRow;
+import org.folio.scheduler.domain.model.TimerType;
+import org.folio.scheduler.exception.RequestValidationException;
+import org.folio.scheduler.mapper.TimerDescriptorMapper;
+import org.folio.scheduler.repository.SchedulerTimerJdbcRepository;
+import org.folio.scheduler.utils.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TimerExportServiceTest {
+
+  @InjectMocks private TimerExportService service;
+  @Mock private TimerDescriptorMapper mapper;
+  @Mock private SchedulerTimerJdbcRepository jdbcRepository;
+  @Spy private ObjectMapper objectMapper = TestUtils.OBJECT_MAPPER;
+
+  @Test
+  void exportTimers_positive_readsByChunks() throws IOException {
+    var firstChunk = IntStream.range(0, CHUNK_SIZE).mapToObj(i -> timerRow(UUID.randomUUID())).toList();
+    var lastRow = timerRow(UUID.randomUUID());
+    var lastIdOfFirstChunk = firstChunk.getLast().id();
+    when(jdbcRepository.findChunk(null, "mod-foo", TimerType.SYSTEM, CHUNK_SIZE)).thenReturn(firstChunk);
+    when(jdbcRepository.findChunk(lastIdOfFirstChunk, "mod-foo", TimerType.SYSTEM, CHUNK_SIZE))
+      .thenReturn(List.of(lastRow));
+    when(mapper.toDescriptor(any(TimerRow.class))).thenAnswer(inv -> inv.<TimerRow>getArgument(0).timerDescriptor());
+
+    try (var stream = service.exportTimers("mod-foo", "system")) {
+      var lines = new String(stream.readAllBytes(), UTF_8).split("\n");
+
+      assertThat(lines).hasSize(CHUNK_SIZE + 1);
+      assertThat(TestUtils.OBJECT_MAPPER.readValue(lines[CHUNK_SIZE], TimerDescriptor.class))
+        .isEqualTo(lastRow.timerDescriptor());
+    }
+  }
+
+  @Test
+  void exportTimers_positive_empty() throws IOException {
+    when(jdbcRepository.findChunk(null, null, null, CHUNK_SIZE)).thenReturn(List.of());
+
+    try (var stream = service.exportTimers(" ", null)) {
+      assertThat(stream.read()).isEqualTo(-1);
+      assertThat(stream.readAllBytes()).isEmpty();
+    }
+
+    verify(jdbcRepository).findChunk(null, null, null, CHUNK_SIZE);
+  }
+
+  @Test
+  void exportTimers_positive_isLazy() {
+    service.exportTimers(null, "USER");
+    verifyNoInteractions(jdbcRepository);
+  }
+
+  @Test
+  void exportTimers_negative_unknownType() {
+    assertThatThrownBy(() -> service.exportTimers(null, "unknown"))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Unknown timer type");
+  }
+
+  private static TimerRow timerRow(UUID id) {
+    return new TimerRow(id, TimerType.SYSTEM, null, timerDescriptor(id), null, null, null, null);
+  }
+}
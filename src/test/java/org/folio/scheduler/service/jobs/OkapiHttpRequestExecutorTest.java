@@ -10,6 +10,9 @@ import static org.folio.scheduler.support.TestConstants.USER_ID;
 import static org.folio.scheduler.support.TestConstants.USER_ID_UUID;
 import static org.folio.scheduler.support.TestConstants.USER_TOKEN;
 import static org.folio.scheduler.utils.TestUtils.OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,11 +21,16 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.LogEvent;
@@ -75,6 +83,12 @@ class OkapiHttpRequestExecutorTest {
   private static final String SYSTEM_USER_ID = "99999999-9999-9999-9999-999999999999";
 
   private static final int RETRY_ATTEMPTS = 3;
+  private static final List<String> JFR_EVENTS = List.of(
+    "org.folio.scheduler.TimerDescriptorLoad",
+    "org.folio.scheduler.TimerUserIdResolution",
+    "org.folio.scheduler.TimerTokenImpersonation",
+    "org.folio.scheduler.TimerHttpCall",
+    "org.folio.scheduler.TimerRetryAttempt");
 
   private OkapiHttpRequestExecutor job;
   @Mock private OkapiClient okapiClient;
@@ -84,9 +98,11 @@ class OkapiHttpRequestExecutorTest {
   @Mock private OkapiConfigurationProperties okapiConfigurationProperties;
   @Mock private UserImpersonationService userImpersonationService;
   @Mock private SystemUserService systemUserService;
+  @Mock private TimerExecutionHistoryWriter historyWriter;
 
   private TestLogAppender logAppender;
   private Level originalLogLevel;
+  private SimpleMeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
@@ -96,6 +112,7 @@ class OkapiHttpRequestExecutorTest {
     logAppender.start();
     logger.addAppender(logAppender);
     logger.setLevel(Level.INFO);
+    meterRegistry = new SimpleMeterRegistry();
     job = newExecutor(RETRY_ATTEMPTS);
   }
 
@@ -110,7 +127,8 @@ class OkapiHttpRequestExecutorTest {
       .timerExecutionRetryTemplate(properties, classifier);
 
     return new OkapiHttpRequestExecutor(okapiClient, folioModuleMetadata, schedulerTimerService,
-      okapiConfigurationProperties, userImpersonationService, systemUserService, retryTemplate, classifier);
+      okapiConfigurationProperties, userImpersonationService, systemUserService, retryTemplate, classifier,
+      new TimerExecutionMetrics(meterRegistry), historyWriter);
   }
 
   @AfterEach
@@ -185,6 +203,7 @@ class OkapiHttpRequestExecutorTest {
       .hasMessage("Failed to prepare timer request: userId is null for user timer [tenant: " + TENANT_ID + "]");
 
     verifyNoInteractions(okapiClient, schedulerTimerService, systemUserService, userImpersonationService);
+    verify(historyWriter).record(eq(TENANT_ID), eq(TIMER_UUID), eq("ERROR"), any(Duration.class), eq(0), isNull());
   }
 
   @ParameterizedTest
@@ -201,6 +220,7 @@ class OkapiHttpRequestExecutorTest {
         + SYSTEM_USER_ID + "]");
 
     verifyNoInteractions(okapiClient, schedulerTimerService);
+    verify(historyWriter).record(eq(TENANT_ID), eq(TIMER_UUID), eq("ERROR"), any(Duration.class), eq(0), isNull());
   }
 
   @Test
@@ -255,6 +275,8 @@ class OkapiHttpRequestExecutorTest {
     var event = assertSystemTimerEvent("timer.execution.failure", "DELETE", "/test-endpoint", "test-endpoint");
     assertHttpStatusFailureLog(event);
     assertLoggedMessagesDoNotContain(USER_TOKEN, SYSTEM_USER_ID, "downstream-secret", "body-secret");
+    verify(historyWriter).record(any(TimerExecutionLogContext.class), eq("FAILURE"), any(Duration.class), eq(0),
+      eq(404));
   }
 
   @Test
@@ -316,6 +338,58 @@ class OkapiHttpRequestExecutorTest {
       .containsEntry("retryNumber", 1)
       .containsEntry("reason", "AUTHORIZATION_SERVICE_UNAVAILABLE");
     assertLoggedMessagesDoNotContain("authorization-secret");
+
+    var executionTimer = meterRegistry.find(TimerExecutionMetrics.EXECUTION_METRIC)
+      .tags("tenant", TENANT_ID, "module", TEST_MODULE_NAME, "method", "POST", "outcome", "SUCCESS").timer();
+    assertThat(executionTimer).isNotNull();
+    assertThat(executionTimer.count()).isOne();
+    assertThat(meterRegistry.find(TimerExecutionMetrics.RETRIES_METRIC)
+      .tag("reason", "AUTHORIZATION_SERVICE_UNAVAILABLE").counter())
+      .isNotNull()
+      .satisfies(counter -> assertThat(counter.count()).isEqualTo(1d));
+    verify(historyWriter).record(any(TimerExecutionLogContext.class), eq("SUCCESS"), any(Duration.class), eq(1),
+      isNull());
+  }
+
+  @Test
+  void execute_positive_emitsJfrEventForEachFirePhase() throws Exception {
+    var re = new RoutingEntry().path("test-endpoint").methods(List.of("POST"));
+    var expectedUri = fromUriString("http://test-endpoint").build().toUri();
+    stubSystemTimer(re);
+    doThrow(serverError(HttpStatus.SERVICE_UNAVAILABLE, authorizationErrorBody())).doNothing()
+      .when(okapiClient).doPost(expectedUri, TEST_MODULE_ID);
+
+    var recordingFile = Files.createTempFile("timer-fire", ".jfr");
+    try (var recording = new Recording()) {
+      JFR_EVENTS.forEach(eventName -> recording.enable(eventName).withThreshold(Duration.ZERO));
+      recording.start();
+      job.execute(jobExecutionContext);
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+    var events = RecordingFile.readAllEvents(recordingFile);
+    Files.delete(recordingFile);
+
+    verify(okapiClient, times(2)).doPost(expectedUri, TEST_MODULE_ID);
+    assertThat(events).extracting(event -> event.getEventType().getName())
+      .containsExactlyInAnyOrderElementsOf(JFR_EVENTS);
+    assertThat(events).allSatisfy(event -> {
+      assertThat(event.getString("tenant")).isEqualTo(TENANT_ID);
+      assertThat(event.getString("timerId")).isEqualTo(TIMER_UUID.toString());
+    });
+    assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith("TimerRetryAttempt"))
+      .singleElement()
+      .satisfies(event -> {
+        assertThat(event.getInt("retryNumber")).isOne();
+        assertThat(event.getString("reason")).isEqualTo("AUTHORIZATION_SERVICE_UNAVAILABLE");
+        assertThat(event.getBoolean("succeeded")).isTrue();
+      });
+    assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith("TimerHttpCall"))
+      .singleElement()
+      .satisfies(event -> {
+        assertThat(event.getString("outcome")).isEqualTo("SUCCESS");
+        assertThat(event.getInt("retries")).isOne();
+      });
   }
 
   @Test
@@ -365,7 +439,10 @@ class OkapiHttpRequestExecutorTest {
     assertThat(logAppender.timerEvents())
       .filteredOn(event -> "timer.execution.failure".equals(event.get("event")))
       .singleElement()
-      .satisfies(event -> assertThat(event).containsEntry("outcome", "FAILURE"));
+      .satisfies(event -> assertThat(event).containsEntry("outcome", "FAILURE").containsEntry("retries", 2));
+    assertThat(meterRegistry.find(TimerExecutionMetrics.RETRY_COUNT_METRIC).tag("outcome", "FAILURE").summary())
+      .isNotNull()
+      .satisfies(summary -> assertThat(summary.totalAmount()).isEqualTo(2d));
   }
 
   @Test
@@ -381,6 +458,7 @@ class OkapiHttpRequestExecutorTest {
       .isInstanceOf(EntityNotFoundException.class);
 
     verifyNoInteractions(okapiClient);
+    verify(historyWriter).record(eq(TENANT_ID), eq(TIMER_UUID), eq("ERROR"), any(Duration.class), eq(0), isNull());
   }
 
   private void stubSystemTimer(RoutingEntry re) {
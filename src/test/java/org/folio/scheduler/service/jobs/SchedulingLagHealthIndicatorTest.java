@@ -0,0 +1,43 @@
+package org.folio.scheduler.service.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.folio.scheduler.configuration.properties.TimerSchedulingConfigurationProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Status;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class SchedulingLagHealthIndicatorTest {
+
+  @Mock private SchedulingLagListener schedulingLagListener;
+
+  @Test
+  void health_positive_lagUnderThreshold() {
+    when(schedulingLagListener.getLagP99()).thenReturn(Duration.ofMillis(300));
+
+    var health = healthIndicator().health(true);
+
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails()).containsEntry("lagP99Ms", 300L).containsEntry("lagThresholdMs", 5000L);
+  }
+
+  @Test
+  void health_negative_lagOverThreshold() {
+    when(schedulingLagListener.getLagP99()).thenReturn(Duration.ofSeconds(7));
+
+    var health = healthIndicator().health(true);
+
+    assertThat(health.getStatus()).isEqualTo(SchedulingLagHealthIndicator.DEGRADED);
+  }
+
+  private SchedulingLagHealthIndicator healthIndicator() {
+    return new SchedulingLagHealthIndicator(schedulingLagListener, new TimerSchedulingConfigurationProperties());
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.scheduler.service.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class SchedulingLagListenerTest {
+
+  @Mock private Trigger trigger;
+  @Mock private JobExecutionContext context;
+  private SimpleMeterRegistry meterRegistry;
+  private SchedulingLagListener listener;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    listener = new SchedulingLagListener(meterRegistry);
+  }
+
+  @Test
+  void triggerFired_positive_lagIsRecorded() {
+    var fireTime = System.currentTimeMillis();
+    when(context.getFireTime()).thenReturn(new Date(fireTime));
+    when(context.getScheduledFireTime()).thenReturn(new Date(fireTime - 2000));
+
+    listener.triggerFired(trigger, context);
+
+    var lagTimer = meterRegistry.find(SchedulingLagListener.LAG_METRIC).timer();
+    assertThat(lagTimer).isNotNull();
+    assertThat(lagTimer.count()).isOne();
+    assertThat(lagTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+    assertThat(listener.getLagP99()).isBetween(Duration.ofMillis(1900), Duration.ofMillis(2100));
+  }
+
+  @Test
+  void triggerMisfired_positive() {
+    listener.triggerMisfired(trigger);
+
+    assertThat(meterRegistry.find(SchedulingLagListener.MISFIRES_METRIC).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void getLagP99_positive_noFires() {
+    assertThat(listener.getLagP99()).isZero();
+  }
+}
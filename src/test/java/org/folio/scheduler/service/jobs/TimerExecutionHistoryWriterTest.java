@@ -0,0 +1,185 @@
+package org.folio.scheduler.service.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.scheduler.support.TestConstants.TENANT_ID;
+import static org.folio.scheduler.support.TestConstants.TIMER_UUID;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.folio.scheduler.configuration.properties.TimerHistoryConfigurationProperties;
+import org.folio.scheduler.domain.dto.TimerType;
+import org.folio.scheduler.domain.model.TimerExecutionEntry;
+import org.folio.scheduler.repository.TimerExecutionRepository;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TimerExecutionHistoryWriterTest {
+
+  private static final String OTHER_TENANT_ID = "other";
+  private static final int HISTORY_SIZE = 5;
+
+  @Mock private TimerExecutionRepository timerExecutionRepository;
+  @Mock private FolioModuleMetadata folioModuleMetadata;
+
+  private TimerHistoryConfigurationProperties historyProperties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    historyProperties = new TimerHistoryConfigurationProperties();
+    historyProperties.setSize(HISTORY_SIZE);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void flush_positive_savesExecutionsPerTenant() {
+    when(folioModuleMetadata.getModuleName()).thenReturn("mod-scheduler");
+    var writer = newWriter();
+
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(25), 0, null);
+    writer.record(logContext(OTHER_TENANT_ID), "FAILURE", Duration.ofMillis(50), 3, 503);
+    writer.record(logContext(TENANT_ID), "FAILURE", Duration.ofMillis(75), 0, 404);
+    writer.flush();
+
+    verify(timerExecutionRepository).insertAll(argThat(entries -> entries.size() == 2
+      && entries.stream().allMatch(entry -> TENANT_ID.equals(entry.tenant()))
+      && entries.get(0).durationMs() == 25 && entries.get(0).httpStatus() == null
+      && entries.get(1).durationMs() == 75 && entries.get(1).httpStatus() == 404), eq(HISTORY_SIZE));
+    verify(timerExecutionRepository).insertAll(argThat(entries -> entries.size() == 1
+      && isFailedEntry(entries.getFirst(), OTHER_TENANT_ID)), eq(HISTORY_SIZE));
+    assertThat(meterRegistry.get(TimerExecutionHistoryWriter.QUEUE_SIZE_METRIC).gauge().value()).isZero();
+  }
+
+  @Test
+  void flush_positive_savesExecutionsInBatches() {
+    when(folioModuleMetadata.getModuleName()).thenReturn("mod-scheduler");
+    historyProperties.setBatchSize(2);
+    var writer = newWriter();
+
+    for (int i = 0; i < 3; i++) {
+      writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+    }
+    writer.flush();
+
+    verify(timerExecutionRepository).insertAll(argThat(entries -> entries.size() == 2), eq(HISTORY_SIZE));
+    verify(timerExecutionRepository).insertAll(argThat(entries -> entries.size() == 1), eq(HISTORY_SIZE));
+  }
+
+  @Test
+  void flush_positive_savesExecutionFailedBeforeModuleCall() {
+    when(folioModuleMetadata.getModuleName()).thenReturn("mod-scheduler");
+    var writer = newWriter();
+
+    writer.record(TENANT_ID, TIMER_UUID, "ERROR", Duration.ofMillis(5), 0, null);
+    writer.flush();
+
+    verify(timerExecutionRepository).insertAll(argThat(entries -> entries.size() == 1
+      && TIMER_UUID.equals(entries.getFirst().timerId()) && "ERROR".equals(entries.getFirst().outcome())
+      && entries.getFirst().httpStatus() == null), eq(HISTORY_SIZE));
+  }
+
+  @Test
+  void afterPropertiesSet_positive_flushesOnDedicatedThread() {
+    when(folioModuleMetadata.getModuleName()).thenReturn("mod-scheduler");
+    historyProperties.setFlushInterval(Duration.ofMillis(10));
+    var flushThreadName = new AtomicReference<String>();
+    doAnswer(invocation -> {
+      flushThreadName.set(Thread.currentThread().getName());
+      return null;
+    }).when(timerExecutionRepository).insertAll(anyList(), anyInt());
+    var writer = newWriter();
+
+    try {
+      writer.afterPropertiesSet();
+      writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+
+      verify(timerExecutionRepository, timeout(5000)).insertAll(anyList(), eq(HISTORY_SIZE));
+      assertThat(flushThreadName.get()).startsWith("timer-history-");
+    } finally {
+      writer.destroy();
+    }
+  }
+
+  @Test
+  void destroy_positive_savesQueuedExecutions() {
+    when(folioModuleMetadata.getModuleName()).thenReturn("mod-scheduler");
+    var writer = newWriter();
+
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+    writer.destroy();
+
+    verify(timerExecutionRepository).insertAll(argThat(entries -> entries.size() == 1), eq(HISTORY_SIZE));
+  }
+
+  @Test
+  void record_negative_queueIsFull() {
+    historyProperties.setQueueCapacity(1);
+    var writer = newWriter();
+
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+
+    verifyNoInteractions(timerExecutionRepository);
+    assertThat(meterRegistry.get(TimerExecutionHistoryWriter.DROPPED_METRIC).counter().count()).isEqualTo(1d);
+    assertThat(meterRegistry.get(TimerExecutionHistoryWriter.QUEUE_SIZE_METRIC).gauge().value()).isEqualTo(1d);
+  }
+
+  @Test
+  void record_negative_historyIsDisabled() {
+    historyProperties.setEnabled(false);
+    var writer = newWriter();
+
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+    writer.flush();
+
+    verifyNoInteractions(timerExecutionRepository);
+  }
+
+  @Test
+  void flush_negative_repositoryFailure() {
+    when(folioModuleMetadata.getModuleName()).thenReturn("mod-scheduler");
+    doThrow(new IllegalStateException("Connection refused"))
+      .when(timerExecutionRepository).insertAll(anyList(), anyInt());
+    var writer = newWriter();
+
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+    writer.record(logContext(TENANT_ID), "SUCCESS", Duration.ofMillis(10), 0, null);
+    writer.flush();
+
+    assertThat(meterRegistry.get(TimerExecutionHistoryWriter.DROPPED_METRIC).counter().count()).isEqualTo(2d);
+  }
+
+  private TimerExecutionHistoryWriter newWriter() {
+    return new TimerExecutionHistoryWriter(historyProperties, timerExecutionRepository, folioModuleMetadata,
+      meterRegistry);
+  }
+
+  private static TimerExecutionLogContext logContext(String tenant) {
+    return new TimerExecutionLogContext(TIMER_UUID.toString(), "", TimerType.SYSTEM, "mod-test", "mod-test-1.0",
+      tenant, HttpMethod.POST, "/test");
+  }
+
+  private static boolean isFailedEntry(TimerExecutionEntry entry, String tenant) {
+    return entry.tenant().equals(tenant) && entry.timerId().equals(TIMER_UUID) && entry.outcome().equals("FAILURE")
+      && entry.retries() == 3 && entry.httpStatus() == 503 && entry.startedAt() != null;
+  }
+}
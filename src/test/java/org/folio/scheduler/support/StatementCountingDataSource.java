@@ -0,0 +1,53 @@
+package org.folio.scheduler.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the statements created on connections of the target data source, so that the JPA and Quartz queries made by
+ * a piece of work can be measured together.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+  private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+  private final AtomicLong statementCount = new AtomicLong();
+
+  public StatementCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  public long getStatementCount() {
+    return statementCount.get();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return countingConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return countingConnection(super.getConnection(username, password));
+  }
+
+  private Connection countingConnection(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+      (proxy, method, args) -> {
+        if (STATEMENT_METHODS.contains(method.getName())) {
+          statementCount.incrementAndGet();
+        }
+        try {
+          return method.invoke(connection, args);
+        } catch (InvocationTargetException exception) {
+          throw exception.getTargetException();
+        }
+      });
+  }
+}
@@ -1,10 +1,14 @@
 package org.folio.scheduler.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
 import java.util.stream.Stream;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -30,6 +34,53 @@ class CronUtilsTest {
     assertThrows(NullPointerException.class, () -> CronUtils.convertToQuartz(null));
   }
 
+  @Test
+  void convertToQuartz_positive_cachedValue() {
+    var converted = CronUtils.convertToQuartz("*/10 * * * *");
+    assertSame(converted, CronUtils.convertToQuartz("*/10 * * * *"));
+  }
+
+  @ParameterizedTest(name = "[{index}] «{0}» in {1} after {2} → {3}")
+  @MethodSource("nextFireTimes")
+  void getNextFireTime_positive(String cron, String zone, String after, String expected) {
+    var result = CronUtils.getNextFireTime(cron, zone, Instant.parse(after));
+    assertEquals(Instant.parse(expected), result.orElseThrow());
+  }
+
+  @Test
+  void getNextFireTime_positive_noFutureFireTime() {
+    var result = CronUtils.getNextFireTime("0 0 12 1 1 ? 2025", "UTC", Instant.parse("2026-01-01T00:00:00Z"));
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  void getNextFireTime_positive_cachedExpression() {
+    var expression = CronUtils.getCronExpression("0 0 6 * * ?", "UTC");
+    assertSame(expression, CronUtils.getCronExpression("0 0 6 * * ?", null));
+  }
+
+  @ParameterizedTest(name = "[{index}] invalid «{0}»")
+  @MethodSource("invalidInputs")
+  void getNextFireTime_negative(String invalidExpression) {
+    var now = Instant.now();
+    assertThrows(IllegalArgumentException.class, () -> CronUtils.getNextFireTime(invalidExpression, "UTC", now));
+  }
+
+  @Test
+  void getNextFireTime_negative_invalidQuartzExpression() {
+    var now = Instant.now();
+    assertThrows(IllegalArgumentException.class, () -> CronUtils.getNextFireTime("0 0 25 * * ?", "UTC", now));
+  }
+
+  static Stream<Arguments> nextFireTimes() {
+    return Stream.of(
+      Arguments.of("*/5 * * * *", "UTC", "2025-01-01T10:02:00Z", "2025-01-01T10:05:00Z"),
+      Arguments.of("30 15 * * MON-FRI", "UTC", "2025-01-03T16:00:00Z", "2025-01-06T15:30:00Z"),
+      Arguments.of("0 0 12 * * ?", null, "2025-01-01T00:00:00Z", "2025-01-01T12:00:00Z"),
+      Arguments.of("0 0 12 * * ?", "Europe/Berlin", "2025-01-01T00:00:00Z", "2025-01-01T11:00:00Z")
+    );
+  }
+
   static Stream<Arguments> provideNull() {
     return Stream.of(Arguments.of((String) null));
   }
@@ -0,0 +1,39 @@
+package org.folio.scheduler.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.scheduler.support.TestConstants.TIMER_UUID;
+
+import org.folio.scheduler.exception.RequestValidationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class CursorUtilsTest {
+
+  @Test
+  void encodeCursor_positive_roundTrip() {
+    var cursor = CursorUtils.encodeCursor(TIMER_UUID);
+
+    assertThat(cursor).doesNotContain(TIMER_UUID.toString()).doesNotContain("=");
+    assertThat(CursorUtils.decodeCursor(cursor)).isEqualTo(TIMER_UUID);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"  "})
+  void decodeCursor_positive_blankValue(String cursor) {
+    assertThat(CursorUtils.decodeCursor(cursor)).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not a cursor", "bm90LWEtdXVpZA"})
+  void decodeCursor_negative_invalidValue(String cursor) {
+    assertThatThrownBy(() -> CursorUtils.decodeCursor(cursor))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid cursor value");
+  }
+}
@@ -1 +1,2 @@
 TRUNCATE TABLE test_mod_scheduler.timer CASCADE;
+TRUNCATE TABLE test_mod_scheduler.module_event_ledger;